@@ -0,0 +1,56 @@
+#!/usr/bin/env bash
+#
+# Compares platform threads with virtual threads on the same H2 file database.
+#
+# Start the application in one mode, run this script, then restart it in the other mode and run it again:
+#
+#   ./gradlew bootRun -PjavaVersion=21
+#   ./loadtest/compare-threading.sh platform
+#
+#   ./gradlew bootRun -PjavaVersion=21 --args='--spring.profiles.active=virtual-threads'
+#   ./loadtest/compare-threading.sh virtual
+#
+# Both runs must use Java 21 so that only the threading model differs. Each run steps up the number of
+# concurrent clients and records p99 latency and the error count per endpoint. The highest concurrency
+# without errors is the maximum number of concurrent requests the mode sustained.
+#
+# Requires hey (https://github.com/rakyll/hey).
+
+set -euo pipefail
+
+MODE="${1:?usage: $0 <platform|virtual>}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+DURATION="${DURATION:-30s}"
+CONCURRENCY_STEPS="${CONCURRENCY_STEPS:-50 100 200 400 800 1600}"
+OUT_DIR="build/reports/loadtest/${MODE}"
+
+# Blocking JPA reads that are open to anonymous users
+ENDPOINTS=(
+  "/api/match"
+  "/api/match/player-stats"
+  "/api/tournament"
+  "/api/player/ranking?offset=0&limit=100"
+)
+
+mkdir -p "${OUT_DIR}"
+SUMMARY="${OUT_DIR}/summary.csv"
+echo "endpoint,concurrency,p99_seconds,requests_per_second,non_2xx_or_errors" > "${SUMMARY}"
+
+for endpoint in "${ENDPOINTS[@]}"; do
+  name="$(echo "${endpoint}" | tr '/?=&' '____')"
+  for concurrency in ${CONCURRENCY_STEPS}; do
+    report="${OUT_DIR}/${name}_c${concurrency}.txt"
+    hey -z "${DURATION}" -c "${concurrency}" "${BASE_URL}${endpoint}" > "${report}"
+
+    p99="$(awk '/ 99% in/ {print $3}' "${report}")"
+    rps="$(awk '/Requests\/sec:/ {print $2}' "${report}")"
+    # Status lines look like "[200] 1234 responses", error lines like "[12] Get ...: dial tcp ..."
+    failed="$(awk '$1 ~ /^\[[0-9]+\]$/ {
+        if ($2 ~ /^[0-9]+$/) { if ($1 != "[200]") n += $2 }
+        else { gsub(/[\[\]]/, "", $1); n += $1 }
+      } END {print n + 0}' "${report}")"
+    echo "${endpoint},${concurrency},${p99:-NA},${rps:-NA},${failed}" >> "${SUMMARY}"
+  done
+done
+
+echo "Results written to ${SUMMARY}"
@@ -0,0 +1,77 @@
+package com.cs203.cs203system.benchmark;
+
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentFormat;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.service.impl.DoubleEliminationManagerImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures bracket advancement in {@link DoubleEliminationManagerImpl}: receiving the first and the last result of
+ * the opening round, each of which moves its players into their next matches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DoubleEliminationBenchmark {
+
+    @Param({"16", "128", "1024", "16384"})
+    private int players;
+
+    private DoubleEliminationManagerImpl doubleEliminationManager;
+    private Match firstResult;
+    private Match lastResult;
+
+    /**
+     * Starts a fresh bracket and plays every opening match but the last one,
+     * since receiving a result mutates the tournament.
+     */
+    @Setup(Level.Invocation)
+    public void setUp() {
+        Random random = new Random(players);
+        doubleEliminationManager = TournamentFixtures.doubleEliminationManager();
+
+        Tournament tournament = TournamentFixtures.tournament(TournamentFormat.DOUBLE_ELIMINATION,
+                TournamentFixtures.players(players, random));
+        tournament = doubleEliminationManager.initializeTournament(tournament);
+
+        List<Match> openingMatches = new ArrayList<>();
+        long id = 1;
+        for (Match match : tournament.getMatches()) {
+            match.setId(id++);
+            if (match.getStatus() == MatchStatus.SCHEDULED && match.getPlayer1() != null && match.getPlayer2() != null) {
+                openingMatches.add(match);
+            }
+        }
+
+        for (int i = 1; i < openingMatches.size() - 1; i++) {
+            Match match = openingMatches.get(i);
+            TournamentFixtures.completeDecisively(match, random);
+            TournamentFixtures.countResult(match);
+            doubleEliminationManager.receiveMatchResult(match);
+        }
+
+        firstResult = openingMatches.get(0);
+        lastResult = openingMatches.get(openingMatches.size() - 1);
+        TournamentFixtures.completeDecisively(firstResult, random);
+        TournamentFixtures.completeDecisively(lastResult, random);
+    }
+
+    /**
+     * Receives a result while other matches of the round are still outstanding,
+     * then the one completing the round, which schedules the matches it fills.
+     */
+    @Benchmark
+    public Tournament advanceBracket() {
+        TournamentFixtures.countResult(firstResult);
+        doubleEliminationManager.receiveMatchResult(firstResult);
+        TournamentFixtures.countResult(lastResult);
+        return doubleEliminationManager.receiveMatchResult(lastResult);
+    }
+}
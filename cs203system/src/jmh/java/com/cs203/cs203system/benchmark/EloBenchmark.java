@@ -0,0 +1,58 @@
+package com.cs203.cs203system.benchmark;
+
+import com.cs203.cs203system.enums.MatchBracket;
+import com.cs203.cs203system.enums.TournamentFormat;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.service.impl.EloServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Elo updates for a full round of results, i.e. one update per pair of players.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EloBenchmark {
+
+    @Param({"16", "128", "1024", "16384"})
+    private int players;
+
+    private EloServiceImpl eloService;
+    private List<Match> round;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(players);
+        eloService = TournamentFixtures.eloService();
+
+        List<Player> field = TournamentFixtures.players(players, random);
+        Tournament tournament = TournamentFixtures.tournament(TournamentFormat.SWISS, field);
+        round = new ArrayList<>();
+        for (int i = 1; i < field.size(); i += 2) {
+            Match match = TournamentFixtures.match(tournament, field.get(i - 1), field.get(i), MatchBracket.SWISS, 1);
+            TournamentFixtures.complete(match, random);
+            round.add(match);
+        }
+    }
+
+    @Benchmark
+    public int updateEloRatingsForRound() {
+        for (Match match : round) {
+            eloService.updateEloRatings(match.getPlayer1(), match.getPlayer2(), match);
+        }
+        return round.size();
+    }
+
+    @Benchmark
+    public int updateEloRatingsForRoundInOneBatch() {
+        eloService.updateEloRatings(round);
+        return round.size();
+    }
+}
@@ -0,0 +1,47 @@
+package com.cs203.cs203system.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Creates repository stand-ins so services can be benchmarked without a Spring context or a database.
+ * Save methods hand back their argument, lookups find nothing and everything else is a no-op.
+ */
+final class InMemoryRepositories {
+
+    private InMemoryRepositories() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T of(Class<T> repositoryType) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (name.startsWith("save")) {
+                        return args[0];
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == Optional.class) {
+                        return Optional.empty();
+                    } else if (returnType == List.class || returnType == Collection.class || returnType == Iterable.class) {
+                        return Collections.emptyList();
+                    } else if (returnType == boolean.class) {
+                        return false;
+                    } else if (returnType == long.class) {
+                        return 0L;
+                    } else if (returnType == int.class) {
+                        return 0;
+                    } else if (name.equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    } else if (name.equals("equals")) {
+                        return proxy == args[0];
+                    } else if (name.equals("toString")) {
+                        return repositoryType.getSimpleName() + "(in memory)";
+                    }
+                    return null;
+                });
+    }
+}
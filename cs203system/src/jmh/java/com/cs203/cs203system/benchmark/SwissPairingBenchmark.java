@@ -0,0 +1,77 @@
+package com.cs203.cs203system.benchmark;
+
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.service.SwissPairingEngine;
+import com.cs203.cs203system.service.impl.ScoreGroupPairingEngine;
+import com.cs203.cs203system.service.impl.SwissRoundManagerImpl;
+import com.cs203.cs203system.service.impl.SwissStandingsServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Swiss next-round generation, both through the pairing engine alone and through
+ * {@link SwissRoundManagerImpl} when the last result of a round comes in.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SwissPairingBenchmark {
+
+    @Param({"16", "128", "1024", "16384"})
+    private int players;
+
+    private final SwissPairingEngine pairingEngine = new ScoreGroupPairingEngine();
+
+    private Tournament playedTournament;
+
+    private SwissRoundManagerImpl swissRoundManager;
+    private Match lastResultOfRound;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        playedTournament = TournamentFixtures.swissTournament(players, rounds() / 2, new Random(players));
+    }
+
+    /**
+     * Rebuilds a tournament whose current round only waits for one more result,
+     * since receiving that result mutates the tournament. The result is already counted,
+     * so the tournament has no outstanding match left. The standings are built before the result comes in,
+     * so receiving it measures the incremental update rather than a rebuild from the match history.
+     */
+    @Setup(Level.Invocation)
+    public void setUpInvocation() {
+        Random random = new Random(players);
+        Tournament tournament = TournamentFixtures.swissTournament(players, rounds() / 2, random);
+        Match last = tournament.getMatches().get(tournament.getMatches().size() - 1);
+        last.setStatus(MatchStatus.SCHEDULED);
+        if (last.isDraw()) {
+            last.getPlayer1().setPoints(last.getPlayer1().getPoints() - 0.5);
+            last.getPlayer2().setPoints(last.getPlayer2().getPoints() - 0.5);
+        } else {
+            last.getWinner().setPoints(last.getWinner().getPoints() - 1.0);
+        }
+        SwissStandingsServiceImpl standingsService = TournamentFixtures.swissStandingsService(tournament);
+        TournamentFixtures.complete(last, random);
+
+        swissRoundManager = TournamentFixtures.swissRoundManager(standingsService);
+        lastResultOfRound = last;
+    }
+
+    @Benchmark
+    public SwissPairingEngine.SwissPairing pairingEngine() {
+        return pairingEngine.pairNextRound(playedTournament);
+    }
+
+    @Benchmark
+    public Tournament receiveLastResultOfRound() {
+        return swissRoundManager.receiveMatchResult(lastResultOfRound);
+    }
+
+    private int rounds() {
+        return (int) Math.ceil(Math.log(players) / Math.log(2));
+    }
+}
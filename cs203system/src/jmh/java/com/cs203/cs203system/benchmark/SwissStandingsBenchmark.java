@@ -0,0 +1,40 @@
+package com.cs203.cs203system.benchmark;
+
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.utility.SwissRoundUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures winner and top-N selection of a finished Swiss tournament.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SwissStandingsBenchmark {
+
+    @Param({"16", "128", "1024", "16384"})
+    private int players;
+
+    private Tournament tournament;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        int rounds = (int) Math.ceil(Math.log(players) / Math.log(2));
+        tournament = TournamentFixtures.swissTournament(players, rounds, new Random(players));
+    }
+
+    @Benchmark
+    public List<Player> findWinners() {
+        return SwissRoundUtils.findWinners(tournament);
+    }
+
+    @Benchmark
+    public List<Player> getTopPlayers() {
+        return SwissRoundUtils.getTopPlayers(tournament, players / 2);
+    }
+}
@@ -0,0 +1,208 @@
+package com.cs203.cs203system.benchmark;
+
+import com.cs203.cs203system.enums.MatchBracket;
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentFormat;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.EloRatingBucketRepository;
+import com.cs203.cs203system.repository.EloRecordRepository;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.repository.PlayerRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.SwissPairingEngine;
+import com.cs203.cs203system.service.TournamentFeedService;
+import com.cs203.cs203system.service.impl.*;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * In-memory tournaments and services shared by the benchmarks.
+ * Everything is built with plain constructors, so no Spring context or database is involved.
+ */
+final class TournamentFixtures {
+
+    /**
+     * Publishes nothing, so the benchmarks measure the format managers rather than STOMP.
+     */
+    static final TournamentFeedService NO_FEED = new TournamentFeedService() {
+        @Override
+        public void matchCompleted(Match match) {
+        }
+
+        @Override
+        public void roundGenerated(Tournament tournament, int round, Collection<Match> matches) {
+        }
+
+        @Override
+        public void bracketMoved(Tournament tournament, Collection<Match> matches) {
+        }
+
+        @Override
+        public void standingsChanged(Tournament tournament, Collection<Player> players) {
+        }
+
+        @Override
+        public void tournamentCompleted(Tournament tournament) {
+        }
+    };
+
+    private TournamentFixtures() {
+    }
+
+    static List<Player> players(int count, Random random) {
+        List<Player> players = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            Player player = new Player();
+            player.setId(id);
+            player.setName("Player " + id);
+            player.setEloRating(800.0 + random.nextInt(800));
+            player.setPoints(0.0);
+            players.add(player);
+        }
+        return players;
+    }
+
+    static Tournament tournament(TournamentFormat format, List<Player> players) {
+        Tournament tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setName("Benchmark");
+        tournament.setFormat(format);
+        tournament.setStatus(TournamentStatus.ONGOING);
+        tournament.setPlayers(new ArrayList<>(players));
+        tournament.setMatches(new ArrayList<>());
+        return tournament;
+    }
+
+    /**
+     * Builds a Swiss tournament in which the given number of rounds have been paired and played.
+     */
+    static Tournament swissTournament(int playerCount, int roundsPlayed, Random random) {
+        Tournament tournament = tournament(TournamentFormat.SWISS, players(playerCount, random));
+        tournament.setTotalSwissRounds((int) Math.ceil(Math.log(playerCount) / Math.log(2)));
+
+        SwissPairingEngine pairingEngine = new ScoreGroupPairingEngine();
+        for (int round = 1; round <= roundsPlayed; round++) {
+            tournament.setCurrentRoundNumber(round);
+            for (SwissPairingEngine.Pairing pairing : pairingEngine.pairNextRound(tournament).pairings()) {
+                Match match = match(tournament, pairing.player1(), pairing.player2(), MatchBracket.SWISS, round);
+                complete(match, random);
+                tournament.getMatches().add(match);
+                if (match.isDraw()) {
+                    match.getPlayer1().setPoints(match.getPlayer1().getPoints() + 0.5);
+                    match.getPlayer2().setPoints(match.getPlayer2().getPoints() + 0.5);
+                } else {
+                    match.getWinner().setPoints(match.getWinner().getPoints() + 1.0);
+                }
+            }
+        }
+        return tournament;
+    }
+
+    static Match match(Tournament tournament, Player player1, Player player2, MatchBracket bracket, int round) {
+        return Match.builder()
+                .id((long) tournament.getMatches().size() + 1)
+                .tournament(tournament)
+                .player1(player1)
+                .player2(player2)
+                .bracket(bracket)
+                .round(round)
+                .matchDate(LocalDateTime.now())
+                .status(MatchStatus.SCHEDULED)
+                .build();
+    }
+
+    /**
+     * Fills in a random decisive or drawn result and marks the match as completed.
+     */
+    static void complete(Match match, Random random) {
+        match.setPlayer1Score(random.nextInt(4));
+        match.setPlayer2Score(random.nextInt(4));
+        match.setPunchesPlayer1(random.nextInt(40));
+        match.setPunchesPlayer2(random.nextInt(40));
+        match.setDodgesPlayer1(random.nextInt(20));
+        match.setDodgesPlayer2(random.nextInt(20));
+        match.setStatus(MatchStatus.COMPLETED);
+    }
+
+    /**
+     * Fills in a random result that always has a winner.
+     */
+    static void completeDecisively(Match match, Random random) {
+        complete(match, random);
+        if (match.isDraw()) {
+            match.setPlayer1Score(match.getPlayer1Score() + 1);
+        }
+    }
+
+    /**
+     * Counts a result against the outstanding matches of its round, as {@link TournamentManagerServiceImpl#inputResult}
+     * does before handing the match to a format manager.
+     */
+    static void countResult(Match match) {
+        Tournament tournament = match.getTournament();
+        tournament.setOutstandingMatches(Math.max(tournament.getOutstandingMatches() - 1, 0));
+    }
+
+    static EloServiceImpl eloService() {
+        return new EloServiceImpl(InMemoryRepositories.of(EloRecordRepository.class),
+                new LeaderboardServiceImpl(InMemoryRepositories.of(PlayerRepository.class)),
+                new EloHistoryServiceImpl(InMemoryRepositories.of(EloRatingBucketRepository.class),
+                        InMemoryRepositories.of(EloRecordRepository.class)));
+    }
+
+    /**
+     * Creates a match repository that counts the recorded matches of the given tournament, as the database would,
+     * so cached standings are found up to date instead of being rebuilt on every read.
+     */
+    static MatchRepository matchRepository(Tournament tournament) {
+        MatchRepository stub = InMemoryRepositories.of(MatchRepository.class);
+        return (MatchRepository) Proxy.newProxyInstance(MatchRepository.class.getClassLoader(),
+                new Class<?>[]{MatchRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("countByTournamentIdAndStatusIn")
+                            && tournament.getId().equals(args[0])) {
+                        Collection<?> statuses = (Collection<?>) args[1];
+                        return tournament.getMatches().stream()
+                                .filter(match -> statuses.contains(match.getStatus()))
+                                .count();
+                    }
+                    return method.invoke(stub, args);
+                });
+    }
+
+    /**
+     * Creates standings for the given tournament, built from the results it holds now, so later results are
+     * applied incrementally as they would be in a running tournament.
+     */
+    static SwissStandingsServiceImpl swissStandingsService(Tournament tournament) {
+        SwissStandingsServiceImpl standingsService = new SwissStandingsServiceImpl(matchRepository(tournament));
+        standingsService.getTopPlayers(tournament, 1);
+        return standingsService;
+    }
+
+    static SwissRoundManagerImpl swissRoundManager(SwissStandingsServiceImpl standingsService) {
+        return new SwissRoundManagerImpl(
+                InMemoryRepositories.of(TournamentRepository.class),
+                InMemoryRepositories.of(PlayerRepository.class),
+                InMemoryRepositories.of(MatchRepository.class),
+                eloService(),
+                standingsService,
+                new ScoreGroupPairingEngine(),
+                NO_FEED);
+    }
+
+    static DoubleEliminationManagerImpl doubleEliminationManager() {
+        return new DoubleEliminationManagerImpl(
+                InMemoryRepositories.of(TournamentRepository.class),
+                eloService(),
+                NO_FEED);
+    }
+}
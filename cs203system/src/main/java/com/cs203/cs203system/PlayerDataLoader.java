@@ -42,7 +42,7 @@ public class PlayerDataLoader implements CommandLineRunner {
             playerRepository.save(player);
         }
 
-        if (!userRepository.existsUserByUsernameIgnoreCase("admin")) {
+        if (!userRepository.existsByUsernameLower("admin")) {
             Admin admin = new Admin();
             String password = "admin";
             admin.setUsername("admin");
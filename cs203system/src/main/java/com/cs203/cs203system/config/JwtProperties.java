@@ -0,0 +1,33 @@
+package com.cs203.cs203system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the JWTs issued at login and of the cache of verified tokens, bound from {@code security.jwt.*}.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "security.jwt")
+public class JwtProperties {
+
+    /**
+     * How long an issued token stays valid.
+     */
+    private long expirySeconds = 3600;
+
+    /**
+     * The maximum number of verified tokens kept, so that repeated requests with the same token skip the
+     * signature check.
+     */
+    private int cacheSize = 10_000;
+
+    /**
+     * The longest a verified token is kept, even if it expires later. Tokens issued without an expiry
+     * are kept this long.
+     */
+    private long cacheTtlSeconds = 300;
+}
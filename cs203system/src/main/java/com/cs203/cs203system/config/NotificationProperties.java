@@ -0,0 +1,38 @@
+package com.cs203.cs203system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the WebSocket notification dispatcher, bound from {@code notification.dispatch.*}.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "notification.dispatch")
+public class NotificationProperties {
+
+    /**
+     * The number of dispatcher threads. Each user is always served by the same thread, so a user receives
+     * their notifications in the order they were sent.
+     */
+    private int threads = 2;
+
+    /**
+     * The number of broadcasts each dispatcher thread can have waiting.
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * The maximum number of waiting broadcasts a dispatcher thread takes at once. A user appearing in several
+     * broadcasts of the same batch with the same payload receives it once.
+     */
+    private int maxBatchSize = 64;
+
+    /**
+     * How long a sender waits for room in a full queue before the notification is dropped.
+     */
+    private long offerTimeoutMs = 50;
+}
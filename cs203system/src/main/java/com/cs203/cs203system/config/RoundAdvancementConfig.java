@@ -0,0 +1,36 @@
+package com.cs203.cs203system.config;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuration of the worker threads advancing tournament rounds in the background.
+ */
+@Configuration
+public class RoundAdvancementConfig {
+
+    /**
+     * A bounded pool, so a burst of completed rounds cannot take more than a few database connections
+     * away from the request threads. The pool stays bounded when virtual threads are enabled, only its
+     * threads become virtual.
+     *
+     * @param properties the round advancement settings
+     * @param environment the environment telling whether virtual threads are enabled
+     * @return the executor running round advancements
+     */
+    @Bean(name = "roundAdvancementExecutor")
+    public ThreadPoolTaskExecutor roundAdvancementExecutor(RoundAdvancementProperties properties, Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getPoolSize());
+        executor.setMaxPoolSize(properties.getPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("round-advancement-");
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
@@ -0,0 +1,43 @@
+package com.cs203.cs203system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the background round advancement, bound from {@code tournament.round-advancement.*}.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "tournament.round-advancement")
+public class RoundAdvancementProperties {
+
+    /**
+     * Whether rounds are advanced in the background. When false, the result that completes a round
+     * also advances it before the request returns.
+     */
+    private boolean async = true;
+
+    /**
+     * The number of worker threads advancing rounds.
+     */
+    private int poolSize = 2;
+
+    /**
+     * The number of advancements that can wait for a worker. When the queue is full, the task stays in the
+     * outbox until the next poll.
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * How often the outbox is polled for tasks that were never handed to a worker or that failed.
+     */
+    private long pollIntervalMs = 5000;
+
+    /**
+     * The number of failed attempts after which a task is left for manual inspection.
+     */
+    private int maxAttempts = 5;
+}
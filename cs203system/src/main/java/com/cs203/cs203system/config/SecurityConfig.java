@@ -1,5 +1,7 @@
 package com.cs203.cs203system.config;
 
+import com.cs203.cs203system.utility.CachingJwtDecoder;
+import com.cs203.cs203system.utility.TtlUserCache;
 import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.JWKSet;
 import com.nimbusds.jose.jwk.RSAKey;
@@ -36,6 +38,8 @@ import org.springframework.security.web.firewall.HttpFirewall;
 import org.springframework.security.web.firewall.StrictHttpFirewall;
 import org.springframework.security.web.firewall.DefaultHttpFirewall;
 
+import java.time.Duration;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 /**
@@ -47,13 +51,21 @@ public class SecurityConfig {
 
     private final RSAKeyProperties keys;
 
+    private final JwtProperties jwtProperties;
+
+    private final UserCacheProperties userCacheProperties;
+
     /**
      * Constructor that accepts RSA key properties.
      *
-     * @param keys The {@link RSAKeyProperties} used to retrieve public and private RSA keys.
+     * @param keys                The {@link RSAKeyProperties} used to retrieve public and private RSA keys.
+     * @param jwtProperties       The {@link JwtProperties} sizing the cache of verified tokens.
+     * @param userCacheProperties The {@link UserCacheProperties} sizing the cache of users loaded at login.
      */
-    public SecurityConfig(RSAKeyProperties keys) {
+    public SecurityConfig(RSAKeyProperties keys, JwtProperties jwtProperties, UserCacheProperties userCacheProperties) {
         this.keys = keys;
+        this.jwtProperties = jwtProperties;
+        this.userCacheProperties = userCacheProperties;
     }
 
     /**
@@ -95,6 +107,7 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.GET, "/api/player/**").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/match/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/match/**").hasAnyRole("ADMIN")
+                        .requestMatchers(HttpMethod.POST, "/api/elo-records/replay").hasAnyRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/auth/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/auth/**").permitAll()
                         .requestMatchers("/socket.io/**").permitAll()
@@ -112,18 +125,32 @@ public class SecurityConfig {
 
     /**
      * Creates and returns an {@link AuthenticationManager} for managing authentication.
+     * Users are looked up through the user cache first; on a wrong password a cached user is read again,
+     * in case the password changed.
      *
      * @param detailsService The {@link UserDetailsService} for loading user-specific data.
+     * @param userCache      The {@link TtlUserCache} in front of the {@link UserDetailsService}.
      * @return The configured {@link AuthenticationManager}.
      */
     @Bean
-    public AuthenticationManager authenticationManager(UserDetailsService detailsService) {
+    public AuthenticationManager authenticationManager(UserDetailsService detailsService, TtlUserCache userCache) {
         DaoAuthenticationProvider daoProvider = new DaoAuthenticationProvider();
         daoProvider.setUserDetailsService(detailsService);
         daoProvider.setPasswordEncoder(passwordEncoder());
+        daoProvider.setUserCache(userCache);
         return new ProviderManager(daoProvider);
     }
 
+    /**
+     * Creates and returns the cache of users loaded at login, so repeated logins skip the user lookup.
+     *
+     * @return The {@link TtlUserCache} sized by the {@link UserCacheProperties}.
+     */
+    @Bean
+    public TtlUserCache userCache() {
+        return new TtlUserCache(userCacheProperties.getSize(), Duration.ofSeconds(userCacheProperties.getTtlSeconds()));
+    }
+
     /**
      * Configures a {@link PasswordEncoder} for encoding passwords.
      *
@@ -136,12 +163,15 @@ public class SecurityConfig {
 
     /**
      * Creates and returns a {@link JwtDecoder} to decode JWT tokens.
+     * Tokens are verified against the RSA public key once, and then served from a cache until they expire,
+     * so repeated requests with the same token skip the signature check.
      *
-     * @return The {@link NimbusJwtDecoder} configured with the RSA public key.
+     * @return The {@link CachingJwtDecoder} wrapping a {@link NimbusJwtDecoder} configured with the RSA public key.
      */
     @Bean
     public JwtDecoder jwtDecoder() {
-        return NimbusJwtDecoder.withPublicKey(keys.getPublicKey()).build();
+        return new CachingJwtDecoder(NimbusJwtDecoder.withPublicKey(keys.getPublicKey()).build(),
+                jwtProperties.getCacheSize(), Duration.ofSeconds(jwtProperties.getCacheTtlSeconds()));
     }
 
     /**
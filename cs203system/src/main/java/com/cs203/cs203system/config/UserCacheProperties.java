@@ -0,0 +1,27 @@
+package com.cs203.cs203system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the cache of users loaded at login, bound from {@code security.user-cache.*}.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "security.user-cache")
+public class UserCacheProperties {
+
+    /**
+     * The maximum number of users kept.
+     */
+    private int size = 1000;
+
+    /**
+     * How long a user is kept before being read from the database again. Updates through the user and player
+     * services remove the user straight away.
+     */
+    private long ttlSeconds = 60;
+}
@@ -10,6 +10,7 @@
     import org.springframework.messaging.converter.MessageConverter;
     import org.springframework.messaging.handler.invocation.HandlerMethodArgumentResolver;
     import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+    import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
     import org.springframework.security.messaging.context.AuthenticationPrincipalArgumentResolver;
     import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
     import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -30,17 +31,42 @@
     @RequiredArgsConstructor
     public class WebSocket implements WebSocketMessageBrokerConfigurer {
 
+        private static final String[] BROKER_DESTINATION_PREFIXES = {"/user", "/topic"};
+
+        private final WebSocketBrokerProperties brokerProperties;
+
         /**
          * Configures the message broker options.
          *
-         * This sets up a simple message broker with a user-specific destination prefix
-         * and an application destination prefix for routing messages.
+         * This sets up a message broker with a user-specific destination prefix, a topic prefix for
+         * tournament-wide updates, and an application destination prefix for routing messages.
+         *
+         * By default the broker is in memory. In relay mode, subscriptions and messages go through an external
+         * STOMP broker shared by all instances, so a message sent by any instance reaches the clients of all of them.
+         * The instances also share their connected users over the broker, so user destinations resolve to sessions
+         * held by another instance. The external broker must accept the {@code /user} and {@code /topic} prefixes
+         * as destinations, as ActiveMQ Artemis does.
          *
          * @param registry the {@link MessageBrokerRegistry} to configure
          */
         @Override
         public void configureMessageBroker(MessageBrokerRegistry registry) {
-            registry.enableSimpleBroker("/user");
+            if (brokerProperties.isRelay()) {
+                StompBrokerRelayRegistration relay = registry.enableStompBrokerRelay(BROKER_DESTINATION_PREFIXES)
+                        .setRelayHost(brokerProperties.getRelayHost())
+                        .setRelayPort(brokerProperties.getRelayPort())
+                        .setClientLogin(brokerProperties.getClientLogin())
+                        .setClientPasscode(brokerProperties.getClientPasscode())
+                        .setSystemLogin(brokerProperties.getSystemLogin())
+                        .setSystemPasscode(brokerProperties.getSystemPasscode())
+                        .setUserRegistryBroadcast(brokerProperties.getUserRegistryBroadcast())
+                        .setUserDestinationBroadcast(brokerProperties.getUserDestinationBroadcast());
+                if (brokerProperties.getVirtualHost() != null) {
+                    relay.setVirtualHost(brokerProperties.getVirtualHost());
+                }
+            } else {
+                registry.enableSimpleBroker(BROKER_DESTINATION_PREFIXES);
+            }
             registry.setApplicationDestinationPrefixes("/app");
             registry.setUserDestinationPrefix("/user");
         }
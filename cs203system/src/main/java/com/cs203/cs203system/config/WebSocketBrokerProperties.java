@@ -0,0 +1,62 @@
+package com.cs203.cs203system.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings of the STOMP message broker, bound from {@code websocket.broker.*}.
+ * By default subscriptions are kept by an in-memory broker, which only reaches the clients connected to this
+ * instance. With {@link #relay} enabled, they are kept by an external STOMP broker shared by every instance.
+ */
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "websocket.broker")
+public class WebSocketBrokerProperties {
+
+    /**
+     * Whether to relay messages to an external STOMP broker instead of the in-memory broker.
+     * Needed whenever more than one instance runs behind a load balancer.
+     */
+    private boolean relay = false;
+
+    /**
+     * The host of the external broker.
+     */
+    private String relayHost = "localhost";
+
+    /**
+     * The STOMP port of the external broker.
+     */
+    private int relayPort = 61613;
+
+    /**
+     * The virtual host to connect to, if the broker uses them.
+     */
+    private String virtualHost;
+
+    /**
+     * The credentials used for the connection of each client.
+     */
+    private String clientLogin = "guest";
+    private String clientPasscode = "guest";
+
+    /**
+     * The credentials of the shared connection this instance sends its own messages on.
+     */
+    private String systemLogin = "guest";
+    private String systemPasscode = "guest";
+
+    /**
+     * The topic on which the instances share the users connected to each of them, so that every instance can
+     * tell where a user destination should be delivered.
+     */
+    private String userRegistryBroadcast = "/topic/cs203.user-registry";
+
+    /**
+     * The topic on which messages for a user with no session on this instance are passed on to the others.
+     */
+    private String userDestinationBroadcast = "/topic/cs203.unresolved-user";
+}
@@ -1,19 +1,30 @@
 package com.cs203.cs203system.controller;
 
+import com.cs203.cs203system.dtos.EloHistoryPointDto;
 import com.cs203.cs203system.dtos.EloRecordResponseDto;
+import com.cs203.cs203system.dtos.EloReplayReportDto;
+import com.cs203.cs203system.dtos.KeysetPage;
+import com.cs203.cs203system.enums.EloHistoryResolution;
 import com.cs203.cs203system.model.EloRecord;
 import com.cs203.cs203system.dtos.EloRecordResponseMapper;
+import com.cs203.cs203system.service.EloHistoryService;
 import com.cs203.cs203system.service.EloRecordService;
+import com.cs203.cs203system.service.EloReplayService;
+import com.cs203.cs203system.utility.NdjsonResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,31 +37,77 @@ import java.util.stream.Collectors;
 public class EloRecordController {
     private final EloRecordService eloRecordService;
     private final EloRecordResponseMapper eloRecordResponseMapper;
+    private final ObjectMapper objectMapper;
+    private final EloHistoryService eloHistoryService;
+    private final EloReplayService eloReplayService;
 
     /**
      * Constructs an EloRecordController with the required service.
      *
      * @param eloRecordService the service for EloRecord operations
+     * @param eloRecordResponseMapper the mapper converting Elo records to DTOs
+     * @param objectMapper the mapper writing the lines of the Elo record export
+     * @param eloHistoryService the service reading the players' downsampled rating history
+     * @param eloReplayService the service recomputing the ratings from the match history
      */
     @Autowired
     public EloRecordController(EloRecordService eloRecordService,
-                               EloRecordResponseMapper eloRecordResponseMapper) {
+                               EloRecordResponseMapper eloRecordResponseMapper,
+                               ObjectMapper objectMapper,
+                               EloHistoryService eloHistoryService,
+                               EloReplayService eloReplayService) {
         this.eloRecordService = eloRecordService;
         this.eloRecordResponseMapper = eloRecordResponseMapper;
+        this.objectMapper = objectMapper;
+        this.eloHistoryService = eloHistoryService;
+        this.eloReplayService = eloReplayService;
     }
 
     /**
      * Retrieves all Elo Records.
      *
-     * @return ResponseEntity containing a list of EloRecords and an HTTP status of OK.
+     * @return ResponseEntity containing a list of EloRecordResponseDtos and an HTTP status of OK.
      */
     @Operation(summary = "Get all Elo Records", description = "Retrieves a list of all Elo Records.")
     @ApiResponse(responseCode = "200", description = "List of Elo Records retrieved successfully",
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = EloRecord.class)))
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = EloRecordResponseDto.class)))
     @GetMapping
-    public ResponseEntity<List<EloRecord>> getAllEloRecords() {
+    public ResponseEntity<List<EloRecordResponseDto>> getAllEloRecords() {
         List<EloRecord> eloRecords = eloRecordService.findAllEloRecords();
-        return new ResponseEntity<>(eloRecords, HttpStatus.OK);
+        return new ResponseEntity<>(eloRecords
+                .stream()
+                .map(eloRecordResponseMapper::toDto)
+                .collect(Collectors.toList()), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves a page of Elo Records in id order.
+     *
+     * @param after the nextCursor of the previous page, omitted for the first page
+     * @param limit the maximum number of records in the page, at most 500
+     * @return ResponseEntity containing the page of EloRecordResponseDtos and an HTTP status of OK.
+     */
+    @Operation(summary = "Get a page of Elo Records", description = "Retrieves Elo Records in id order, starting after the given cursor.")
+    @ApiResponse(responseCode = "200", description = "Page of Elo Records retrieved successfully")
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<EloRecordResponseDto>> getEloRecordsPage(@RequestParam(required = false) Long after,
+                                                                             @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_LIMIT) int limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        List<EloRecordResponseDto> eloRecords = eloRecordService.findEloRecordsAfter(KeysetPage.afterId(after), pageSize);
+        return new ResponseEntity<>(KeysetPage.of(eloRecords, pageSize, EloRecordResponseDto::getId), HttpStatus.OK);
+    }
+
+    /**
+     * Streams every Elo Record as newline-delimited JSON, one EloRecordResponseDto per line.
+     *
+     * @return ResponseEntity writing the records as they are read from the database.
+     */
+    @Operation(summary = "Export all Elo Records", description = "Streams all Elo Records as newline-delimited JSON.")
+    @ApiResponse(responseCode = "200", description = "Elo Records streamed successfully",
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = EloRecordResponseDto.class)))
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportEloRecords() {
+        return NdjsonResponses.of(objectMapper, eloRecordService::exportEloRecords);
     }
 
     /**
@@ -100,6 +157,45 @@ public class EloRecordController {
                 .collect(Collectors.toList()), HttpStatus.OK);
     }
 
+    /**
+     * Retrieves a player's rating history summarised into daily or weekly points, for charts.
+     *
+     * @param playerId the ID of the player
+     * @param from the first day of the range, omitted for the start of the player's history
+     * @param to the last day of the range, omitted for today
+     * @param resolution DAILY or WEEKLY, omitted to use the finest one that fits in maxPoints
+     * @param maxPoints the maximum number of points returned, at most 1000
+     * @return ResponseEntity containing the points of the history, oldest first, and an HTTP status of OK.
+     */
+    @Operation(summary = "Get a player's rating history", description = "Retrieves a player's Elo rating history " +
+            "as open, min, max and close ratings per period, with at most maxPoints points.")
+    @ApiResponse(responseCode = "200", description = "Rating history retrieved successfully")
+    @GetMapping("/player/{playerId}/history")
+    public ResponseEntity<List<EloHistoryPointDto>> getRatingHistory(
+            @PathVariable Long playerId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) EloHistoryResolution resolution,
+            @RequestParam(defaultValue = "200") int maxPoints) {
+        return new ResponseEntity<>(eloHistoryService.getHistory(playerId, from, to, resolution,
+                Math.min(maxPoints, 1000)), HttpStatus.OK);
+    }
+
+    /**
+     * Recomputes every player's Elo rating by replaying all completed matches in the order they were played.
+     *
+     * @param dryRun true, the default, to only report how the replayed ratings differ from the current ones;
+     *               false to replace the ratings and the Elo records of the matches
+     * @return ResponseEntity containing the report of the replay and an HTTP status of OK.
+     */
+    @Operation(summary = "Replay all matches", description = "Recomputes the Elo ratings from the match history. " +
+            "A dry run only reports the differences; otherwise no tournament may be ongoing.")
+    @ApiResponse(responseCode = "200", description = "Matches replayed successfully")
+    @PostMapping("/replay")
+    public ResponseEntity<EloReplayReportDto> replay(@RequestParam(defaultValue = "true") boolean dryRun) {
+        return new ResponseEntity<>(eloReplayService.replay(dryRun), HttpStatus.OK);
+    }
+
     /**
      * Creates a new Elo Record.
      *
@@ -4,6 +4,8 @@ import com.cs203.cs203system.dtos.*;
 import com.cs203.cs203system.dtos.players.PlayerStatsDTO;
 import com.cs203.cs203system.service.MatchService;
 import com.cs203.cs203system.service.PlayerStatsService;
+import com.cs203.cs203system.utility.NdjsonResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +16,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -33,23 +36,27 @@ public class MatchController {
     private final PlayerStatsService playerStatsService;
     private final InputMatchDTOMapper inputMatchDTOMapper;
     private final MatchUpdateDTOMapper matchUpdateDTOMapper;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructor for MatchController.
      *
      * @param matchService           Service layer for handling match operations.
      * @param matchResponseDTOMapper Mapper to convert Match entities to MatchResponseDTO.
+     * @param objectMapper           Mapper writing the lines of the match export.
      */
     @Autowired
     public MatchController(MatchService matchService,
                            MatchResponseDTOMapper matchResponseDTOMapper, PlayerStatsService playerStatsService,
                            InputMatchDTOMapper inputMatchDTOMapper,
-                           MatchUpdateDTOMapper matchUpdateDTOMapper) {
+                           MatchUpdateDTOMapper matchUpdateDTOMapper,
+                           ObjectMapper objectMapper) {
         this.matchService = matchService;
         this.matchResponseDTOMapper = matchResponseDTOMapper;
         this.playerStatsService = playerStatsService;
         this.inputMatchDTOMapper = inputMatchDTOMapper;
         this.matchUpdateDTOMapper = matchUpdateDTOMapper;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -69,6 +76,41 @@ public class MatchController {
                 .collect(Collectors.toList()), HttpStatus.OK);
     }
 
+    /**
+     * Fetch a page of matches in id order.
+     *
+     * @param after The nextCursor of the previous page, omitted for the first page.
+     * @param limit The maximum number of matches in the page, at most 500.
+     * @return ResponseEntity containing the page of MatchResponseDTOs and an HTTP status of OK.
+     */
+    @Operation(summary = "Find a page of matches", description = "Retrieve matches in id order, starting after the given cursor.")
+    @ApiResponse(responseCode = "200", description = "Page of matches retrieved successfully")
+    @GetMapping("/page")
+    public ResponseEntity<KeysetPage<MatchResponseDTO>> findMatchesPage(@RequestParam(required = false) Long after,
+                                                                        @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_LIMIT) int limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        List<MatchResponseDTO> matches = matchService
+                .findMatchesAfter(KeysetPage.afterId(after), pageSize)
+                .stream()
+                .map(matchResponseDTOMapper::toDto)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(KeysetPage.of(matches, pageSize, MatchResponseDTO::getId), HttpStatus.OK);
+    }
+
+    /**
+     * Stream every match as newline-delimited JSON, one MatchResponseDTO per line.
+     *
+     * @return ResponseEntity writing the matches as they are read from the database.
+     */
+    @Operation(summary = "Export all matches", description = "Stream all matches as newline-delimited JSON.")
+    @ApiResponse(responseCode = "200", description = "Matches streamed successfully",
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = MatchResponseDTO.class)))
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportMatches() {
+        return NdjsonResponses.<MatchResponseDTO>of(objectMapper, sink ->
+                matchService.exportMatches(match -> sink.accept(matchResponseDTOMapper.toDto(match))));
+    }
+
     /**
      * Fetch a match by its ID.
      *
@@ -120,6 +162,43 @@ public class MatchController {
                 .collect(Collectors.toList()), HttpStatus.OK);
     }
 
+    /**
+     * Retrieves the matches of a single round of a tournament.
+     *
+     * @param id    the ID of the tournament
+     * @param round the round number
+     * @return a {@link ResponseEntity} containing the matches of the round and an HTTP 200 OK status
+     */
+    @Operation(summary = "Find the matches of a tournament round", description = "Retrieve the matches of a single round of a tournament.")
+    @ApiResponse(responseCode = "200", description = "Matches retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchResponseDTO.class)))
+    @GetMapping("/tournament/{id}/round/{round}")
+    public ResponseEntity<List<MatchResponseDTO>> findTournamentRoundMatches(@PathVariable Long id, @PathVariable Integer round) {
+        return new ResponseEntity<>(matchService
+                .findMatchesByTournamentIdAndRound(id, round)
+                .stream()
+                .map(matchResponseDTOMapper::toDto)
+                .collect(Collectors.toList()), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the matches of a tournament that still await a result.
+     *
+     * @param id the ID of the tournament
+     * @return a {@link ResponseEntity} containing the open matches and an HTTP 200 OK status
+     */
+    @Operation(summary = "Find the open matches of a tournament", description = "Retrieve the matches of a tournament that still await a result.")
+    @ApiResponse(responseCode = "200", description = "Matches retrieved successfully",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = MatchResponseDTO.class)))
+    @GetMapping("/tournament/{id}/open")
+    public ResponseEntity<List<MatchResponseDTO>> findOpenTournamentMatches(@PathVariable Long id) {
+        return new ResponseEntity<>(matchService
+                .findOpenMatchesByTournamentId(id)
+                .stream()
+                .map(matchResponseDTOMapper::toDto)
+                .collect(Collectors.toList()), HttpStatus.OK);
+    }
+
     /**
      * Update the statistics of a match.
      *
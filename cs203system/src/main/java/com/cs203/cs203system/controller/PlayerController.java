@@ -1,7 +1,9 @@
 package com.cs203.cs203system.controller;
 
 import com.cs203.cs203system.dtos.players.PlayerWithOutStatsDto;
+import com.cs203.cs203system.dtos.players.RankedPlayerDto;
 import com.cs203.cs203system.exceptions.NotFoundException;
+import com.cs203.cs203system.service.LeaderboardService;
 import com.cs203.cs203system.service.PlayerService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -21,15 +23,18 @@ import java.util.List;
 public class PlayerController {
 
     private final PlayerService playerService;
+    private final LeaderboardService leaderboardService;
 
     /**
-     * Constructs a PlayerController with the necessary dependency.
+     * Constructs a PlayerController with the necessary dependencies.
      *
      * @param playerService the service for handling player-related operations
+     * @param leaderboardService the service for serving the Elo leaderboard
      */
     @Autowired
-    public PlayerController(PlayerService playerService) {
+    public PlayerController(PlayerService playerService, LeaderboardService leaderboardService) {
         this.playerService = playerService;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
@@ -57,14 +62,49 @@ public class PlayerController {
     }
 
     /**
-     * Retrieves a ranking of all players sorted by their Elo rating.
+     * Retrieves the player ranking, sorted by Elo rating. The whole ranking is returned unless a limit is given.
      *
-     * @return a {@link ResponseEntity} containing a list of {@link PlayerWithOutStatsDto} objects
+     * @param offset the number of best ranked players to skip
+     * @param limit the maximum number of players to return, or absent for every remaining player
+     * @return a {@link ResponseEntity} containing a list of {@link RankedPlayerDto} objects
      *         representing players ordered by Elo rating and an HTTP 200 OK status
      */
     @GetMapping("/ranking")
-    public ResponseEntity<List<PlayerWithOutStatsDto>> getPlayerRanking() {
-        return new ResponseEntity<>(playerService.findAllPlayersOrderByEloRating(), HttpStatus.OK);
+    public ResponseEntity<List<RankedPlayerDto>> getPlayerRanking(@RequestParam(defaultValue = "0") int offset,
+                                                                  @RequestParam(required = false) Integer limit) {
+        int count = limit != null ? limit : Integer.MAX_VALUE;
+        return new ResponseEntity<>(leaderboardService.getRanking(offset, count), HttpStatus.OK);
+    }
+
+    /**
+     * Retrieves the rank of a specific player.
+     *
+     * @param playerId the ID of the player
+     * @return a {@link ResponseEntity} containing the {@link RankedPlayerDto} of the player and an HTTP 200 OK status
+     * @throws NotFoundException if the player is not ranked
+     */
+    @GetMapping("/ranking/{playerId}")
+    public ResponseEntity<RankedPlayerDto> getPlayerRank(@PathVariable Long playerId) {
+        return new ResponseEntity<>(leaderboardService.getRank(playerId)
+                .orElseThrow(() -> new NotFoundException("Player with id " + playerId + " is not ranked")), HttpStatus.OK);
     }
-}
 
+    /**
+     * Retrieves the players ranked around a specific player.
+     *
+     * @param playerId the ID of the player
+     * @param radius the number of places to include above and below the player
+     * @return a {@link ResponseEntity} containing a list of {@link RankedPlayerDto} objects, best ranked first,
+     *         and an HTTP 200 OK status
+     * @throws NotFoundException if the player is not ranked
+     */
+    @GetMapping("/ranking/{playerId}/around")
+    public ResponseEntity<List<RankedPlayerDto>> getPlayersAround(@PathVariable Long playerId,
+                                                                  @RequestParam(defaultValue = "5") int radius) {
+        List<RankedPlayerDto> players = leaderboardService.getPlayersAround(playerId, radius);
+        if (players.isEmpty()) {
+            throw new NotFoundException("Player with id " + playerId + " is not ranked");
+        }
+        return new ResponseEntity<>(players, HttpStatus.OK);
+    }
+}
@@ -3,6 +3,7 @@ package com.cs203.cs203system.controller;
 import com.cs203.cs203system.dtos.*;
 import com.cs203.cs203system.dtos.players.PlayerResponseDTOMapper;
 import com.cs203.cs203system.exceptions.NotFoundException;
+import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Tournament;
 import com.cs203.cs203system.service.TournamentManagerService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -17,7 +18,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Controller for managing tournaments.
@@ -54,21 +54,17 @@ public class TournamentController {
     }
 
     /**
-     * Retrieves a list of all tournaments.
+     * Retrieves a summary of all tournaments.
+     * Players and matches are only counted; use {@link #findTournamentById(Long)} for the full details.
      *
-     * @return ResponseEntity containing the list of TournamentResponseDTOs
+     * @return ResponseEntity containing the list of TournamentSummaryDTOs
      */
-    @Operation(summary = "Find all tournaments", description = "Retrieve a list of all tournaments.")
+    @Operation(summary = "Find all tournaments", description = "Retrieve a summary of all tournaments.")
     @ApiResponse(responseCode = "200", description = "List of tournaments retrieved successfully",
-            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TournamentResponseDTO.class)))
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = TournamentSummaryDTO.class)))
     @GetMapping
-    public ResponseEntity<List<TournamentResponseDTO>> findAllTournaments() {
-        List<TournamentResponseDTO> tournamentResponseDTOList =
-                tournamentManagerService.findAllTournaments()
-                        .stream()
-                        .map(tournamentResponseDTOMapper::toDto)
-                        .collect(Collectors.toList());
-        return new ResponseEntity<>(tournamentResponseDTOList, HttpStatus.OK);
+    public ResponseEntity<List<TournamentSummaryDTO>> findAllTournaments() {
+        return new ResponseEntity<>(tournamentManagerService.findAllTournamentSummaries(), HttpStatus.OK);
     }
 
     /**
@@ -191,6 +187,33 @@ public class TournamentController {
                         .inputResult(inputMatchDTOMapper.toEntity(matchDTO))), HttpStatus.ACCEPTED);
     }
 
+    /**
+     * Updates the results of many matches of a tournament at once, typically a whole round.
+     * Each result is validated on its own; the report lists which ones were accepted and why others were rejected.
+     *
+     * @param tournamentId the ID of the tournament the matches belong to
+     * @param batchInputMatchDTO the request data containing the match results
+     * @return ResponseEntity containing the BatchMatchResultDTO report
+     */
+    @Operation(summary = "Update match results in bulk", description = "Update results of many matches of a tournament in a single transaction.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Match results processed, see the report for rejected results",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchMatchResultDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid match data",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Tournament not found",
+                    content = @Content)
+    })
+    @PutMapping("/{tournamentId}/matches")
+    public ResponseEntity<BatchMatchResultDTO> updateMatchResultsInBulk(@PathVariable Long tournamentId,
+                                                                       @RequestBody @Valid BatchInputMatchDTO batchInputMatchDTO) {
+        List<Match> matches = batchInputMatchDTO.getResults()
+                .stream()
+                .map(inputMatchDTOMapper::toEntity)
+                .toList();
+        return new ResponseEntity<>(tournamentManagerService.inputResults(tournamentId, matches), HttpStatus.ACCEPTED);
+    }
+
     /**
      * Deletes an existing tournament by its ID. Only tournaments in the scheduled state can be deleted.
      *
@@ -1,11 +1,16 @@
 package com.cs203.cs203system.controller;
 
+import com.cs203.cs203system.dtos.KeysetPage;
 import com.cs203.cs203system.dtos.UserResponseDto;
 import com.cs203.cs203system.dtos.players.UserResponseMapper;
 import com.cs203.cs203system.exceptions.NotFoundException;
 import com.cs203.cs203system.service.impl.UserService;
+import com.cs203.cs203system.utility.NdjsonResponses;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -21,18 +26,22 @@ import java.util.stream.Collectors;
 public class UserController {
     private final UserService userService;
     private final UserResponseMapper userResponseMapper;
+    private final ObjectMapper objectMapper;
 
     /**
      * Constructs a UserController with the necessary dependencies.
      *
      * @param userService the service for handling user-related operations
      * @param userResponseMapper the mapper for converting user entities to DTOs
+     * @param objectMapper the mapper writing the lines of the user export
      */
     @Autowired
     public UserController(UserService userService,
-                          UserResponseMapper userResponseMapper) {
+                          UserResponseMapper userResponseMapper,
+                          ObjectMapper objectMapper) {
         this.userService = userService;
         this.userResponseMapper = userResponseMapper;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -51,6 +60,30 @@ public class UserController {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves a page of users in id order.
+     *
+     * @param after the nextCursor of the previous page, omitted for the first page
+     * @param limit the maximum number of users in the page, at most 500
+     * @return the page of {@link UserResponseDto} objects
+     */
+    @GetMapping("/page")
+    public KeysetPage<UserResponseDto> getUsersPage(@RequestParam(required = false) Long after,
+                                                   @RequestParam(defaultValue = "" + KeysetPage.DEFAULT_LIMIT) int limit) {
+        int pageSize = KeysetPage.clampLimit(limit);
+        return KeysetPage.of(userService.getUsersAfter(KeysetPage.afterId(after), pageSize), pageSize, UserResponseDto::getId);
+    }
+
+    /**
+     * Streams every user as newline-delimited JSON, one {@link UserResponseDto} per line.
+     *
+     * @return a response writing the users as they are read from the database
+     */
+    @GetMapping(value = "/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        return NdjsonResponses.of(objectMapper, userService::exportUsers);
+    }
+
     /**
      * Retrieves details of a specific user by their ID.
      *
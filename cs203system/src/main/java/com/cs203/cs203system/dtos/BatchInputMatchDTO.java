@@ -0,0 +1,18 @@
+package com.cs203.cs203system.dtos;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * DTO for submitting the results of many {@link com.cs203.cs203system.model.Match}es of one tournament at once.
+ */
+@Value
+public class BatchInputMatchDTO implements Serializable {
+    @NotEmpty
+    @Valid
+    List<InputMatchDTO> results;
+}
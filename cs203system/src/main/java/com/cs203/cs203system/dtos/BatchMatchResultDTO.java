@@ -0,0 +1,32 @@
+package com.cs203.cs203system.dtos;
+
+import com.cs203.cs203system.enums.TournamentStatus;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Report of a batch result submission: the state of the tournament once every accepted result was applied,
+ * and the outcome of each submitted result in request order.
+ */
+@Value
+public class BatchMatchResultDTO implements Serializable {
+    Long tournamentId;
+    TournamentStatus status;
+    Integer currentRoundNumber;
+    Integer outstandingMatches;
+    int acceptedCount;
+    int rejectedCount;
+    List<MatchResultStatusDTO> results;
+
+    /**
+     * Outcome of a single submitted result. Rejected results carry the reason in {@code message}.
+     */
+    @Value
+    public static class MatchResultStatusDTO implements Serializable {
+        Long matchId;
+        boolean accepted;
+        String message;
+    }
+}
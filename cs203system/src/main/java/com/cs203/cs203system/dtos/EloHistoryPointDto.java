@@ -0,0 +1,19 @@
+package com.cs203.cs203system.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * One point of a player's downsampled Elo rating history.
+ */
+@Value
+public class EloHistoryPointDto implements Serializable {
+    LocalDate start;
+    double open;
+    double min;
+    double max;
+    double close;
+    int changes;
+}
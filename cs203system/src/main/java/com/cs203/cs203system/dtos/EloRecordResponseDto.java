@@ -1,6 +1,8 @@
 package com.cs203.cs203system.dtos;
 
+import lombok.AllArgsConstructor;
 import lombok.Value;
+import org.mapstruct.Default;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
@@ -9,6 +11,8 @@ import java.time.LocalDateTime;
  * DTO for {@link com.cs203.cs203system.model.EloRecord}
  */
 @Value
+// MapStruct keeps using the all-args constructor now that there is a second one
+@AllArgsConstructor(onConstructor_ = @Default)
 public class EloRecordResponseDto implements Serializable {
     Long id;
     LocalDateTime date;
@@ -17,6 +21,14 @@ public class EloRecordResponseDto implements Serializable {
     String changeReason;
     MatchDto match;
 
+    /**
+     * Used by the repository queries that select Elo records straight into DTOs.
+     */
+    public EloRecordResponseDto(Long id, LocalDateTime date, Double oldRating, Double newRating,
+                                String changeReason, Long matchId) {
+        this(id, date, oldRating, newRating, changeReason, matchId == null ? null : new MatchDto(matchId));
+    }
+
     /**
      * DTO for {@link com.cs203.cs203system.model.Match}
      */
@@ -0,0 +1,31 @@
+package com.cs203.cs203system.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * The outcome of replaying every completed match to recompute the Elo ratings.
+ */
+@Value
+public class EloReplayReportDto implements Serializable {
+    boolean dryRun;
+    int matchesReplayed;
+    int playersReplayed;
+    int independentGroups;
+    long replayMillis;
+    int playersChanged;
+    double maxRatingChange;
+    /**
+     * The players whose rating changed the most, largest change first.
+     */
+    List<RatingDiff> largestChanges;
+
+    @Value
+    public static class RatingDiff implements Serializable {
+        Long playerId;
+        double currentRating;
+        double replayedRating;
+    }
+}
@@ -0,0 +1,61 @@
+package com.cs203.cs203system.dtos;
+
+import lombok.Value;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of items ordered by id, read after the id of the last item of the previous page.
+ * Unlike an offset, the cursor lets the database seek straight to the page through the primary key,
+ * so reading a late page costs the same as reading the first one.
+ *
+ * @param <T> the type of the items
+ */
+@Value
+public class KeysetPage<T> implements Serializable {
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 500;
+
+    List<T> items;
+
+    /**
+     * The value to pass as {@code after} to read the next page, or null if this is the last page.
+     */
+    Long nextCursor;
+
+    /**
+     * Builds a page from the items read with the given limit.
+     * A page shorter than the limit is the last one.
+     *
+     * @param items the items of the page, ordered by id
+     * @param limit the limit the items were read with
+     * @param idOf extracts the id of an item
+     * @return the page
+     */
+    public static <T> KeysetPage<T> of(List<T> items, int limit, Function<T, Long> idOf) {
+        Long nextCursor = items.size() < limit ? null : idOf.apply(items.get(items.size() - 1));
+        return new KeysetPage<>(items, nextCursor);
+    }
+
+    /**
+     * Clamps a requested page size to between 1 and {@link #MAX_LIMIT}.
+     *
+     * @param limit the requested page size
+     * @return the page size to read with
+     */
+    public static int clampLimit(int limit) {
+        return Math.min(Math.max(limit, 1), MAX_LIMIT);
+    }
+
+    /**
+     * Converts a cursor from a request into the id to read after. Ids start at 1, so no cursor means 0.
+     *
+     * @param after the cursor, may be null for the first page
+     * @return the id to read after
+     */
+    public static long afterId(Long after) {
+        return after == null ? 0L : after;
+    }
+}
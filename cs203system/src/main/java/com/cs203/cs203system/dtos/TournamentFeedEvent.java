@@ -0,0 +1,48 @@
+package com.cs203.cs203system.dtos;
+
+import com.cs203.cs203system.enums.MatchBracket;
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentFeedEventType;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * A change to a tournament, published on {@code /topic/tournament/{tournamentId}}.
+ * Only what changed is sent: the matches and standings that are not part of the change are left out.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TournamentFeedEvent {
+    TournamentFeedEventType type;
+    Long tournamentId;
+    /**
+     * Numbers the events of a tournament from 1, so a client can tell when it missed one and should reload.
+     */
+    long sequence;
+    Integer round;
+    TournamentStatus status;
+    List<MatchDelta> matches;
+    List<StandingDelta> standings;
+
+    @Value
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class MatchDelta {
+        Long id;
+        Integer round;
+        MatchBracket bracket;
+        MatchStatus status;
+        Long player1Id;
+        Long player2Id;
+        Integer player1Score;
+        Integer player2Score;
+    }
+
+    @Value
+    public static class StandingDelta {
+        Long playerId;
+        double points;
+    }
+}
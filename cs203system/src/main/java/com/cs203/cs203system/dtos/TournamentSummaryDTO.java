@@ -0,0 +1,31 @@
+package com.cs203.cs203system.dtos;
+
+import com.cs203.cs203system.enums.TournamentFormat;
+import com.cs203.cs203system.enums.TournamentStatus;
+import lombok.Value;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Lightweight DTO for listing {@link com.cs203.cs203system.model.Tournament}s.
+ * Players and matches are reported as counts so that listing tournaments never loads them.
+ */
+@Value
+public class TournamentSummaryDTO implements Serializable {
+    Long id;
+    String name;
+    LocalDate startDate;
+    LocalDate endDate;
+    String location;
+    TournamentStatus status;
+    Double minEloRating;
+    Double maxEloRating;
+    TournamentFormat format;
+    Integer currentRoundNumber;
+    Integer totalSwissRounds;
+    Long adminId;
+    Long playerCount;
+    Long matchCount;
+    Long completedMatchCount;
+}
@@ -0,0 +1,17 @@
+package com.cs203.cs203system.dtos.players;
+
+import lombok.Value;
+
+import java.io.Serializable;
+
+/**
+ * DTO for a {@link com.cs203.cs203system.model.Player} on the Elo leaderboard. Ranks start at 1.
+ */
+@Value
+public class RankedPlayerDto implements Serializable {
+    int rank;
+    Long id;
+    String username;
+    String name;
+    Double eloRating;
+}
@@ -0,0 +1,28 @@
+package com.cs203.cs203system.enums;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * The width of the buckets a player's Elo rating history is summarised into.
+ * <ul>
+ *  <li>{@link #DAILY} - One bucket per calendar day.</li>
+ *  <li>{@link #WEEKLY} - One bucket per week, starting on Monday.</li>
+ * </ul>
+ */
+public enum EloHistoryResolution {
+    DAILY,
+
+    WEEKLY;
+
+    /**
+     * Finds the first day of the bucket containing a date.
+     *
+     * @param date the date of a rating change
+     * @return the date the bucket starts on
+     */
+    public LocalDate bucketStart(LocalDate date) {
+        return this == WEEKLY ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date;
+    }
+}
@@ -34,5 +34,7 @@ public enum MatchBracket {
 
     FINAL,
 
-    GRAND_FINAL
+    GRAND_FINAL,
+
+    ROUND_ROBIN
 }
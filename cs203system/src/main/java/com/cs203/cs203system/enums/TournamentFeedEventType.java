@@ -0,0 +1,23 @@
+package com.cs203.cs203system.enums;
+
+/**
+ * The kinds of change published on the live feed of a tournament, {@code /topic/tournament/{id}}.
+ * <ul>
+ *  <li>{@link #MATCH_COMPLETED} - A result was input for a match.</li>
+ *  <li>{@link #ROUND_GENERATED} - The matches of a new round were created or opened.</li>
+ *  <li>{@link #BRACKET_MOVED} - Players moved into later matches of an elimination bracket.</li>
+ *  <li>{@link #STANDINGS_CHANGED} - Players' points changed.</li>
+ *  <li>{@link #TOURNAMENT_COMPLETED} - The tournament is over.</li>
+ * </ul>
+ */
+public enum TournamentFeedEventType {
+    MATCH_COMPLETED,
+
+    ROUND_GENERATED,
+
+    BRACKET_MOVED,
+
+    STANDINGS_CHANGED,
+
+    TOURNAMENT_COMPLETED
+}
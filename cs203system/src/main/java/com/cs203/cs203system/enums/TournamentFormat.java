@@ -11,6 +11,8 @@ package com.cs203.cs203system.enums;
  *  <li>{@link #SWISS} - The tournament follows the Swiss system.</li>
  *  <li>{@link #DOUBLE_ELIMINATION} - The tournament follows a double-elimination format.</li>
  *  <li>{@link #HYBRID} - The tournament uses a hybrid format combining Swiss and double-elimination elements.</li>
+ *  <li>{@link #ROUND_ROBIN} - Every participant plays every other participant once.</li>
+ *  <li>{@link #SINGLE_ELIMINATION} - Participants are eliminated after their first loss.</li>
  * </ul>
  */
 public enum TournamentFormat {
@@ -27,5 +29,15 @@ public enum TournamentFormat {
     /**
      * A hybrid format combining aspects of both the Swiss and double-elimination tournament systems.
      */
-    HYBRID
+    HYBRID,
+
+    /**
+     * A round-robin format where every participant plays every other participant once.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * A single-elimination format where participants are eliminated after their first loss.
+     */
+    SINGLE_ELIMINATION
 }
@@ -0,0 +1,67 @@
+package com.cs203.cs203system.model;
+
+import com.cs203.cs203system.enums.EloHistoryResolution;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * A summary of a player's Elo rating over one day or one week: the rating at the start and end of the period,
+ * and the lowest and highest ratings reached in between.
+ * <p>
+ * Buckets are only ever added or extended by new rating changes, so a chart of a player's history reads one
+ * row per period instead of every Elo record.
+ * </p>
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "elo_rating_bucket", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_elo_rating_bucket_player_resolution_start",
+                columnNames = {"player_id", "resolution", "bucket_start"})
+})
+public class EloRatingBucket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "elo_rating_bucket_seq")
+    @SequenceGenerator(name = "elo_rating_bucket_seq", sequenceName = "elo_rating_bucket_seq", allocationSize = 50)
+    private Long id;
+
+    /**
+     * The id of the player. Not mapped as an association, like {@link PlayerStats}.
+     */
+    @Column(name = "player_id", nullable = false)
+    private Long playerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private EloHistoryResolution resolution;
+
+    /**
+     * The first day of the period.
+     */
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    /**
+     * The rating before the first change of the period.
+     */
+    private double openRating;
+
+    private double minRating;
+
+    private double maxRating;
+
+    /**
+     * The rating after the last change of the period.
+     */
+    private double closeRating;
+
+    /**
+     * The number of rating changes in the period.
+     */
+    private int changes;
+}
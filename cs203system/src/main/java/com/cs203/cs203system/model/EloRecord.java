@@ -18,10 +18,17 @@ import java.time.LocalDateTime;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "elo_record")
+@Table(name = "elo_record", indexes = {
+        @Index(name = "idx_elo_record_player_date", columnList = "player_id, date")
+})
 public class EloRecord implements Serializable {
+    /**
+     * Ids come from a pooled sequence rather than an identity column, so Hibernate can defer the inserts
+     * and send them to the database in JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "elo_record_seq")
+    @SequenceGenerator(name = "elo_record_seq", sequenceName = "elo_record_seq", allocationSize = 50)
     private Long id;
 
     /**
@@ -2,6 +2,7 @@ package com.cs203.cs203system.model;
 
 import com.cs203.cs203system.enums.MatchBracket;
 import com.cs203.cs203system.enums.MatchStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -22,7 +23,12 @@ import java.util.logging.Formatter;
 @AllArgsConstructor
 @Entity
 @ToString
-@Table(name = "match")
+@Table(name = "match", indexes = {
+        @Index(name = "idx_match_player1", columnList = "player1_id"),
+        @Index(name = "idx_match_player2", columnList = "player2_id"),
+        @Index(name = "idx_match_tournament_round", columnList = "tournament_id, round"),
+        @Index(name = "idx_match_match_date", columnList = "match_date")
+})
 public class Match implements Serializable {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -100,6 +106,34 @@ public class Match implements Serializable {
     @ManyToOne(optional = false)
     private Tournament tournament;
 
+    /**
+     * The match the winner of this match moves on to, in brackets generated upfront. Null for the final.
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "next_match_id")
+    private Match nextMatch;
+
+    /**
+     * The side of {@link #nextMatch} the winner takes: 1 for player 1, 2 for player 2.
+     */
+    private Integer nextMatchSlot;
+
+    /**
+     * The match the loser of this match drops to, in double elimination brackets. Null when the loser is eliminated.
+     */
+    @JsonIgnore
+    @ToString.Exclude
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "loser_next_match_id")
+    private Match loserNextMatch;
+
+    /**
+     * The side of {@link #loserNextMatch} the loser takes: 1 for player 1, 2 for player 2.
+     */
+    private Integer loserNextMatchSlot;
+
     /**
      * Determines the winner of the match based on the scores of player 1 and player 2.
      *
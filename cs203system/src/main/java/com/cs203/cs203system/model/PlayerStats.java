@@ -0,0 +1,46 @@
+package com.cs203.cs203system.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Running totals of a player's match statistics.
+ * One row per player, kept up to date whenever the statistics of one of their matches change, so that
+ * reading the statistics of a player does not require going through all of their matches.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "player_stats")
+public class PlayerStats {
+
+    /**
+     * The id of the player. Not mapped as an association so that the totals can be
+     * updated without loading the player.
+     */
+    @Id
+    @Column(name = "player_id")
+    private Long playerId;
+
+    /**
+     * The total number of punches landed by the player.
+     */
+    @Builder.Default
+    private int totalPunches = 0;
+
+    /**
+     * The total number of dodges performed by the player.
+     */
+    @Builder.Default
+    private int totalDodges = 0;
+
+    /**
+     * The total number of knockouts performed by the player.
+     */
+    @Builder.Default
+    @Column(name = "total_kos")
+    private int totalKOs = 0;
+}
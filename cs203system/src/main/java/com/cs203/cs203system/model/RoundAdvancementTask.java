@@ -0,0 +1,62 @@
+package com.cs203.cs203system.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * An outbox entry asking for a tournament to be moved on to its next round.
+ * It is written in the same transaction as the result that completed the round, so the request survives
+ * as long as the result does, and it is processed in the background after that transaction commits.
+ */
+@Getter
+@Setter
+@Entity
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "round_advancement_outbox", indexes = {
+        @Index(name = "idx_round_advancement_pending", columnList = "processed_at, id")
+})
+public class RoundAdvancementTask {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The tournament whose round is completed.
+     */
+    @Column(nullable = false)
+    private Long tournamentId;
+
+    /**
+     * The round that was completed.
+     */
+    private Integer roundNumber;
+
+    /**
+     * When the round was completed.
+     */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * When the tournament was advanced, or null while the task is pending.
+     */
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    /**
+     * The number of times advancing the tournament failed.
+     */
+    @Builder.Default
+    private int attempts = 0;
+
+    /**
+     * The error of the last failed attempt.
+     */
+    @Column(length = 1000)
+    private String lastError;
+}
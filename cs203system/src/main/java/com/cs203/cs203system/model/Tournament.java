@@ -32,6 +32,13 @@ public class Tournament implements Serializable {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    /**
+     * Incremented on every update, so that two transactions changing the same tournament at once cannot both
+     * commit, e.g. when the last results of a round arrive together.
+     */
+    @Version
+    private Long version;
+
     /**
      * The name of the tournament.
      */
@@ -82,6 +89,21 @@ public class Tournament implements Serializable {
     @Enumerated(EnumType.STRING)
     private TournamentFormat format;
 
+    /**
+     * The number of matches of the current round that are still waiting for a result.
+     * The round is over once this reaches zero, so checking for completion never scans the match history.
+     */
+    @Builder.Default
+    private Integer outstandingMatches = 0;
+
+    /**
+     * The sequence number of the last event published on the tournament's feed. It is stored with the tournament
+     * rather than kept in memory, so every node numbers the events from the same counter, and the version check
+     * stops two nodes from committing the same number.
+     */
+    @Builder.Default
+    private Long feedSequence = 0L;
+
     // -------------- Swiss Fields --------------
 
     /**
@@ -103,6 +125,8 @@ public class Tournament implements Serializable {
 
     /**
      * The list of players in the winners bracket for a double elimination tournament.
+     * No longer maintained: the bracket is linked through {@link Match#getNextMatch()} and
+     * {@link Match#getLoserNextMatch()} instead.
      */
     @Builder.Default
     @ManyToMany
@@ -115,6 +139,7 @@ public class Tournament implements Serializable {
 
     /**
      * The list of players in the losers bracket for a double elimination tournament.
+     * No longer maintained, like {@link #winnersBracket}.
      */
     @Builder.Default
     @ManyToMany
@@ -140,9 +165,11 @@ public class Tournament implements Serializable {
 
     /**
      * The list of matches in the tournament.
+     * Loaded lazily, use the {@link com.cs203.cs203system.repository.MatchRepository} queries to read a single round
+     * or count matches without pulling in the whole history.
      */
     @Builder.Default
-    @OneToMany(mappedBy = "tournament", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @OneToMany(mappedBy = "tournament", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @ToString.Exclude
     private List<Match> matches = new ArrayList<>();
 
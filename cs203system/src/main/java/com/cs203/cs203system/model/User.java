@@ -1,8 +1,9 @@
 package com.cs203.cs203system.model;
 
 import com.cs203.cs203system.enums.UserType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -13,19 +14,23 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Locale;
 import java.util.Objects;
 
 /**
  * Represents a User in the system.
  * The User class is a base class for different types of users (e.g., Admin, Player) and implements {@link UserDetails}.
  * It includes properties such as username, password, email, and user type.
+ * Usernames and emails are unique regardless of case, which is enforced on lower-cased copies of them.
  */
 @Entity
 @NoArgsConstructor
-@AllArgsConstructor
 @Getter
 @Setter
-@Table(name = "users")
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_users_username_lower", columnNames = "username_lower"),
+        @UniqueConstraint(name = "uk_users_email_lower", columnNames = "email_lower")
+})
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "user_type", discriminatorType = DiscriminatorType.STRING)
 public class User implements UserDetails {
@@ -38,6 +43,15 @@ public class User implements UserDetails {
      */
     private String username;
 
+    /**
+     * The username in lower case, kept in step by {@link #setUsername(String)}. Looking users up by it uses
+     * its unique index, where a case-insensitive comparison of {@link #username} could not.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "username_lower")
+    private String usernameLower;
+
     /**
      * The password of the user.
      */
@@ -48,6 +62,14 @@ public class User implements UserDetails {
      */
     private String email;
 
+    /**
+     * The email address in lower case, kept in step by {@link #setEmail(String)}.
+     */
+    @JsonIgnore
+    @Setter(AccessLevel.NONE)
+    @Column(name = "email_lower")
+    private String emailLower;
+
     /**
      * The type of the user, represented by the {@link UserType} enum.
      */
@@ -55,6 +77,36 @@ public class User implements UserDetails {
     @Column(name = "user_type", insertable = false, updatable = false)
     private UserType userType;
 
+    /**
+     * Sets the username, and its lower-cased copy used for lookups and uniqueness.
+     *
+     * @param username The username.
+     */
+    public void setUsername(String username) {
+        this.username = username;
+        this.usernameLower = normalize(username);
+    }
+
+    /**
+     * Sets the email address, and its lower-cased copy used for uniqueness.
+     *
+     * @param email The email address.
+     */
+    public void setEmail(String email) {
+        this.email = email;
+        this.emailLower = normalize(email);
+    }
+
+    /**
+     * Converts a username or email to the form it is stored and looked up in.
+     *
+     * @param value The username or email, as entered.
+     * @return The value in lower case, or null if it is null.
+     */
+    public static String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Checks if this User is equal to another object.
      * Two Users are considered equal if they have the same ID.
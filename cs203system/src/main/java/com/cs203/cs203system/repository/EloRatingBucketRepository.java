@@ -0,0 +1,41 @@
+package com.cs203.cs203system.repository;
+
+import com.cs203.cs203system.enums.EloHistoryResolution;
+import com.cs203.cs203system.model.EloRatingBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface EloRatingBucketRepository extends JpaRepository<EloRatingBucket, Long> {
+
+    List<EloRatingBucket> findByPlayerIdAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+            Long playerId, EloHistoryResolution resolution, LocalDate from, LocalDate to);
+
+    long countByPlayerIdAndResolutionAndBucketStartBetween(
+            Long playerId, EloHistoryResolution resolution, LocalDate from, LocalDate to);
+
+    /**
+     * Extends an existing bucket with later rating changes in a single statement.
+     *
+     * @return the number of rows updated, 0 if the bucket does not exist yet.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update EloRatingBucket b set " +
+            "b.minRating = case when :minRating < b.minRating then :minRating else b.minRating end, " +
+            "b.maxRating = case when :maxRating > b.maxRating then :maxRating else b.maxRating end, " +
+            "b.closeRating = :closeRating, b.changes = b.changes + :changes " +
+            "where b.playerId = :playerId and b.resolution = :resolution and b.bucketStart = :bucketStart")
+    int extendBucket(@Param("playerId") Long playerId,
+                     @Param("resolution") EloHistoryResolution resolution,
+                     @Param("bucketStart") LocalDate bucketStart,
+                     @Param("minRating") double minRating,
+                     @Param("maxRating") double maxRating,
+                     @Param("closeRating") double closeRating,
+                     @Param("changes") int changes);
+}
@@ -1,13 +1,77 @@
 package com.cs203.cs203system.repository;
 
+import com.cs203.cs203system.dtos.EloRecordResponseDto;
 import com.cs203.cs203system.model.EloRecord;
-import org.springframework.data.domain.Sort;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface EloRecordRepository extends JpaRepository<EloRecord, Long> {
     List<EloRecord> findByPlayer_Id(Long id);
+
+    /**
+     * Reads the page of Elo records following the given id, straight into DTOs.
+     */
+    @Query("select new com.cs203.cs203system.dtos.EloRecordResponseDto(e.id, e.date, e.oldRating, e.newRating, " +
+            "e.changeReason, m.id) from EloRecord e left join e.match m where e.id > :afterId order by e.id")
+    List<EloRecordResponseDto> findDtosAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Streams every Elo record in id order as DTOs. No entity is loaded, so the persistence context does not grow
+     * with the number of records. Must be consumed inside a transaction and closed afterwards.
+     */
+    @Query("select new com.cs203.cs203system.dtos.EloRecordResponseDto(e.id, e.date, e.oldRating, e.newRating, " +
+            "e.changeReason, m.id) from EloRecord e left join e.match m order by e.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<EloRecordResponseDto> streamAllDtos();
+
+    /**
+     * Streams every rating change in the order it happened, without loading the records themselves.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @Query("select e.player.id as playerId, e.date as date, e.oldRating as oldRating, e.newRating as newRating " +
+            "from EloRecord e order by e.date, e.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<RatingChangeView> streamRatingChanges();
+
+    /**
+     * Finds the rating each player had before their first match, from their earliest match record.
+     */
+    @Query("select e.player.id as playerId, e.oldRating as oldRating from EloRecord e where e.id in " +
+            "(select min(f.id) from EloRecord f where f.match is not null group by f.player.id)")
+    List<StartingRatingView> findStartingRatings();
+
+    /**
+     * Deletes the records of every rating change caused by a match, keeping manual adjustments.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from EloRecord e where e.match is not null")
+    int deleteMatchRecords();
+
+    interface StartingRatingView {
+        Long getPlayerId();
+
+        Double getOldRating();
+    }
+
+    interface RatingChangeView {
+        Long getPlayerId();
+
+        LocalDateTime getDate();
+
+        Double getOldRating();
+
+        Double getNewRating();
+    }
 }
@@ -1,13 +1,22 @@
 package com.cs203.cs203system.repository;
 
+import com.cs203.cs203system.enums.MatchStatus;
 import com.cs203.cs203system.model.Match;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 
@@ -15,11 +24,89 @@ public interface MatchRepository extends JpaRepository<Match, Long> {
 
     List<Match> findByTournamentId(Long tournamentId);
 
+    List<Match> findByTournamentIdAndRound(Long tournamentId, Integer round);
+
+    List<Match> findByTournamentIdAndStatusIn(Long tournamentId, Collection<MatchStatus> statuses);
+
+    long countByTournamentIdAndStatusIn(Long tournamentId, Collection<MatchStatus> statuses);
+
+    @Query("select m.tournament.id from Match m where m.id = :matchId")
+    Optional<Long> findTournamentIdById(@Param("matchId") Long matchId);
+
     @Query("SELECT m FROM Match m WHERE m.matchDate BETWEEN :startDate AND :endDate")
     List<Match> findMatchesWithinDateRange(@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 
-    @Query("select m from Match m where m.player2.id = ?1 or m.player1.id = ?1")
-    List<Match> findByPlayerId(Long player1Id);
+    /**
+     * Finds every match a player took part in, on either side.
+     * Written as a UNION rather than an OR so that each branch can use the index on its own player column.
+     * The branches cannot overlap, so UNION ALL skips the duplicate elimination a plain UNION would sort for.
+     */
+    @Query(value = "select m.* from match m where m.player1_id = :playerId " +
+            "union all " +
+            "select m.* from match m where m.player2_id = :playerId " +
+            "and (m.player1_id is null or m.player1_id <> :playerId)", nativeQuery = true)
+    List<Match> findByPlayerId(@Param("playerId") Long playerId);
+
+    /**
+     * Reads the page of matches following the given id, with the players and tournament each DTO needs.
+     */
+    @EntityGraph(attributePaths = {"player1", "player2", "tournament"})
+    List<Match> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Streams every match in id order, fetching rows from the database in chunks.
+     * Must be consumed inside a transaction and closed afterwards.
+     */
+    @Query("select m from Match m left join fetch m.player1 left join fetch m.player2 " +
+            "join fetch m.tournament order by m.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Match> streamAllByOrderByIdAsc();
+
+    /**
+     * Streams the completed matches between two players in the order they were played, as the plain values
+     * the Elo formula needs. Must be consumed inside a transaction and closed afterwards.
+     */
+    @Query("select m.id as id, m.tournament.id as tournamentId, m.matchDate as matchDate, " +
+            "m.player1.id as player1Id, m.player2.id as player2Id, " +
+            "m.player1Score as player1Score, m.player2Score as player2Score, " +
+            "coalesce(m.punchesPlayer1, 0) as punchesPlayer1, coalesce(m.punchesPlayer2, 0) as punchesPlayer2, " +
+            "coalesce(m.dodgesPlayer1, 0) as dodgesPlayer1, coalesce(m.dodgesPlayer2, 0) as dodgesPlayer2, " +
+            "m.koByPlayer1 as koByPlayer1, m.koByPlayer2 as koByPlayer2 " +
+            "from Match m where m.status = com.cs203.cs203system.enums.MatchStatus.COMPLETED " +
+            "and m.player1 is not null and m.player2 is not null " +
+            "and m.player1Score is not null and m.player2Score is not null " +
+            "order by m.matchDate, m.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<ReplayView> streamCompletedMatchesForReplay();
+
+    interface ReplayView {
+        Long getId();
+
+        Long getTournamentId();
+
+        LocalDateTime getMatchDate();
+
+        Long getPlayer1Id();
+
+        Long getPlayer2Id();
+
+        Integer getPlayer1Score();
+
+        Integer getPlayer2Score();
+
+        Integer getPunchesPlayer1();
+
+        Integer getPunchesPlayer2();
+
+        Integer getDodgesPlayer1();
+
+        Integer getDodgesPlayer2();
 
+        boolean isKoByPlayer1();
 
-}
\ No newline at end of file
+        boolean isKoByPlayer2();
+    }
+}
@@ -2,6 +2,7 @@ package com.cs203.cs203system.repository;
 
 import com.cs203.cs203system.model.Player;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,4 +10,16 @@ import java.util.List;
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
     List<Player> findAllByOrderByEloRatingDesc();
+
+    @Query("select p.id as id, p.eloRating as eloRating from Player p")
+    List<EloRatingView> findAllEloRatings();
+
+    /**
+     * The id and Elo rating of a player, read without loading the entity.
+     */
+    interface EloRatingView {
+        Long getId();
+
+        Double getEloRating();
+    }
 }
\ No newline at end of file
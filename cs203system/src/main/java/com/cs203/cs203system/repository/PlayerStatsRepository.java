@@ -0,0 +1,65 @@
+package com.cs203.cs203system.repository;
+
+import com.cs203.cs203system.dtos.players.PlayerStatsDTO;
+import com.cs203.cs203system.model.PlayerStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlayerStatsRepository extends JpaRepository<PlayerStats, Long> {
+
+    @Query("select new com.cs203.cs203system.dtos.players.PlayerStatsDTO(s.playerId, p.name, s.totalPunches, s.totalDodges, s.totalKOs) " +
+            "from PlayerStats s join Player p on p.id = s.playerId")
+    List<PlayerStatsDTO> findAllPlayerStats();
+
+    @Query("select new com.cs203.cs203system.dtos.players.PlayerStatsDTO(s.playerId, p.name, s.totalPunches, s.totalDodges, s.totalKOs) " +
+            "from PlayerStats s join Player p on p.id = s.playerId where s.playerId = :playerId")
+    Optional<PlayerStatsDTO> findPlayerStatsByPlayerId(@Param("playerId") Long playerId);
+
+    /**
+     * Adds to the totals of a player in a single statement, so that concurrent updates do not overwrite each other.
+     *
+     * @return the number of rows updated, 0 if the player has no totals yet.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update PlayerStats s set s.totalPunches = s.totalPunches + :punches, " +
+            "s.totalDodges = s.totalDodges + :dodges, s.totalKOs = s.totalKOs + :kos " +
+            "where s.playerId = :playerId")
+    int addToTotals(@Param("playerId") Long playerId,
+                    @Param("punches") int punches,
+                    @Param("dodges") int dodges,
+                    @Param("kos") int kos);
+
+    /**
+     * Sums the statistics of the players who played matches as player 1.
+     * Together with {@link #sumPlayer2Totals()} this rebuilds every player's totals from the matches.
+     */
+    @Query("select m.player1.id as playerId, coalesce(sum(m.punchesPlayer1), 0) as punches, " +
+            "coalesce(sum(m.dodgesPlayer1), 0) as dodges, sum(case when m.koByPlayer1 = true then 1 else 0 end) as kos " +
+            "from Match m where m.player1 is not null group by m.player1.id")
+    List<TotalsView> sumPlayer1Totals();
+
+    /**
+     * Sums the statistics of the players who played matches as player 2.
+     */
+    @Query("select m.player2.id as playerId, coalesce(sum(m.punchesPlayer2), 0) as punches, " +
+            "coalesce(sum(m.dodgesPlayer2), 0) as dodges, sum(case when m.koByPlayer2 = true then 1 else 0 end) as kos " +
+            "from Match m where m.player2 is not null group by m.player2.id")
+    List<TotalsView> sumPlayer2Totals();
+
+    interface TotalsView {
+        Long getPlayerId();
+
+        Long getPunches();
+
+        Long getDodges();
+
+        Long getKos();
+    }
+}
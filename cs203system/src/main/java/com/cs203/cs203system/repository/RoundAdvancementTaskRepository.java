@@ -0,0 +1,13 @@
+package com.cs203.cs203system.repository;
+
+import com.cs203.cs203system.model.RoundAdvancementTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface RoundAdvancementTaskRepository extends JpaRepository<RoundAdvancementTask, Long> {
+
+    List<RoundAdvancementTask> findTop50ByProcessedAtIsNullAndAttemptsLessThanOrderByIdAsc(int maxAttempts);
+}
@@ -1,10 +1,45 @@
 package com.cs203.cs203system.repository;
 
+import com.cs203.cs203system.dtos.TournamentSummaryDTO;
+import com.cs203.cs203system.enums.TournamentStatus;
 import com.cs203.cs203system.model.Tournament;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface TournamentRepository extends JpaRepository<Tournament, Long> {
 
-}
\ No newline at end of file
+    /**
+     * Lists every tournament as a flat summary. Players and matches are only counted, never loaded.
+     */
+    @Query("select new com.cs203.cs203system.dtos.TournamentSummaryDTO(" +
+            "t.id, t.name, t.startDate, t.endDate, t.location, t.status, t.minEloRating, t.maxEloRating, t.format, " +
+            "t.currentRoundNumber, t.totalSwissRounds, a.id, " +
+            "(select count(p) from Tournament pt join pt.players p where pt = t), " +
+            "(select count(m) from Match m where m.tournament = t), " +
+            "(select count(m) from Match m where m.tournament = t " +
+            "and m.status in (com.cs203.cs203system.enums.MatchStatus.COMPLETED, com.cs203.cs203system.enums.MatchStatus.BYE))) " +
+            "from Tournament t left join t.admin a order by t.id")
+    List<TournamentSummaryDTO> findAllSummaries();
+
+    /**
+     * Atomically marks matches of the current round as done. The row stays locked until the transaction ends,
+     * so concurrent results for the same tournament are counted one after the other.
+     *
+     * @return the number of rows updated, 0 if the tournament has fewer outstanding matches than {@code count}.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("update Tournament t set t.outstandingMatches = t.outstandingMatches - :count " +
+            "where t.id = :id and t.outstandingMatches >= :count")
+    int decrementOutstandingMatches(@Param("id") Long id, @Param("count") int count);
+
+    @Query("select t.outstandingMatches from Tournament t where t.id = :id")
+    Integer findOutstandingMatchesById(@Param("id") Long id);
+
+    boolean existsByStatus(TournamentStatus status);
+}
@@ -1,16 +1,38 @@
 package com.cs203.cs203system.repository;
 
+import com.cs203.cs203system.dtos.UserResponseDto;
 import com.cs203.cs203system.model.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByUsernameIgnoreCase(String username);
+    /**
+     * Finds a user by username, whatever its case, through the unique index on {@code username_lower}.
+     *
+     * @param usernameLower the username, normalized with {@link User#normalize(String)}
+     * @return the user, if any
+     */
+    Optional<User> findByUsernameLower(String usernameLower);
 
-    boolean existsUserByUsernameIgnoreCase(String username);
+    boolean existsByUsernameLower(String usernameLower);
 
-    boolean existsUserByEmailIgnoreCase(String email);
-}
\ No newline at end of file
+    @Query("select new com.cs203.cs203system.dtos.UserResponseDto(u.id, u.username, u.email, u.userType) " +
+            "from User u where u.id > :afterId order by u.id")
+    List<UserResponseDto> findDtosAfter(@Param("afterId") Long afterId, Limit limit);
+
+    @Query("select new com.cs203.cs203system.dtos.UserResponseDto(u.id, u.username, u.email, u.userType) " +
+            "from User u order by u.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<UserResponseDto> streamAllDtos();
+}
@@ -0,0 +1,37 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.dtos.EloHistoryPointDto;
+import com.cs203.cs203system.enums.EloHistoryResolution;
+import com.cs203.cs203system.model.EloRecord;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface EloHistoryService {
+
+    /**
+     * Folds new rating changes into the daily and weekly buckets of their players.
+     *
+     * @param records The new Elo records, in the order the changes happened.
+     */
+    void recordRatingChanges(Collection<EloRecord> records);
+
+    /**
+     * Retrieves a player's rating history between two dates, with at most {@code maxPoints} points.
+     *
+     * @param playerId   The id of the player.
+     * @param from       The first day of the range, or null for the start of the player's history.
+     * @param to         The last day of the range, or null for today.
+     * @param resolution The bucket width to read, or null to use the finest one that fits in {@code maxPoints}.
+     * @param maxPoints  The maximum number of points. Neighbouring buckets are merged when there are more.
+     * @return The points of the history, oldest first.
+     */
+    List<EloHistoryPointDto> getHistory(Long playerId, LocalDate from, LocalDate to,
+                                        EloHistoryResolution resolution, int maxPoints);
+
+    /**
+     * Recomputes every bucket from the Elo records.
+     */
+    void rebuildHistory();
+}
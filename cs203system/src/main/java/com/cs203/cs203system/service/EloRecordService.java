@@ -1,16 +1,22 @@
 package com.cs203.cs203system.service;
 
+import com.cs203.cs203system.dtos.EloRecordResponseDto;
 import com.cs203.cs203system.model.EloRecord;
 import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Player;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface EloRecordService {
     void saveEloRecord(Player player, Match match, double oldRating, double newRating, String reason);
 
     List<EloRecord> findAllEloRecords();
 
+    List<EloRecordResponseDto> findEloRecordsAfter(Long afterId, int limit);
+
+    void exportEloRecords(Consumer<EloRecordResponseDto> consumer);
+
     List<EloRecord> findAllEloRecordsForPlayer(Long playerId);
 
     EloRecord findEloRecordById(Long id);
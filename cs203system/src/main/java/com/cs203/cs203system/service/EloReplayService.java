@@ -0,0 +1,16 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.dtos.EloReplayReportDto;
+
+public interface EloReplayService {
+
+    /**
+     * Recomputes every player's Elo rating by replaying all completed matches in the order they were played.
+     *
+     * @param dryRun True to only compare the replayed ratings with the current ones, false to also replace the
+     *               ratings and the Elo records of every match with the replayed ones.
+     * @return A report of the replay and of how the ratings differ from the current ones.
+     * @throws IllegalStateException If the ratings would be replaced while a tournament is ongoing.
+     */
+    EloReplayReportDto replay(boolean dryRun);
+}
@@ -4,6 +4,8 @@ import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Player;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 public interface EloService {
 
@@ -15,6 +17,13 @@ public interface EloService {
      */
     void updateEloRatings(Player player1, Player player2, Match match);
 
+    /**
+     * updates the ELO ratings of the players of many matches, applying the matches in order.
+     * The Elo records are saved together so they can be written in JDBC batches.
+     * @param matches The completed matches, in the order they were played.
+     */
+    void updateEloRatings(List<Match> matches);
+
 
     // additional method signatures for other ELO-related operations, if needed
 }
\ No newline at end of file
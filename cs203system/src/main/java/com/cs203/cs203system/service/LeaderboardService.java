@@ -0,0 +1,23 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.dtos.players.RankedPlayerDto;
+import com.cs203.cs203system.model.Player;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface LeaderboardService {
+
+    void rebuild();
+
+    void updateRatings(Collection<Player> players);
+
+    void removePlayer(Long playerId);
+
+    List<RankedPlayerDto> getRanking(int offset, int limit);
+
+    Optional<RankedPlayerDto> getRank(Long playerId);
+
+    List<RankedPlayerDto> getPlayersAround(Long playerId, int radius);
+}
@@ -3,14 +3,23 @@ package com.cs203.cs203system.service;
 import com.cs203.cs203system.model.Match;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface MatchService {
     Match findMatchById(Long id);
 
     List<Match> findAllMatches();
 
+    List<Match> findMatchesAfter(Long afterId, int limit);
+
+    void exportMatches(Consumer<Match> consumer);
+
     List<Match> findAllMatchesByTournamentId(Long tournamentId);
 
+    List<Match> findMatchesByTournamentIdAndRound(Long tournamentId, Integer round);
+
+    List<Match> findOpenMatchesByTournamentId(Long tournamentId);
+
     void updateAndSaveMatchStats(Long matchId, Integer punchesPlayer1, Integer punchesPlayer2,
                                  Integer dodgesPlayer1, Integer dodgesPlayer2, boolean koByPlayer1, boolean koByPlayer2);
 
@@ -1,6 +1,8 @@
 package com.cs203.cs203system.service;
 
 import com.cs203.cs203system.dtos.players.PlayerStatsDTO;
+import com.cs203.cs203system.model.Match;
+
 import java.util.List;
 
 public interface PlayerStatsService {
@@ -13,4 +15,34 @@ public interface PlayerStatsService {
     List<PlayerStatsDTO> getAllPlayerStats();
 
     PlayerStatsDTO getPlayerStatsByPlayerId(Long id);
+
+    /**
+     * Adds the change in a match's statistics to the totals of both of its players.
+     *
+     * @param match    The match, holding its new statistics.
+     * @param previous The statistics of the match before the change.
+     */
+    void recordMatchStats(Match match, MatchStats previous);
+
+    /**
+     * Recomputes the totals of every player from their matches.
+     */
+    void rebuildPlayerStats();
+
+    /**
+     * The statistics of a match at one point in time, used to work out how much they changed.
+     */
+    record MatchStats(int punchesPlayer1, int punchesPlayer2, int dodgesPlayer1, int dodgesPlayer2,
+                      boolean koByPlayer1, boolean koByPlayer2) {
+
+        public static MatchStats of(Match match) {
+            return new MatchStats(valueOf(match.getPunchesPlayer1()), valueOf(match.getPunchesPlayer2()),
+                    valueOf(match.getDodgesPlayer1()), valueOf(match.getDodgesPlayer2()),
+                    match.isKoByPlayer1(), match.isKoByPlayer2());
+        }
+
+        private static int valueOf(Integer count) {
+            return count != null ? count : 0;
+        }
+    }
 }
@@ -0,0 +1,34 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.model.Tournament;
+
+public interface RoundAdvancementService {
+
+    /**
+     * Checks whether completed rounds are advanced in the background rather than by the result that completes them.
+     *
+     * @return True if {@link #scheduleAdvancement(Tournament)} should be used.
+     */
+    boolean isAsync();
+
+    /**
+     * Records in the outbox that the current round of a tournament is completed, as part of the current
+     * transaction. The round is advanced by a worker once the transaction commits.
+     *
+     * @param tournament The tournament whose round is completed.
+     */
+    void scheduleAdvancement(Tournament tournament);
+
+    /**
+     * Advances the tournament of an outbox task, unless the task was already processed.
+     *
+     * @param taskId The id of the outbox task.
+     */
+    void advance(Long taskId);
+
+    /**
+     * Hands every pending outbox task to the workers, picking up tasks that were not handed over after commit
+     * or whose last attempt failed.
+     */
+    void processPendingTasks();
+}
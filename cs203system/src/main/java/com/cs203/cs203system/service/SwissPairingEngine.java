@@ -0,0 +1,35 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+
+import java.util.List;
+
+/**
+ * Produces the pairings of a Swiss round.
+ * Implementations must never pair two players that have already met in the tournament;
+ * anyone who cannot be paired legally is returned as a bye instead of being dropped.
+ */
+public interface SwissPairingEngine {
+
+    /**
+     * Pairs the players of a tournament for its next round, based on their current points
+     * and the matches already played.
+     *
+     * @param tournament The tournament to pair.
+     * @return The pairings of the round together with the players receiving a bye.
+     */
+    SwissPairing pairNextRound(Tournament tournament);
+
+    /**
+     * The outcome of pairing a round.
+     *
+     * @param pairings The matches of the round, the better ranked player first.
+     * @param byes     The players sitting out the round.
+     */
+    record SwissPairing(List<Pairing> pairings, List<Player> byes) {
+    }
+
+    record Pairing(Player player1, Player player2) {
+    }
+}
@@ -0,0 +1,55 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+
+import java.util.List;
+
+public interface SwissStandingsService {
+
+    /**
+     * Starts fresh standings for a tournament, registering all of its players with no score.
+     *
+     * @param tournament The tournament being initialized.
+     */
+    void initialize(Tournament tournament);
+
+    /**
+     * Applies a completed match to the standings of its tournament.
+     *
+     * @param match The completed match.
+     */
+    void recordResult(Match match);
+
+    /**
+     * Applies a bye to the standings of its tournament.
+     *
+     * @param match The bye, with the player sitting out as player 1.
+     */
+    void recordBye(Match match);
+
+    /**
+     * Finds the players leading the tournament after score, Buchholz and Sonneborn-Berger tie-breaks.
+     *
+     * @param tournament The tournament to check.
+     * @return The leading players, more than one if the tie-breaks could not separate them.
+     */
+    List<Player> findWinners(Tournament tournament);
+
+    /**
+     * Retrieves the best ranked players of the tournament.
+     *
+     * @param tournament      The tournament to check.
+     * @param numberOfPlayers The number of players to retrieve.
+     * @return The top players, best ranked first.
+     */
+    List<Player> getTopPlayers(Tournament tournament, int numberOfPlayers);
+
+    /**
+     * Drops the cached standings of a tournament so they are rebuilt on next use.
+     *
+     * @param tournamentId The id of the tournament.
+     */
+    void evict(Long tournamentId);
+}
@@ -0,0 +1,54 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+
+import java.util.Collection;
+
+/**
+ * Service interface for the live feed of a tournament on {@code /topic/tournament/{id}}.
+ * Each change is sent once the transaction making it commits, so spectators never see a change that was rolled back.
+ */
+public interface TournamentFeedService {
+
+    /**
+     * Publishes the result of a match.
+     *
+     * @param match The match with its result applied.
+     */
+    void matchCompleted(Match match);
+
+    /**
+     * Publishes the matches of a new round.
+     *
+     * @param tournament The tournament.
+     * @param round      The number of the round.
+     * @param matches    The saved matches of the round, not the tournament's whole match collection. They are read
+     *                   when the transaction commits so that new matches carry their ids.
+     */
+    void roundGenerated(Tournament tournament, int round, Collection<Match> matches);
+
+    /**
+     * Publishes matches of an elimination bracket that players moved into.
+     *
+     * @param tournament The tournament.
+     * @param matches    The matches whose players or status changed.
+     */
+    void bracketMoved(Tournament tournament, Collection<Match> matches);
+
+    /**
+     * Publishes the points of players whose standing changed.
+     *
+     * @param tournament The tournament.
+     * @param players    The players whose points changed.
+     */
+    void standingsChanged(Tournament tournament, Collection<Player> players);
+
+    /**
+     * Publishes the end of a tournament.
+     *
+     * @param tournament The completed tournament.
+     */
+    void tournamentCompleted(Tournament tournament);
+}
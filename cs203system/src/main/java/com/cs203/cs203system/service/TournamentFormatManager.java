@@ -1,11 +1,54 @@
 package com.cs203.cs203system.service;
 
+import com.cs203.cs203system.enums.TournamentFormat;
 import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Player;
 import com.cs203.cs203system.model.Tournament;
 
+import java.util.List;
+
 public interface TournamentFormatManager {
+
+    /**
+     * The format this manager runs. Each format has exactly one manager.
+     */
+    TournamentFormat getFormat();
+
     Tournament initializeTournament(Tournament tournament);
+
+    /**
+     * Records the result of a match and, if it was the last result of the round, advances the tournament.
+     */
     Tournament receiveMatchResult(Match match);
+
+    /**
+     * Records the result of a match without advancing the tournament, even if the round is now completed.
+     * The round is then advanced separately with {@link #advanceRound(Tournament)}.
+     */
+    Tournament recordMatchResult(Match match);
+
+    /**
+     * Records the results of several matches of the same tournament without advancing it, even if the round is now
+     * completed. By default this is {@link #recordMatchResult(Match)} for each match in order; managers that can
+     * apply a batch more cheaply override it.
+     */
+    default Tournament recordMatchResults(List<Match> matches) {
+        Tournament tournament = null;
+        for (Match match : matches) {
+            tournament = recordMatchResult(match);
+        }
+        return tournament;
+    }
+
+    /**
+     * Checks whether every match of the current round has a result.
+     */
+    boolean isRoundCompleted(Tournament tournament);
+
+    /**
+     * Moves a tournament whose round is completed on to its next round, its finals, or its end.
+     */
+    Tournament advanceRound(Tournament tournament);
+
     Player determineWinner(Tournament tournament);
 }
@@ -1,5 +1,7 @@
 package com.cs203.cs203system.service;
 
+import com.cs203.cs203system.dtos.BatchMatchResultDTO;
+import com.cs203.cs203system.dtos.TournamentSummaryDTO;
 import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Player;
 import com.cs203.cs203system.model.Tournament;
@@ -13,6 +15,8 @@ public interface TournamentManagerService {
 
     List<Tournament> findAllTournaments();
 
+    List<TournamentSummaryDTO> findAllTournamentSummaries();
+
     void deleteTournamentById(Long id);
 
     Tournament createTournament(Tournament tournament);
@@ -23,6 +27,8 @@ public interface TournamentManagerService {
 
     Tournament inputResult(Match match);
 
+    BatchMatchResultDTO inputResults(Long tournamentId, List<Match> matches);
+
     Player determineWinner(Long tournamentId);
 
     Tournament updateTournament(Long id, Tournament tournament);
@@ -1,5 +1,6 @@
 package com.cs203.cs203system.service.impl;
 
+import com.cs203.cs203system.dtos.UserResponseDto;
 import com.cs203.cs203system.dtos.players.*;
 import com.cs203.cs203system.enums.UserType;
 import com.cs203.cs203system.model.Admin;
@@ -8,8 +9,11 @@ import com.cs203.cs203system.model.User;
 import com.cs203.cs203system.repository.AdminRepository;
 import com.cs203.cs203system.repository.PlayerRepository;
 import com.cs203.cs203system.repository.UserRepository;
+import com.cs203.cs203system.service.LeaderboardService;
+import com.cs203.cs203system.utility.CachedUser;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -18,6 +22,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * Service class for managing user authentication and registration.
  * Provides methods for registering users, logging in, and retrieving the current user.
@@ -40,6 +46,8 @@ public class AuthenticationService {
 
     private final UserResponseMapper userResponseMapper;
 
+    private final LeaderboardService leaderboardService;
+
     /**
      * Constructs an AuthenticationService with the required dependencies.
      *
@@ -50,11 +58,13 @@ public class AuthenticationService {
      * @param playerRepository      the repository for accessing player data
      * @param tokenService          the service for generating JWT tokens
      * @param userResponseMapper    the mapper for converting User entity to UserResponseDto
+     * @param leaderboardService    the service for ranking newly registered players
      */
     @Autowired
     public AuthenticationService(UserRepository userRepository, PasswordEncoder passwordEncoder,
                                  AuthenticationManager authenticationManager, AdminRepository adminRepository, PlayerRepository playerRepository,
-                                 TokenService tokenService, UserResponseMapper userResponseMapper) {
+                                 TokenService tokenService, UserResponseMapper userResponseMapper,
+                                 LeaderboardService leaderboardService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.authenticationManager = authenticationManager;
@@ -62,21 +72,28 @@ public class AuthenticationService {
         this.playerRepository = playerRepository;
         this.tokenService = tokenService;
         this.userResponseMapper = userResponseMapper;
+        this.leaderboardService = leaderboardService;
     }
 
     /**
      * Registers a new user in the system.
+     * The user is inserted straight away, and a username or email already in use, in any case, is caught by
+     * the unique constraints on their lower-cased copies rather than checked beforehand.
      *
      * @param createUserRequest the request data containing user details for registration
      * @return the registered User entity
+     * @throws RuntimeException if the username or email is already in use
      */
     @Transactional
     public User register(CreateUserRequest createUserRequest) {
-        if (userRepository.existsUserByUsernameIgnoreCase(createUserRequest.getUsername())
-                || userRepository.existsUserByEmailIgnoreCase(createUserRequest.getEmail())) {
+        try {
+            return createUser(createUserRequest);
+        } catch (DataIntegrityViolationException e) {
             throw new RuntimeException("Username or Email is already in use");
         }
+    }
 
+    private User createUser(CreateUserRequest createUserRequest) {
         createUserRequest.setPassword(passwordEncoder.encode(createUserRequest.getPassword()));
         UserType userType = createUserRequest.getUserType();
 
@@ -87,7 +104,9 @@ public class AuthenticationService {
             newPlayer.setName(createUserRequest.getName());
             newPlayer.setEmail(createUserRequest.getEmail());
             newPlayer.setUserType(UserType.ROLE_PLAYER);
-            return playerRepository.save(newPlayer);
+            Player savedPlayer = playerRepository.save(newPlayer);
+            leaderboardService.updateRatings(List.of(savedPlayer));
+            return savedPlayer;
         }
 
         Admin newAdmin = new Admin();
@@ -100,6 +119,8 @@ public class AuthenticationService {
 
     /**
      * Authenticates a user and generates a JWT token if the credentials are valid.
+     * The user is described from the authenticated principal, so it is not read a second time: either the user
+     * loaded during authentication or the {@link CachedUser} copy found in the user cache.
      *
      * @param username the username of the user attempting to log in
      * @param password the password of the user attempting to log in
@@ -114,14 +135,23 @@ public class AuthenticationService {
 
             String token = tokenService.generateJwt(auth);
 
-            return new LoginResponse(userResponseMapper
-                    .toDto(userRepository.findByUsernameIgnoreCase(username).get()), token);
+            return new LoginResponse(toDto(auth), token);
 
         } catch (AuthenticationException e) {
             return new LoginResponse(null, "");
         }
     }
 
+    private UserResponseDto toDto(Authentication auth) {
+        if (auth.getPrincipal() instanceof User user) {
+            return userResponseMapper.toDto(user);
+        }
+        if (auth.getPrincipal() instanceof CachedUser cached && cached.getId() != null) {
+            return new UserResponseDto(cached.getId(), cached.getUsername(), cached.getEmail(), cached.getUserType());
+        }
+        return userResponseMapper.toDto(getCurrentUser(auth.getName()));
+    }
+
     /**
      * Retrieves the currently authenticated user by their username.
      *
@@ -130,7 +160,7 @@ public class AuthenticationService {
      * @throws UsernameNotFoundException if no user is found with the given username
      */
     public User getCurrentUser(String username) {
-        return userRepository.findByUsernameIgnoreCase(username)
+        return userRepository.findByUsernameLower(User.normalize(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
     }
 
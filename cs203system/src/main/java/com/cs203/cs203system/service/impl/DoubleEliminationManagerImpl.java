@@ -2,6 +2,7 @@ package com.cs203.cs203system.service.impl;
 
 import com.cs203.cs203system.enums.MatchBracket;
 import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentFormat;
 import com.cs203.cs203system.enums.TournamentStatus;
 import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Player;
@@ -9,7 +10,10 @@ import com.cs203.cs203system.model.Tournament;
 import com.cs203.cs203system.repository.TournamentRepository;
 import com.cs203.cs203system.service.DoubleEliminationManager;
 import com.cs203.cs203system.service.EloService;
+import com.cs203.cs203system.service.TournamentFeedService;
 import com.cs203.cs203system.service.TournamentFormatManager;
+import com.cs203.cs203system.utility.BracketSeeding;
+import com.cs203.cs203system.utility.DoubleEliminationBracket;
 import lombok.Builder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -17,13 +21,19 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
  * Implementation of the DoubleEliminationManager interface.
  * Responsible for managing the double-elimination tournament process, including initialization,
  * receiving match results, and determining winners.
+ * <p>
+ * The whole bracket is created when the tournament starts, from a {@link DoubleEliminationBracket}: each match
+ * is linked to the matches its winner and loser move on to. A result fills those slots directly, and a match is
+ * scheduled as soon as both of its players are known, so no round waits for the rest of the tournament.
+ * </p>
  */
 @Builder
 @Service
@@ -31,21 +41,30 @@ public class DoubleEliminationManagerImpl implements TournamentFormatManager {
 
     private final TournamentRepository tournamentRepository;
     private final EloService eloService;
+    private final TournamentFeedService tournamentFeedService;
 
     /**
      * Constructor for DoubleEliminationManagerImpl.
      *
      * @param tournamentRepository the repository used to manage Tournament data.
+     * @param eloService the service updating the players' Elo ratings after each match.
+     * @param tournamentFeedService the service publishing bracket moves to spectators.
      */
     @Autowired
-    public DoubleEliminationManagerImpl(TournamentRepository tournamentRepository, EloService eloService) {
+    public DoubleEliminationManagerImpl(TournamentRepository tournamentRepository, EloService eloService,
+                                        TournamentFeedService tournamentFeedService) {
         this.tournamentRepository = tournamentRepository;
         this.eloService = eloService;
+        this.tournamentFeedService = tournamentFeedService;
+    }
+
+    @Override
+    public TournamentFormat getFormat() {
+        return TournamentFormat.DOUBLE_ELIMINATION;
     }
 
     /**
-     * Initializes the double-elimination tournament by pairing players and setting initial matches.
-     * All players will start in the winner's bracket.
+     * Initializes the double-elimination tournament by creating its whole bracket upfront, seeded by Elo rating.
      *
      * @param tournament the tournament to be initialized.
      * @return the initialized tournament with players assigned to matches.
@@ -53,175 +72,239 @@ public class DoubleEliminationManagerImpl implements TournamentFormatManager {
     @Override
     @Transactional
     public Tournament initializeTournament(Tournament tournament){
-        tournament.getPlayers().forEach(player -> tournament.getWinnersBracket().add(player));
-        Collections.shuffle(tournament.getWinnersBracket());
-        createIntitalMatches(tournament);
-        return tournamentRepository.save(tournament);
+        return initializeTournament(tournament, BracketSeeding.byRating(tournament.getPlayers()));
     }
 
     /**
-     * Creates initial matches for the players in the winner's bracket.
+     * Initializes the double-elimination tournament by creating its whole bracket upfront.
+     * All players start in the first round of the winner's bracket, placed by seed; every other match waits
+     * for its players, linked to the matches its winner and loser move on to. When the field is not a power of two,
+     * the top seeds get a bye, and the byes are resolved here in memory rather than as results.
      *
-     * @param tournament the tournament where matches will be created.
+     * @param tournament the tournament to be initialized.
+     * @param seeds the players of the tournament, best seed first.
+     * @return the initialized tournament with players assigned to matches.
      */
-    private void createIntitalMatches(Tournament tournament){
-        for(int i = 1; i < tournament.getWinnersBracket().size(); i += 2){
-            tournament.getMatches().add(buildMatch(tournament,MatchBracket.UPPER, tournament.getWinnersBracket().get(i-1),tournament.getWinnersBracket().get(i)));
+    @Transactional
+    public Tournament initializeTournament(Tournament tournament, List<Player> seeds) {
+        DoubleEliminationBracket bracket = new DoubleEliminationBracket(seeds.size());
+        Match[] matches = createBracket(tournament, bracket);
+        List<Match> placed = new ArrayList<>();
+        for (int i = 0; i < bracket.getOpeningMatchCount(); i++) {
+            Match match = matches[bracket.upper(1, i)];
+            placePlayer(match, 1, seeds.get(bracket.getOpeningSeed(i, 1)), placed);
+            int seed2 = bracket.getOpeningSeed(i, 2);
+            if (seed2 != BracketSeeding.BYE) {
+                placePlayer(match, 2, seeds.get(seed2), placed);
+            }
         }
+
+        tournament.setCurrentRoundNumber(1);
+        tournament.setOutstandingMatches(bracket.getMatchesToPlay());
+        return tournamentRepository.save(tournament);
     }
 
     /**
-     * Handles the movement of the loser to the correct bracket after a match result.
-     * Moves players between winner and loser brackets based on the match outcome.
+     * Creates a waiting match for every match of the bracket graph and links it to the matches its winner and
+     * loser move on to. Matches that at most one player can reach are created as byes.
+     * The matches are added in index order, so every match is saved after the matches it links to.
      *
-     * @param match the match containing the losing player.
-     * @param tournament the tournament being updated.
+     * @param tournament the tournament the matches belong to.
+     * @param bracket the bracket graph for the number of players.
+     * @return the matches, by their index in the graph.
      */
-    private void handleLoserMovement(Match match, Tournament tournament) {
-        Player loser = match.getLoser();
-
-        if (match.getBracket() == MatchBracket.UPPER) {
-            // If the match is in the UPPER bracket, move the loser to the LOWER bracket
-            tournament.getWinnersBracket().remove(loser);
-            tournament.getLosersBracket().add(loser);
-
-        } else if (match.getBracket() == MatchBracket.LOWER) {
-            // If the match is in the LOWER bracket, remove the loser from the tournament (elimination)
-            tournament.getLosersBracket().remove(loser);
-
-        } else if (match.getBracket() == MatchBracket.FINAL) {
-            // If the match is in the FINAL bracket
-            if (tournament.getWinnersBracket().contains(loser)) {
-                // If the loser is from the winners bracket, move to the losers bracket
-                tournament.getWinnersBracket().remove(loser);
-                tournament.getLosersBracket().add(loser);
-            } else if (tournament.getLosersBracket().contains(loser)) {
-                // If the loser is already in the losers bracket, the tournament is completed
-                tournament.getWinnersBracket().clear();
-                tournament.getLosersBracket().clear();
-                tournament.setEndDate(LocalDate.now());
-                tournament.setStatus(TournamentStatus.COMPLETED);
+    private Match[] createBracket(Tournament tournament, DoubleEliminationBracket bracket) {
+        Match[] matches = new Match[bracket.getMatchCount()];
+        for (int i = 0; i < matches.length; i++) {
+            Match match = Match.builder()
+                    .tournament(tournament)
+                    .bracket(bracket.getBracket(i))
+                    .round(bracket.getRound(i))
+                    .matchDate(LocalDateTime.now())
+                    .status(bracket.isBye(i) ? MatchStatus.BYE : MatchStatus.WAITING)
+                    .build();
+            if (bracket.getWinnerNext(i) != DoubleEliminationBracket.NONE) {
+                match.setNextMatch(matches[bracket.getWinnerNext(i)]);
+                match.setNextMatchSlot(bracket.getWinnerSlot(i));
             }
+            if (bracket.getLoserNext(i) != DoubleEliminationBracket.NONE) {
+                match.setLoserNextMatch(matches[bracket.getLoserNext(i)]);
+                match.setLoserNextMatchSlot(bracket.getLoserSlot(i));
+            }
+            matches[i] = match;
+        }
+        tournament.getMatches().addAll(Arrays.asList(matches));
+        return matches;
+    }
 
-        } else if (match.getBracket() == MatchBracket.GRAND_FINAL) {
-            // For GRAND_FINAL, clearing both brackets signifies the tournament completion
-            tournament.getWinnersBracket().clear();
-            tournament.getLosersBracket().clear();
+    /**
+     * Moves the players of a completed match into the matches they were linked to.
+     * The final decides whether the bracket is reset: if the winner's bracket champion (player 1) wins it,
+     * the tournament is over and the grand final is cancelled; otherwise both players meet again in the grand final.
+     * The matches that changed are published on the tournament's feed.
+     *
+     * @param match the completed match.
+     * @param tournament the tournament being updated.
+     */
+    private void advancePlayers(Match match, Tournament tournament) {
+        Match nextMatch = match.getNextMatch();
+        if (match.getBracket() == MatchBracket.FINAL && match.getPlayer1Score() > match.getPlayer2Score()) {
+            nextMatch.setStatus(MatchStatus.CANCELLED);
+            tournamentFeedService.bracketMoved(tournament, List.of(nextMatch));
+            nextMatch = null;
+        }
+        if (nextMatch == null) {
             tournament.setEndDate(LocalDate.now());
             tournament.setStatus(TournamentStatus.COMPLETED);
+            return;
+        }
+
+        List<Match> moved = new ArrayList<>(3);
+
+        if (match.getBracket() == MatchBracket.FINAL) {
+            // The reset was not counted when the bracket was created
+            tournament.setOutstandingMatches(tournament.getOutstandingMatches() + 1);
+        }
+        placePlayer(nextMatch, match.getNextMatchSlot(), match.getWinner(), moved);
+        if (match.getLoserNextMatch() != null) {
+            placePlayer(match.getLoserNextMatch(), match.getLoserNextMatchSlot(), match.getLoser(), moved);
         }
+        tournamentFeedService.bracketMoved(tournament, moved);
     }
 
     /**
-     * Builds and returns a Match object with specified players and tournament details.
+     * Puts a player into a slot of a waiting match, and schedules the match once both of its players are known.
+     * A player reaching a bye wins it straight away and moves on again.
      *
-     * @param tournament the tournament the match belongs to.
-     * @param bracket the bracket type of the match (e.g., UPPER, LOWER, FINAL).
-     * @param player1 the first player in the match.
-     * @param player2 the second player in the match.
-     * @return the constructed Match object.
+     * @param match the match the player moves on to.
+     * @param slot the side the player takes: 1 for player 1, 2 for player 2.
+     * @param player the player.
+     * @param placed the matches changed so far, to which this match and any bye passed through are added.
      */
-    private Match buildMatch(Tournament tournament, MatchBracket bracket, Player player1, Player player2) {
-        return Match.builder()
-                .tournament(tournament)
-                .bracket(bracket)
-                .matchDate(LocalDateTime.now())
-                .status(MatchStatus.SCHEDULED)
-                .player1(player1)
-                .player2(player2)
-                .build();
+    private void placePlayer(Match match, int slot, Player player, List<Match> placed) {
+        placed.add(match);
+        if (match.getStatus() == MatchStatus.BYE) {
+            match.setPlayer1(player);
+            match.setPlayer1Score(1);
+            match.setPlayer2Score(0);
+            placePlayer(match.getNextMatch(), match.getNextMatchSlot(), player, placed);
+            return;
+        }
+
+        if (slot == 1) {
+            match.setPlayer1(player);
+        } else {
+            match.setPlayer2(player);
+        }
+        if (match.getPlayer1() != null && match.getPlayer2() != null) {
+            match.setStatus(MatchStatus.SCHEDULED);
+            match.setMatchDate(LocalDateTime.now());
+        }
     }
 
     /**
-     * Checks if all matches in the tournament have been completed.
+     * Checks if every match of the bracket has been completed.
+     * The counter is decremented as each result is input, so the match history is never scanned.
      *
      * @param tournament the tournament to check.
-     * @return true if all matches are completed; otherwise, false.
+     * @return true if no match of the bracket is outstanding; otherwise, false.
      */
     private boolean areAllMatchesCompleted(Tournament tournament){
-        return tournament.getMatches().stream().allMatch(m->m.getStatus().equals(MatchStatus.COMPLETED));
+        return tournament.getOutstandingMatches() <= 0;
     }
 
     /**
-     * Determines if final matches should be created, based on the number of remaining players.
+     * Records the result of a match, moving its winner and loser on to their next matches right away,
+     * so the winner's and loser's brackets progress independently of each other.
      *
-     * @param tournament the tournament to check.
-     * @return true if the final matches should be created; otherwise, false.
+     * @param match the match whose result is being recorded.
+     * @return the updated tournament.
      */
-    private boolean shouldCreateFinalMatches(Tournament tournament){
-        int totalPlayers = tournament.getWinnersBracket().size() + tournament.getLosersBracket().size();
-        return totalPlayers <= 2;
+    @Override
+    @Transactional
+    public Tournament receiveMatchResult(Match match) {
+        Tournament tournament = match.getTournament();
+        recordResult(match, tournament);
+
+        if (!areAllMatchesCompleted(tournament)) {
+            return tournamentRepository.save(tournament);
+        }
+
+        return advanceRound(tournament);
     }
 
     /**
-     * Creates final matches in the tournament if conditions are met, based on the number of players
-     * remaining in the winner's and loser's brackets.
+     * Records the result of a match. As the whole bracket is created upfront, this is the same as
+     * {@link #receiveMatchResult(Match)} except that the tournament is not passed to {@link #advanceRound(Tournament)}.
      *
-     * @param tournament the tournament to update.
+     * @param match the match whose result is being recorded.
+     * @return the updated tournament.
      */
-    private void createFinalMatches(Tournament tournament){
-        if (tournament.getLosersBracket().size() == 2) {
-            tournament.getMatches().add(buildMatch(tournament, MatchBracket.GRAND_FINAL,
-                    tournament.getLosersBracket().get(0), tournament.getLosersBracket().get(1)));
-        } else if (tournament.getLosersBracket().size() == 1 && tournament.getWinnersBracket().size() == 1) {
-            tournament.getMatches().add(buildMatch(tournament, MatchBracket.FINAL,
-                    tournament.getLosersBracket().get(0), tournament.getWinnersBracket().get(0)));
-        }
+    @Override
+    @Transactional
+    public Tournament recordMatchResult(Match match) {
+        Tournament tournament = match.getTournament();
+        recordResult(match, tournament);
+        return tournamentRepository.save(tournament);
     }
 
     /**
-     * Creates regular matches for the remaining players in the tournament brackets.
+     * Records the results of several matches, moving their winners and losers on in order and then updating the
+     * Elo ratings of every player of the batch in a single call.
      *
-     * @param tournament the tournament to update.
+     * @param matches the matches whose results are being recorded, all of the same tournament.
+     * @return the updated tournament.
      */
-    private void createRegularMatches(Tournament tournament){
-        createBracketMatches(tournament,tournament.getWinnersBracket(),MatchBracket.UPPER);
-        createBracketMatches(tournament,tournament.getLosersBracket(),MatchBracket.LOWER);
+    @Override
+    @Transactional
+    public Tournament recordMatchResults(List<Match> matches) {
+        Tournament tournament = matches.get(0).getTournament();
+        for (Match match : matches) {
+            advancePlayers(match, tournament);
+        }
+        eloService.updateEloRatings(matches);
+        return tournamentRepository.save(tournament);
     }
 
     /**
-     * Creates matches within a specified bracket for a list of players in the tournament.
+     * Checks if every match of the bracket has been completed. Matches are scheduled as soon as their players are
+     * known, so a double elimination tournament has no rounds to wait for and this only holds once it is over.
      *
-     * @param tournament the tournament being updated.
-     * @param bracket the list of players in the bracket.
-     * @param matchBracket the type of the bracket for the matches (e.g., UPPER or LOWER).
+     * @param tournament the tournament to check.
+     * @return true if no match of the bracket is outstanding; otherwise, false.
      */
-    private void createBracketMatches(Tournament tournament, List<Player> bracket, MatchBracket matchBracket) {
-        for (int i = 1; i < bracket.size(); i += 2) {
-            tournament.getMatches().add(buildMatch(tournament, matchBracket, bracket.get(i - 1), bracket.get(i)));
-        }
+    @Override
+    public boolean isRoundCompleted(Tournament tournament) {
+        return areAllMatchesCompleted(tournament);
     }
 
     /**
-     * Records the result of a match and updates the tournament brackets accordingly.
-     * If all matches are completed, proceeds to the next round of matchmaking.
+     * Saves the tournament. Every match of the bracket is scheduled by the result that fills it,
+     * so there is no round to generate.
      *
-     * @param match the match whose result is being recorded.
-     * @return the updated tournament.
+     * @param tournament the completed tournament.
+     * @return the saved tournament.
      */
     @Override
     @Transactional
+    public Tournament advanceRound(Tournament tournament) {
+        return tournamentRepository.save(tournament);
+    }
 
-    public Tournament receiveMatchResult(Match match) {
-        Tournament tournament = match.getTournament();
-        handleLoserMovement(match, tournament);
+    /**
+     * Moves the winner and loser of a match on to their next matches and updates the Elo ratings of both players.
+     *
+     * @param match the match whose result is being recorded.
+     * @param tournament the tournament the match belongs to.
+     */
+    private void recordResult(Match match, Tournament tournament) {
+        advancePlayers(match, tournament);
         eloService.updateEloRatings(match.getPlayer1(), match.getPlayer2(), match);
-
-        if (!areAllMatchesCompleted(tournament)) {
-            return tournamentRepository.save(tournament);
-        }
-
-        if (shouldCreateFinalMatches(tournament)) {
-            createFinalMatches(tournament);
-        } else {
-            createRegularMatches(tournament);
-        }
-
-        return tournamentRepository.save(tournament);
     }
 
     /**
-     * Determines the winner of a completed tournament.
+     * Determines the winner of a completed tournament: the winner of the grand final if the bracket was reset,
+     * otherwise the winner of the final.
      *
      * @param tournament the completed tournament.
      * @return the winner of the tournament.
@@ -232,12 +315,17 @@ public class DoubleEliminationManagerImpl implements TournamentFormatManager {
             throw new IllegalStateException("Tournament is not completed. Winner cannot be determined.");
         }
 
-        return tournament.getMatches().stream()
-                .reduce((match1,match2) -> match1.getId() > match2.getId() ? match1 : match2)
-                .orElseThrow(()->new IllegalStateException("There seems to be no winner"))
-                .getWinner();
+        Match finalMatch = null;
+        for (Match match : tournament.getMatches()) {
+            if (match.getBracket() == MatchBracket.GRAND_FINAL && match.getStatus() == MatchStatus.COMPLETED) {
+                return match.getWinner();
+            } else if (match.getBracket() == MatchBracket.FINAL) {
+                finalMatch = match;
+            }
+        }
+        if (finalMatch == null || finalMatch.getWinner() == null) {
+            throw new IllegalStateException("There seems to be no winner");
+        }
+        return finalMatch.getWinner();
     }
 }
-
-
-
@@ -0,0 +1,205 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.dtos.EloHistoryPointDto;
+import com.cs203.cs203system.enums.EloHistoryResolution;
+import com.cs203.cs203system.model.EloRatingBucket;
+import com.cs203.cs203system.model.EloRecord;
+import com.cs203.cs203system.repository.EloRatingBucketRepository;
+import com.cs203.cs203system.repository.EloRecordRepository;
+import com.cs203.cs203system.service.EloHistoryService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link EloHistoryService} interface, keeping a time-bucketed summary of every player's
+ * Elo rating in the {@code elo_rating_bucket} table.
+ * <p>
+ * Each rating change extends the current daily and weekly bucket of its player, so a history query reads one row
+ * per day or week rather than every Elo record. When even those are more than the requested number of points,
+ * neighbouring buckets are merged, so the size of a chart does not depend on how long the player has played.
+ * The buckets are rebuilt from the Elo records once the application is ready.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EloHistoryServiceImpl implements EloHistoryService {
+
+    private final EloRatingBucketRepository eloRatingBucketRepository;
+    private final EloRecordRepository eloRecordRepository;
+
+    /**
+     * Constructs an EloHistoryServiceImpl with the necessary dependencies.
+     *
+     * @param eloRatingBucketRepository the repository for the rating buckets
+     * @param eloRecordRepository the repository for reading the Elo records when rebuilding the buckets
+     */
+    @Autowired
+    public EloHistoryServiceImpl(EloRatingBucketRepository eloRatingBucketRepository,
+                                 EloRecordRepository eloRecordRepository) {
+        this.eloRatingBucketRepository = eloRatingBucketRepository;
+        this.eloRecordRepository = eloRecordRepository;
+    }
+
+    /**
+     * Folds new rating changes into the daily and weekly buckets of their players.
+     * Changes falling into the same bucket are combined first, so each bucket is written once.
+     * <p>
+     * Two transactions can both find a bucket missing and both insert it, in which case the second insert breaks
+     * the bucket's unique key. That is reported as an {@link OptimisticLockingFailureException}, so the
+     * {@link TournamentUpdateExecutor} runs the update again, and the retry extends the bucket the other
+     * transaction created.
+     * </p>
+     *
+     * @param records the new Elo records, in the order the changes happened
+     * @throws OptimisticLockingFailureException if a new bucket was created concurrently
+     */
+    @Override
+    @Transactional
+    public void recordRatingChanges(Collection<EloRecord> records) {
+        Map<BucketKey, EloRatingBucket> changes = new LinkedHashMap<>();
+        for (EloRecord record : records) {
+            if (record.getPlayer() != null) {
+                addChange(changes, record.getPlayer().getId(), record.getDate(), record.getOldRating(), record.getNewRating());
+            }
+        }
+
+        // Run every update before saving any new bucket, so the inserts are not flushed one by one
+        List<EloRatingBucket> newBuckets = new ArrayList<>();
+        for (EloRatingBucket change : changes.values()) {
+            int updated = eloRatingBucketRepository.extendBucket(change.getPlayerId(), change.getResolution(),
+                    change.getBucketStart(), change.getMinRating(), change.getMaxRating(), change.getCloseRating(),
+                    change.getChanges());
+            if (updated == 0) {
+                newBuckets.add(change);
+            }
+        }
+        if (newBuckets.isEmpty()) {
+            return;
+        }
+
+        // Flushed here so a clash with a concurrently created bucket is recognised, rather than failing the commit
+        try {
+            eloRatingBucketRepository.saveAllAndFlush(newBuckets);
+        } catch (DataIntegrityViolationException e) {
+            throw new OptimisticLockingFailureException("Elo rating bucket was created concurrently", e);
+        }
+    }
+
+    /**
+     * Retrieves a player's rating history between two dates, with at most {@code maxPoints} points.
+     *
+     * @param playerId the id of the player
+     * @param from the first day of the range, or null for the start of the player's history
+     * @param to the last day of the range, or null for today
+     * @param resolution the bucket width to read, or null to use the finest one that fits in {@code maxPoints}
+     * @param maxPoints the maximum number of points, at least 1
+     * @return the points of the history, oldest first
+     */
+    @Override
+    public List<EloHistoryPointDto> getHistory(Long playerId, LocalDate from, LocalDate to,
+                                               EloHistoryResolution resolution, int maxPoints) {
+        LocalDate start = from == null ? LocalDate.EPOCH : from;
+        LocalDate end = to == null ? LocalDate.now() : to;
+        int points = Math.max(maxPoints, 1);
+
+        if (resolution == null) {
+            long dailyBuckets = eloRatingBucketRepository.countByPlayerIdAndResolutionAndBucketStartBetween(
+                    playerId, EloHistoryResolution.DAILY, start, end);
+            resolution = dailyBuckets <= points ? EloHistoryResolution.DAILY : EloHistoryResolution.WEEKLY;
+        }
+
+        List<EloRatingBucket> buckets = eloRatingBucketRepository
+                .findByPlayerIdAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(playerId, resolution, start, end);
+        return downsample(buckets, points);
+    }
+
+    /**
+     * Recomputes every bucket from the Elo records, replacing the stored buckets.
+     * Runs at startup so that rating changes recorded before the buckets were maintained are included.
+     */
+    @Override
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildHistory() {
+        Map<BucketKey, EloRatingBucket> buckets = new LinkedHashMap<>();
+        try (Stream<EloRecordRepository.RatingChangeView> changes = eloRecordRepository.streamRatingChanges()) {
+            changes.forEach(change -> addChange(buckets, change.getPlayerId(), change.getDate(),
+                    change.getOldRating(), change.getNewRating()));
+        }
+
+        eloRatingBucketRepository.deleteAllInBatch();
+        eloRatingBucketRepository.saveAll(buckets.values());
+        log.info("Elo history rebuilt with {} buckets", buckets.size());
+    }
+
+    /**
+     * Adds a rating change to the buckets of every resolution it falls into.
+     */
+    private static void addChange(Map<BucketKey, EloRatingBucket> buckets, Long playerId, LocalDateTime date,
+                                  Double oldRating, Double newRating) {
+        if (playerId == null || date == null || oldRating == null || newRating == null) {
+            return;
+        }
+        for (EloHistoryResolution resolution : EloHistoryResolution.values()) {
+            LocalDate bucketStart = resolution.bucketStart(date.toLocalDate());
+            BucketKey key = new BucketKey(playerId, resolution, bucketStart);
+            EloRatingBucket bucket = buckets.get(key);
+            if (bucket == null) {
+                buckets.put(key, EloRatingBucket.builder()
+                        .playerId(playerId)
+                        .resolution(resolution)
+                        .bucketStart(bucketStart)
+                        .openRating(oldRating)
+                        .minRating(Math.min(oldRating, newRating))
+                        .maxRating(Math.max(oldRating, newRating))
+                        .closeRating(newRating)
+                        .changes(1)
+                        .build());
+            } else {
+                bucket.setMinRating(Math.min(bucket.getMinRating(), newRating));
+                bucket.setMaxRating(Math.max(bucket.getMaxRating(), newRating));
+                bucket.setCloseRating(newRating);
+                bucket.setChanges(bucket.getChanges() + 1);
+            }
+        }
+    }
+
+    /**
+     * Merges runs of neighbouring buckets so that there are at most {@code maxPoints} of them.
+     * A merged point opens like its first bucket, closes like its last, and spans the extremes of all of them.
+     */
+    static List<EloHistoryPointDto> downsample(List<EloRatingBucket> buckets, int maxPoints) {
+        int groupSize = (buckets.size() + maxPoints - 1) / maxPoints;
+        List<EloHistoryPointDto> points = new ArrayList<>(Math.min(buckets.size(), maxPoints));
+        for (int i = 0; i < buckets.size(); i += groupSize) {
+            List<EloRatingBucket> group = buckets.subList(i, Math.min(i + groupSize, buckets.size()));
+            EloRatingBucket first = group.get(0);
+            EloRatingBucket last = group.get(group.size() - 1);
+            double min = first.getMinRating();
+            double max = first.getMaxRating();
+            int changes = 0;
+            for (EloRatingBucket bucket : group) {
+                min = Math.min(min, bucket.getMinRating());
+                max = Math.max(max, bucket.getMaxRating());
+                changes += bucket.getChanges();
+            }
+            points.add(new EloHistoryPointDto(first.getBucketStart(), first.getOpenRating(), min, max,
+                    last.getCloseRating(), changes));
+        }
+        return points;
+    }
+
+    private record BucketKey(Long playerId, EloHistoryResolution resolution, LocalDate bucketStart) {
+    }
+}
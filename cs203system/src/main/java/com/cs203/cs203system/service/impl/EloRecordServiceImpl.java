@@ -1,18 +1,22 @@
 package com.cs203.cs203system.service.impl;
 
+import com.cs203.cs203system.dtos.EloRecordResponseDto;
 import com.cs203.cs203system.exceptions.NotFoundException;
 import com.cs203.cs203system.model.EloRecord;
 import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Player;
 import com.cs203.cs203system.repository.EloRecordRepository;
 import com.cs203.cs203system.service.EloRecordService;
-import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for managing Elo records.
@@ -45,6 +49,31 @@ public class EloRecordServiceImpl implements EloRecordService {
         return eloRecordRepository.findAll();
     }
 
+    /**
+     * Retrieves a page of Elo records in id order, starting after the given id.
+     *
+     * @param afterId the id of the last record of the previous page, 0 for the first page
+     * @param limit the maximum number of records to return
+     * @return the records of the page
+     */
+    @Override
+    public List<EloRecordResponseDto> findEloRecordsAfter(Long afterId, int limit) {
+        return eloRecordRepository.findDtosAfter(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Hands every Elo record to the consumer in id order, reading them from the database in chunks.
+     *
+     * @param consumer receives each record, inside the export's read-only transaction
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportEloRecords(Consumer<EloRecordResponseDto> consumer) {
+        try (Stream<EloRecordResponseDto> records = eloRecordRepository.streamAllDtos()) {
+            records.forEach(consumer);
+        }
+    }
+
     /**
      * Retrieves all Elo records for a specific player.
      *
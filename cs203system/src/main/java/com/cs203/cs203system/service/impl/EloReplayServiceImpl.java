@@ -0,0 +1,213 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.dtos.EloReplayReportDto;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.EloRecord;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.repository.EloRecordRepository;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.repository.PlayerRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.EloHistoryService;
+import com.cs203.cs203system.service.EloReplayService;
+import com.cs203.cs203system.service.LeaderboardService;
+import com.cs203.cs203system.utility.EloReplay;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of the {@link EloReplayService} interface.
+ * <p>
+ * The completed matches are streamed into an {@link EloReplay} ordered by match date, then id, and each player
+ * starts from the rating recorded before their first match. Applying a replay rewrites the Elo record of every
+ * match with the replayed ratings, dated at the match, and rebuilds the rating history and the leaderboard from
+ * them. Manual rating adjustments, which are not tied to a match, are kept as they are.
+ * </p>
+ */
+@Slf4j
+@Service
+public class EloReplayServiceImpl implements EloReplayService {
+
+    private static final int LARGEST_CHANGES = 20;
+    private static final int RECORD_BATCH_SIZE = 500;
+    private static final double RATING_TOLERANCE = 1e-6;
+
+    private final MatchRepository matchRepository;
+    private final PlayerRepository playerRepository;
+    private final EloRecordRepository eloRecordRepository;
+    private final TournamentRepository tournamentRepository;
+    private final EloHistoryService eloHistoryService;
+    private final LeaderboardService leaderboardService;
+    private final EntityManager entityManager;
+
+    /**
+     * Constructs an EloReplayServiceImpl with the necessary dependencies.
+     *
+     * @param matchRepository the repository for reading the completed matches
+     * @param playerRepository the repository for reading and updating the players' ratings
+     * @param eloRecordRepository the repository for replacing the Elo records of the matches
+     * @param tournamentRepository the repository for checking that no tournament is ongoing
+     * @param eloHistoryService the service rebuilding the rating history after a replay is applied
+     * @param leaderboardService the service ranking the players by rating
+     * @param entityManager the entity manager, cleared between batches of new Elo records
+     */
+    @Autowired
+    public EloReplayServiceImpl(MatchRepository matchRepository,
+                                PlayerRepository playerRepository,
+                                EloRecordRepository eloRecordRepository,
+                                TournamentRepository tournamentRepository,
+                                EloHistoryService eloHistoryService,
+                                LeaderboardService leaderboardService,
+                                EntityManager entityManager) {
+        this.matchRepository = matchRepository;
+        this.playerRepository = playerRepository;
+        this.eloRecordRepository = eloRecordRepository;
+        this.tournamentRepository = tournamentRepository;
+        this.eloHistoryService = eloHistoryService;
+        this.leaderboardService = leaderboardService;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Recomputes every player's Elo rating by replaying all completed matches.
+     *
+     * @param dryRun true to only compare the replayed ratings with the current ones
+     * @return a report of the replay and of the largest rating changes
+     * @throws IllegalStateException if the ratings would be replaced while a tournament is ongoing
+     */
+    @Override
+    @Transactional
+    public EloReplayReportDto replay(boolean dryRun) {
+        if (!dryRun && tournamentRepository.existsByStatus(TournamentStatus.ONGOING)) {
+            throw new IllegalStateException("Elo ratings cannot be replayed while a tournament is ongoing.");
+        }
+
+        EloReplay replay = new EloReplay();
+        List<LocalDateTime> matchDates = new ArrayList<>();
+        try (Stream<MatchRepository.ReplayView> matches = matchRepository.streamCompletedMatchesForReplay()) {
+            matches.forEach(match -> {
+                replay.addMatch(match.getId(), match.getTournamentId(), match.getPlayer1Id(), match.getPlayer2Id(),
+                        match.getPlayer1Score(), match.getPlayer2Score(),
+                        match.getPunchesPlayer1(), match.getPunchesPlayer2(),
+                        match.getDodgesPlayer1(), match.getDodgesPlayer2(),
+                        match.isKoByPlayer1(), match.isKoByPlayer2());
+                matchDates.add(match.getMatchDate());
+            });
+        }
+        for (EloRecordRepository.StartingRatingView start : eloRecordRepository.findStartingRatings()) {
+            if (start.getOldRating() != null) {
+                replay.setInitialRating(start.getPlayerId(), start.getOldRating());
+            }
+        }
+
+        long started = System.nanoTime();
+        replay.run();
+        long replayMillis = (System.nanoTime() - started) / 1_000_000;
+
+        List<EloReplayReportDto.RatingDiff> diffs = diff(replay);
+        double maxRatingChange = diffs.isEmpty() ? 0.0 : change(diffs.get(0));
+
+        if (!dryRun) {
+            apply(replay, matchDates);
+        }
+        log.info("Replayed {} matches of {} players in {} groups in {} ms, {} ratings differ{}",
+                replay.getMatchCount(), replay.getPlayerCount(), replay.getGroupCount(), replayMillis,
+                diffs.size(), dryRun ? " (dry run)" : "");
+
+        return new EloReplayReportDto(dryRun, replay.getMatchCount(), replay.getPlayerCount(),
+                replay.getGroupCount(), replayMillis, diffs.size(), maxRatingChange,
+                List.copyOf(diffs.subList(0, Math.min(LARGEST_CHANGES, diffs.size()))));
+    }
+
+    /**
+     * Compares the replayed ratings with the current ones, largest change first.
+     */
+    private List<EloReplayReportDto.RatingDiff> diff(EloReplay replay) {
+        Map<Long, Double> currentRatings = new HashMap<>();
+        for (PlayerRepository.EloRatingView player : playerRepository.findAllEloRatings()) {
+            currentRatings.put(player.getId(), player.getEloRating());
+        }
+
+        List<EloReplayReportDto.RatingDiff> diffs = new ArrayList<>();
+        for (int player = 0; player < replay.getPlayerCount(); player++) {
+            Double current = currentRatings.get(replay.getPlayerId(player));
+            double replayed = replay.getFinalRating(player);
+            if (current == null || Math.abs(replayed - current) > RATING_TOLERANCE) {
+                diffs.add(new EloReplayReportDto.RatingDiff(replay.getPlayerId(player), current == null ? 0.0 : current, replayed));
+            }
+        }
+        diffs.sort(Comparator.comparingDouble(EloReplayServiceImpl::change).reversed());
+        return diffs;
+    }
+
+    private static double change(EloReplayReportDto.RatingDiff diff) {
+        return Math.abs(diff.getReplayedRating() - diff.getCurrentRating());
+    }
+
+    /**
+     * Replaces the players' ratings and the Elo records of every match with the replayed ones.
+     */
+    private void apply(EloReplay replay, List<LocalDateTime> matchDates) {
+        Map<Long, Player> players = playerRepository.findAll().stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+        for (int player = 0; player < replay.getPlayerCount(); player++) {
+            Player entity = players.get(replay.getPlayerId(player));
+            if (entity != null) {
+                entity.setEloRating(replay.getFinalRating(player));
+            }
+        }
+
+        // Flushes the new ratings before the records are deleted
+        eloRecordRepository.deleteMatchRecords();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<EloRecord> batch = new ArrayList<>(RECORD_BATCH_SIZE);
+        for (int i = 0; i < replay.getMatchCount(); i++) {
+            Player player1 = players.get(replay.getPlayer1Id(i));
+            Player player2 = players.get(replay.getPlayer2Id(i));
+            LocalDateTime date = matchDates.get(i) == null ? now : matchDates.get(i);
+            batch.add(buildEloRecord(player1, i, replay, date, replay.getPlayer1RatingBefore(i),
+                    replay.getPlayer1RatingAfter(i), player2));
+            batch.add(buildEloRecord(player2, i, replay, date, replay.getPlayer2RatingBefore(i),
+                    replay.getPlayer2RatingAfter(i), player1));
+            if (batch.size() >= RECORD_BATCH_SIZE) {
+                saveBatch(batch);
+            }
+        }
+        saveBatch(batch);
+
+        leaderboardService.updateRatings(players.values());
+        eloHistoryService.rebuildHistory();
+    }
+
+    private EloRecord buildEloRecord(Player player, int match, EloReplay replay, LocalDateTime date,
+                                     double oldRating, double newRating, Player opponent) {
+        return EloRecord.builder()
+                .player(player)
+                .match(matchRepository.getReferenceById(replay.getMatchId(match)))
+                .date(date)
+                .oldRating(oldRating)
+                .newRating(newRating)
+                .changeReason("Match against " + opponent.getName())
+                .build();
+    }
+
+    /**
+     * Inserts a batch of Elo records and detaches them, so the persistence context does not grow with the replay.
+     */
+    private void saveBatch(List<EloRecord> batch) {
+        eloRecordRepository.saveAll(batch);
+        eloRecordRepository.flush();
+        entityManager.clear();
+        batch.clear();
+    }
+}
@@ -4,35 +4,45 @@ import com.cs203.cs203system.model.EloRecord;
 import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Player;
 import com.cs203.cs203system.repository.EloRecordRepository;
+import com.cs203.cs203system.service.EloHistoryService;
 import com.cs203.cs203system.service.EloService;
+import com.cs203.cs203system.service.LeaderboardService;
+import com.cs203.cs203system.utility.EloCalculator;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Service implementation for calculating and updating Elo ratings.
  *
- * This service calculates updated Elo ratings for players after each match,
+ * This service calculates updated Elo ratings for players after each match with {@link EloCalculator},
  * taking into account factors such as punches, dodges, and knockouts.
  * It also saves Elo record history for each rating change.
  */
 @Service
 public class EloServiceImpl implements EloService {
 
-    private static final int K_FACTOR = 32; // ELO constant
-
     private final EloRecordRepository eloRecordRepository;
+    private final LeaderboardService leaderboardService;
+    private final EloHistoryService eloHistoryService;
 
     /**
-     * Constructs an EloServiceImpl with the necessary dependency.
+     * Constructs an EloServiceImpl with the necessary dependencies.
      *
      * @param eloRecordRepository the repository for saving Elo records
+     * @param leaderboardService the service keeping the leaderboard in sync with the new ratings
+     * @param eloHistoryService the service folding the new ratings into the players' rating history
      */
     @Autowired
-    public EloServiceImpl(EloRecordRepository eloRecordRepository) {
+    public EloServiceImpl(EloRecordRepository eloRecordRepository, LeaderboardService leaderboardService,
+                          EloHistoryService eloHistoryService) {
         this.eloRecordRepository = eloRecordRepository;
+        this.leaderboardService = leaderboardService;
+        this.eloHistoryService = eloHistoryService;
     }
 
     /**
@@ -48,6 +58,50 @@ public class EloServiceImpl implements EloService {
     @Override
     @Transactional
     public void updateEloRatings(Player player1, Player player2, Match match) {
+        List<EloRecord> records = applyMatch(player1, player2, match);
+        for (EloRecord record : records) {
+            eloRecordRepository.save(record);
+        }
+        eloHistoryService.recordRatingChanges(records);
+        leaderboardService.updateRatings(List.of(player1, player2));
+    }
+
+    /**
+     * Updates the Elo ratings of the players of many matches, applying the matches in order so that a
+     * player appearing more than once carries their rating from one match to the next.
+     * <p>
+     * Every Elo record is saved in a single call, and each player's rating is only written once when the
+     * persistence context is flushed, so both end up in JDBC batches instead of one statement per change.
+     * </p>
+     *
+     * @param matches the completed matches, in the order they were played
+     * @throws IllegalArgumentException if the scores of a match are null
+     * @throws IllegalStateException if both players of a match are recorded as having performed a KO
+     */
+    @Override
+    @Transactional
+    public void updateEloRatings(List<Match> matches) {
+        List<EloRecord> records = new ArrayList<>(matches.size() * 2);
+        List<Player> players = new ArrayList<>(matches.size() * 2);
+        for (Match match : matches) {
+            records.addAll(applyMatch(match.getPlayer1(), match.getPlayer2(), match));
+            players.add(match.getPlayer1());
+            players.add(match.getPlayer2());
+        }
+        eloRecordRepository.saveAll(records);
+        eloHistoryService.recordRatingChanges(records);
+        leaderboardService.updateRatings(players);
+    }
+
+    /**
+     * Calculates and applies the new Elo ratings of two players after a match.
+     *
+     * @param player1 the first player in the match
+     * @param player2 the second player in the match
+     * @param match the match containing player scores and other metrics
+     * @return the Elo records of both players, not saved yet
+     */
+    private List<EloRecord> applyMatch(Player player1, Player player2, Match match) {
         Integer player1Score = match.getPlayer1Score();
         Integer player2Score = match.getPlayer2Score();
 
@@ -55,10 +109,6 @@ public class EloServiceImpl implements EloService {
             throw new IllegalArgumentException("Player scores must not be null.");
         }
 
-        // Determine actual scores for Elo calculation
-        double actualScorePlayer1 = player1Score > player2Score ? 1.0 : (player1Score < player2Score ? 0.0 : 0.5);
-        double actualScorePlayer2 = 1.0 - actualScorePlayer1;
-
         // Retrieve additional metrics
         int punchesPlayer1 = match.getPunchesPlayer1();
         int punchesPlayer2 = match.getPunchesPlayer2();
@@ -75,29 +125,20 @@ public class EloServiceImpl implements EloService {
         double oldEloPlayer1 = player1.getEloRating();
         double oldEloPlayer2 = player2.getEloRating();
 
-        // Calculate expected scores based on Elo ratings
-        double expectedScorePlayer1 = expectedScore(player1.getEloRating(), player2.getEloRating());
-        double expectedScorePlayer2 = expectedScore(player2.getEloRating(), player1.getEloRating());
-
-        // Apply additional factors, with reduced weight for the losing player
-        double punchFactorPlayer1 = actualScorePlayer1 == 1.0 ? calculatePunchFactor(punchesPlayer1, punchesPlayer2) : calculatePunchFactor(punchesPlayer1, punchesPlayer2) * 0.5;
-        double punchFactorPlayer2 = actualScorePlayer2 == 1.0 ? calculatePunchFactor(punchesPlayer2, punchesPlayer1) : calculatePunchFactor(punchesPlayer2, punchesPlayer1) * 0.5;
-        double dodgeFactorPlayer1 = actualScorePlayer1 == 1.0 ? calculateDodgeFactor(dodgesPlayer1, dodgesPlayer2) : calculateDodgeFactor(dodgesPlayer1, dodgesPlayer2) * 0.5;
-        double dodgeFactorPlayer2 = actualScorePlayer2 == 1.0 ? calculateDodgeFactor(dodgesPlayer2, dodgesPlayer1) : calculateDodgeFactor(dodgesPlayer2, dodgesPlayer1) * 0.5;
-        double koFactorPlayer1 = actualScorePlayer1 == 1.0 && koByPlayer1 ? calculateKOFactor(true) : 0;
-        double koFactorPlayer2 = actualScorePlayer2 == 1.0 && koByPlayer2 ? calculateKOFactor(true) : 0;
-
         // Calculate new Elo ratings with adjusted factors
-        double newEloPlayer1 = player1.getEloRating() + K_FACTOR * (actualScorePlayer1 - expectedScorePlayer1) + punchFactorPlayer1 + dodgeFactorPlayer1 + koFactorPlayer1;
-        double newEloPlayer2 = player2.getEloRating() + K_FACTOR * (actualScorePlayer2 - expectedScorePlayer2) + punchFactorPlayer2 + dodgeFactorPlayer2 + koFactorPlayer2;
+        double newEloPlayer1 = EloCalculator.newRating(oldEloPlayer1, oldEloPlayer2, player1Score, player2Score,
+                punchesPlayer1, punchesPlayer2, dodgesPlayer1, dodgesPlayer2, koByPlayer1);
+        double newEloPlayer2 = EloCalculator.newRating(oldEloPlayer2, oldEloPlayer1, player2Score, player1Score,
+                punchesPlayer2, punchesPlayer1, dodgesPlayer2, dodgesPlayer1, koByPlayer2);
 
         // Update players' Elo ratings
         player1.setEloRating(newEloPlayer1);
         player2.setEloRating(newEloPlayer2);
 
-        // Save Elo records for historical tracking
-        saveEloRecord(player1, match, oldEloPlayer1, newEloPlayer1, "Match against " + player2.getName());
-        saveEloRecord(player2, match, oldEloPlayer2, newEloPlayer2, "Match against " + player1.getName());
+        // Build Elo records for historical tracking
+        return List.of(
+                buildEloRecord(player1, match, oldEloPlayer1, newEloPlayer1, "Match against " + player2.getName()),
+                buildEloRecord(player2, match, oldEloPlayer2, newEloPlayer2, "Match against " + player1.getName()));
     }
 
     /**
@@ -108,60 +149,21 @@ public class EloServiceImpl implements EloService {
      * @return the expected score of the player
      */
     public double expectedScore(double playerElo, double opponentElo) {
-        return 1 / (1 + Math.pow(10, (opponentElo - playerElo) / 400));
-    }
-
-    /**
-     * Calculates the punch factor for the Elo adjustment based on punches landed.
-     *
-     * @param punchesPlayer1 punches landed by player1
-     * @param punchesPlayer2 punches landed by player2
-     * @return the punch factor for Elo adjustment
-     */
-    private double calculatePunchFactor(int punchesPlayer1, int punchesPlayer2) {
-        int totalPunches = punchesPlayer1 + punchesPlayer2;
-        if (totalPunches == 0) return 0;
-
-        double punchRatio = (double) punchesPlayer1 / totalPunches;
-        return K_FACTOR * (punchRatio - 0.5); // Adjust to give more points to higher punch ratio
+        return EloCalculator.expectedScore(playerElo, opponentElo);
     }
 
     /**
-     * Calculates the dodge factor for the Elo adjustment based on dodges performed.
-     *
-     * @param dodgesPlayer1 dodges performed by player1
-     * @param dodgesPlayer2 dodges performed by player2
-     * @return the dodge factor for Elo adjustment
-     */
-    private double calculateDodgeFactor(int dodgesPlayer1, int dodgesPlayer2) {
-        int totalDodges = dodgesPlayer1 + dodgesPlayer2;
-        if (totalDodges == 0) return 0;
-
-        double dodgeRatio = (double) dodgesPlayer1 / totalDodges;
-        return K_FACTOR * (dodgeRatio - 0.5); // Adjust to reward higher dodge performance
-    }
-
-    /**
-     * Calculates the knockout factor for the Elo adjustment based on a KO win.
-     *
-     * @param isKO indicates if the player won by knockout
-     * @return the knockout factor for Elo adjustment
-     */
-    private double calculateKOFactor(boolean isKO) {
-        return isKO ? K_FACTOR * 1.5 : 0; // Example: Bonus points for a knockout win
-    }
-
-    /**
-     * Saves an Elo record for a player to track rating changes.
+     * Builds an Elo record for a player to track rating changes.
      *
      * @param player the player whose Elo rating has changed
      * @param match the match associated with the Elo change
      * @param oldRating the player's Elo rating before the match
      * @param newRating the player's Elo rating after the match
      * @param reason the reason for the Elo change
+     * @return the Elo record
      */
-    private void saveEloRecord(Player player, Match match, double oldRating, double newRating, String reason) {
-        EloRecord record = EloRecord.builder()
+    private EloRecord buildEloRecord(Player player, Match match, double oldRating, double newRating, String reason) {
+        return EloRecord.builder()
                 .player(player)
                 .match(match)
                 .oldRating(oldRating)
@@ -169,7 +171,5 @@ public class EloServiceImpl implements EloService {
                 .changeReason(reason)
                 .date(LocalDateTime.now())
                 .build();
-
-        eloRecordRepository.save(record);
     }
 }
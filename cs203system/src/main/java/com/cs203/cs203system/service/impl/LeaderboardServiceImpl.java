@@ -0,0 +1,162 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.dtos.players.RankedPlayerDto;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.repository.PlayerRepository;
+import com.cs203.cs203system.service.LeaderboardService;
+import com.cs203.cs203system.utility.Leaderboard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves the Elo leaderboard from an in-memory rank index instead of sorting every player on each request.
+ * <p>
+ * The index only holds player ids and ratings. It is rebuilt from the database once the application is ready,
+ * then kept in sync as ratings change. Changes made inside a transaction are applied once it commits, so the
+ * index never shows ratings that were rolled back. Only the players of the requested page are loaded.
+ * </p>
+ */
+@Slf4j
+@Service
+public class LeaderboardServiceImpl implements LeaderboardService {
+
+    private final Leaderboard leaderboard = new Leaderboard();
+    private final PlayerRepository playerRepository;
+
+    /**
+     * Constructs a LeaderboardServiceImpl with the necessary dependency.
+     *
+     * @param playerRepository the repository for reading player ratings and details
+     */
+    @Autowired
+    public LeaderboardServiceImpl(PlayerRepository playerRepository) {
+        this.playerRepository = playerRepository;
+    }
+
+    /**
+     * Rebuilds the index from the ratings stored in the database.
+     * Runs at startup, after the data loaders have created their players.
+     */
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Map<Long, Double> ratings = new HashMap<>();
+        for (PlayerRepository.EloRatingView view : playerRepository.findAllEloRatings()) {
+            ratings.put(view.getId(), view.getEloRating());
+        }
+        leaderboard.rebuild(ratings);
+        log.info("Leaderboard rebuilt with {} players", ratings.size());
+    }
+
+    /**
+     * Records the current ratings of players, adding the ones that are not ranked yet.
+     * Inside a transaction the ratings are captured now and applied after commit.
+     *
+     * @param players the players whose rating may have changed
+     */
+    @Override
+    public void updateRatings(Collection<Player> players) {
+        Map<Long, Double> ratings = new HashMap<>();
+        for (Player player : players) {
+            if (player.getId() != null && player.getEloRating() != null) {
+                ratings.put(player.getId(), player.getEloRating());
+            }
+        }
+        if (!ratings.isEmpty()) {
+            afterCommit(() -> ratings.forEach(leaderboard::put));
+        }
+    }
+
+    /**
+     * Removes a player from the leaderboard, after commit when called inside a transaction.
+     *
+     * @param playerId the id of the removed player
+     */
+    @Override
+    public void removePlayer(Long playerId) {
+        afterCommit(() -> leaderboard.remove(playerId));
+    }
+
+    /**
+     * Retrieves a page of the leaderboard.
+     *
+     * @param offset the number of best ranked players to skip
+     * @param limit the maximum number of players to return
+     * @return the ranked players of the page, best ranked first
+     */
+    @Override
+    public List<RankedPlayerDto> getRanking(int offset, int limit) {
+        return toDtos(leaderboard.range(Math.max(offset, 0) + 1, limit));
+    }
+
+    /**
+     * Retrieves the rank of a player.
+     *
+     * @param playerId the id of the player
+     * @return the ranked player, or empty if the player is not on the leaderboard
+     */
+    @Override
+    public Optional<RankedPlayerDto> getRank(Long playerId) {
+        return leaderboard.find(playerId)
+                .map(List::of)
+                .map(this::toDtos)
+                .flatMap(dtos -> dtos.stream().findFirst());
+    }
+
+    /**
+     * Retrieves the players ranked just above and below a player.
+     *
+     * @param playerId the id of the player
+     * @param radius the number of places to include on each side of the player
+     * @return the ranked players around the player, including the player, best ranked first
+     */
+    @Override
+    public List<RankedPlayerDto> getPlayersAround(Long playerId, int radius) {
+        return toDtos(leaderboard.around(playerId, radius));
+    }
+
+    /**
+     * Loads the players of the given entries and pairs them with their rank.
+     * Players deleted since the entries were read are skipped.
+     */
+    private List<RankedPlayerDto> toDtos(List<Leaderboard.Entry> entries) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Player> players = playerRepository
+                .findAllById(entries.stream().map(Leaderboard.Entry::playerId).toList())
+                .stream()
+                .collect(Collectors.toMap(Player::getId, Function.identity()));
+
+        List<RankedPlayerDto> dtos = new ArrayList<>(entries.size());
+        for (Leaderboard.Entry entry : entries) {
+            Player player = players.get(entry.playerId());
+            if (player != null) {
+                dtos.add(new RankedPlayerDto(entry.rank(), player.getId(), player.getUsername(), player.getName(), entry.eloRating()));
+            }
+        }
+        return dtos;
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
@@ -5,12 +5,19 @@ import com.cs203.cs203system.exceptions.NotFoundException;
 import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.repository.MatchRepository;
 import com.cs203.cs203system.service.MatchService;
-import jakarta.transaction.Transactional;
+import com.cs203.cs203system.service.PlayerStatsService;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service implementation for Match-related operations.
@@ -19,16 +26,26 @@ import java.util.List;
 @Service
 public class MatchServiceImpl implements MatchService {
 
+    // Matches exported between two clears of the persistence context
+    private static final int EXPORT_CLEAR_INTERVAL = 500;
+
     private final MatchRepository matchRepository;
+    private final PlayerStatsService playerStatsService;
+    private final EntityManager entityManager;
 
     /**
      * Constructor for MatchServiceImpl.
      *
      * @param matchRepository Repository to interact with the match database.
+     * @param playerStatsService Service keeping the players' statistics totals up to date.
+     * @param entityManager Entity manager, cleared while exporting so that exported matches can be collected.
      */
     @Autowired
-    public MatchServiceImpl(MatchRepository matchRepository) {
+    public MatchServiceImpl(MatchRepository matchRepository, PlayerStatsService playerStatsService,
+                            EntityManager entityManager) {
         this.matchRepository = matchRepository;
+        this.playerStatsService = playerStatsService;
+        this.entityManager = entityManager;
     }
 
     /**
@@ -55,6 +72,40 @@ public class MatchServiceImpl implements MatchService {
         return matchRepository.findAll();
     }
 
+    /**
+     * Retrieve a page of matches in id order, starting after the given id.
+     *
+     * @param afterId The id of the last match of the previous page, 0 for the first page.
+     * @param limit   The maximum number of matches to return.
+     * @return The matches of the page, with their players and tournament loaded.
+     */
+    @Override
+    public List<Match> findMatchesAfter(Long afterId, int limit) {
+        return matchRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Hand every match to the consumer in id order, without loading them all at once.
+     * The persistence context is cleared at regular intervals, so the consumer must not keep the matches
+     * it is given.
+     *
+     * @param consumer Receives each match, inside the export's read-only transaction.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportMatches(Consumer<Match> consumer) {
+        try (Stream<Match> matches = matchRepository.streamAllByOrderByIdAsc()) {
+            int exported = 0;
+            Iterator<Match> iterator = matches.iterator();
+            while (iterator.hasNext()) {
+                consumer.accept(iterator.next());
+                if (++exported % EXPORT_CLEAR_INTERVAL == 0) {
+                    entityManager.clear();
+                }
+            }
+        }
+    }
+
     /**
      * Retrieve all matches related to a specific tournament by its ID.
      *
@@ -66,6 +117,30 @@ public class MatchServiceImpl implements MatchService {
         return matchRepository.findByTournamentId(tournamentId);
     }
 
+    /**
+     * Retrieve the matches of a single round of a tournament.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @param round        The round number.
+     * @return A list of matches played in the given round.
+     */
+    @Override
+    public List<Match> findMatchesByTournamentIdAndRound(Long tournamentId, Integer round) {
+        return matchRepository.findByTournamentIdAndRound(tournamentId, round);
+    }
+
+    /**
+     * Retrieve the matches of a tournament that still await a result, which is the current round of any format.
+     *
+     * @param tournamentId The ID of the tournament.
+     * @return A list of scheduled, pending or waiting matches of the tournament.
+     */
+    @Override
+    public List<Match> findOpenMatchesByTournamentId(Long tournamentId) {
+        return matchRepository.findByTournamentIdAndStatusIn(tournamentId,
+                EnumSet.of(MatchStatus.SCHEDULED, MatchStatus.PENDING, MatchStatus.WAITING));
+    }
+
 
     public List<Match> getMatchesOneDayBeforeMatch() {
         // Calculate start and end times for one day before now
@@ -82,6 +157,7 @@ public class MatchServiceImpl implements MatchService {
                                         Integer dodgesPlayer1, Integer dodgesPlayer2,
                                         boolean koByPlayer1, boolean koByPlayer2) {
         Match match = findMatchById(matchId); // Assumes findMatchById throws NotFoundException if not found
+        PlayerStatsService.MatchStats previousStats = PlayerStatsService.MatchStats.of(match);
 
         // Update punches and dodges
         match.setPunchesPlayer1(match.getPunchesPlayer1() + (punchesPlayer1 != null ? punchesPlayer1 : 0));
@@ -94,7 +170,7 @@ public class MatchServiceImpl implements MatchService {
         match.setKoByPlayer2(koByPlayer2);
 
         matchRepository.save(match);
-
+        playerStatsService.recordMatchStats(match, previousStats);
     }
 
     @Override
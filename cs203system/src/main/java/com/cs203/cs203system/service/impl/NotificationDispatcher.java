@@ -0,0 +1,267 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.config.NotificationProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers WebSocket notifications to users from dedicated threads, so the caller only pays for queueing them.
+ * <p>
+ * Users are spread over the dispatcher threads by id, and each thread has its own bounded queue. A broadcast
+ * carries its payload already serialized, wrapped once in a STOMP message that every recipient shares.
+ * A thread takes all the broadcasts waiting in its queue at once, and a user appearing in several of them with
+ * the same payload receives it only once. When a queue stays full for longer than the offer timeout, the
+ * notification is dropped rather than holding up the caller.
+ * </p>
+ * <p>
+ * The queue depth and the number of recipients queued, dropped, coalesced, sent and failed are published as
+ * {@code notifications.*} metrics.
+ * </p>
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    static final String DESTINATION = "/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationProperties properties;
+    private final String userDestinationPrefix;
+    private final Shard[] shards;
+
+    private final Counter queued;
+    private final Counter dropped;
+    private final Counter coalesced;
+    private final Counter sent;
+    private final Counter failed;
+
+    private volatile boolean running = true;
+
+    /**
+     * Constructs a NotificationDispatcher with the necessary dependencies. The threads start once the bean is ready.
+     *
+     * @param messagingTemplate the template for sending messages to users over STOMP
+     * @param properties the dispatcher settings
+     * @param meterRegistry the registry the queue metrics are published to
+     */
+    @Autowired
+    public NotificationDispatcher(SimpMessagingTemplate messagingTemplate, NotificationProperties properties,
+                                  MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.properties = properties;
+        this.userDestinationPrefix = messagingTemplate.getUserDestinationPrefix();
+
+        this.shards = new Shard[Math.max(properties.getThreads(), 1)];
+        for (int i = 0; i < shards.length; i++) {
+            shards[i] = new Shard(i, properties.getQueueCapacity());
+        }
+
+        Gauge.builder("notifications.queue.size", this, NotificationDispatcher::getQueuedBroadcasts)
+                .description("Broadcasts waiting for a dispatcher thread")
+                .register(meterRegistry);
+        this.queued = Counter.builder("notifications.queued").description("Recipients queued").register(meterRegistry);
+        this.dropped = Counter.builder("notifications.dropped").description("Recipients dropped because the queue was full").register(meterRegistry);
+        this.coalesced = Counter.builder("notifications.coalesced").description("Duplicate recipients skipped within a batch").register(meterRegistry);
+        this.sent = Counter.builder("notifications.sent").description("Messages sent to users").register(meterRegistry);
+        this.failed = Counter.builder("notifications.failed").description("Messages that could not be sent").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        for (Shard shard : shards) {
+            shard.thread.start();
+        }
+    }
+
+    /**
+     * Stops the threads once the messages already queued have been sent.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        for (Shard shard : shards) {
+            shard.thread.interrupt();
+        }
+        for (Shard shard : shards) {
+            shard.thread.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * Queues a notification for a set of users.
+     *
+     * @param userIds the ids of the users to notify
+     * @param payload the notification, serialized as JSON
+     */
+    public void dispatch(long[] userIds, byte[] payload) {
+        Message<byte[]> message = MessageBuilder.withPayload(payload)
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build();
+
+        if (shards.length == 1) {
+            offer(shards[0], new Broadcast(message, userIds));
+            return;
+        }
+
+        int[] counts = new int[shards.length];
+        for (long userId : userIds) {
+            counts[shardOf(userId)]++;
+        }
+        long[][] recipients = new long[shards.length][];
+        for (int i = 0; i < shards.length; i++) {
+            recipients[i] = new long[counts[i]];
+            counts[i] = 0;
+        }
+        for (long userId : userIds) {
+            int shard = shardOf(userId);
+            recipients[shard][counts[shard]++] = userId;
+        }
+        for (int i = 0; i < shards.length; i++) {
+            if (recipients[i].length > 0) {
+                offer(shards[i], new Broadcast(message, recipients[i]));
+            }
+        }
+    }
+
+    private int shardOf(long userId) {
+        return (int) Math.floorMod(userId, (long) shards.length);
+    }
+
+    private void offer(Shard shard, Broadcast broadcast) {
+        boolean accepted;
+        try {
+            accepted = shard.queue.offer(broadcast, properties.getOfferTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            accepted = false;
+        }
+
+        if (accepted) {
+            queued.increment(broadcast.userIds().length);
+        } else {
+            dropped.increment(broadcast.userIds().length);
+            log.warn("Notification queue {} is full, dropped a notification for {} users",
+                    shard.index, broadcast.userIds().length);
+        }
+    }
+
+    private void run(Shard shard) {
+        List<Broadcast> batch = new ArrayList<>();
+        while (running) {
+            try {
+                batch.add(shard.queue.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            shard.queue.drainTo(batch, properties.getMaxBatchSize() - 1);
+            deliver(batch);
+            batch.clear();
+        }
+
+        // Send what was queued before shutting down
+        shard.queue.drainTo(batch);
+        deliver(batch);
+    }
+
+    /**
+     * Sends a batch of broadcasts, each distinct payload once to each of its users.
+     */
+    private void deliver(List<Broadcast> batch) {
+        if (batch.size() == 1) {
+            Broadcast broadcast = batch.get(0);
+            for (long userId : broadcast.userIds()) {
+                send(userId, broadcast.message());
+            }
+            return;
+        }
+
+        // Broadcasts with the same payload share one set of recipients
+        Map<PayloadKey, Set<Long>> recipients = new LinkedHashMap<>();
+        Map<PayloadKey, Message<byte[]>> messages = new HashMap<>();
+        for (Broadcast broadcast : batch) {
+            PayloadKey key = new PayloadKey(broadcast.message().getPayload());
+            messages.putIfAbsent(key, broadcast.message());
+            Set<Long> users = recipients.computeIfAbsent(key, k -> new LinkedHashSet<>());
+            for (long userId : broadcast.userIds()) {
+                if (!users.add(userId)) {
+                    coalesced.increment();
+                }
+            }
+        }
+        recipients.forEach((key, users) -> {
+            Message<byte[]> message = messages.get(key);
+            for (long userId : users) {
+                send(userId, message);
+            }
+        });
+    }
+
+    private void send(long userId, Message<byte[]> message) {
+        try {
+            messagingTemplate.send(userDestinationPrefix + userId + DESTINATION, message);
+            sent.increment();
+        } catch (RuntimeException e) {
+            failed.increment();
+            log.warn("Failed to send a notification to user {}", userId, e);
+        }
+    }
+
+    /**
+     * @return The number of broadcasts waiting in all the queues.
+     */
+    public int getQueuedBroadcasts() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.queue.size();
+        }
+        return size;
+    }
+
+    private record Broadcast(Message<byte[]> message, long[] userIds) {
+    }
+
+    /**
+     * Compares payloads by content, so that equal notifications sent separately are recognised as the same.
+     */
+    private record PayloadKey(byte[] payload) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof PayloadKey other && Arrays.equals(payload, other.payload);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(payload);
+        }
+    }
+
+    private final class Shard {
+        private final int index;
+        private final BlockingQueue<Broadcast> queue;
+        private final Thread thread;
+
+        private Shard(int index, int capacity) {
+            this.index = index;
+            this.queue = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+            this.thread = new Thread(() -> run(this), "notification-dispatcher-" + index);
+            this.thread.setDaemon(true);
+        }
+    }
+}
@@ -1,27 +1,40 @@
 package com.cs203.cs203system.service.impl;
 
 import com.cs203.cs203system.Notification.Notification;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
 
+/**
+ * Sends WebSocket notifications to users through the {@link NotificationDispatcher}.
+ * The notification is serialized once here, however many users it goes to, and the call returns as soon as it
+ * is queued.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class NotificationService {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationDispatcher notificationDispatcher;
+    private final ObjectMapper objectMapper;
 
     public void sendNotification(List<Long> userId, Notification notification) {
-        log.info("Sending WS notification to {} with payload {}", userId, notification);
-        for (int i = 0; i < userId.size(); i++) {
-            messagingTemplate.convertAndSendToUser(
-                    userId.get(i).toString(),
-                    "/notifications",
-                    notification
-            );
+        long[] userIds = userId.stream().filter(Objects::nonNull).mapToLong(Long::longValue).toArray();
+        if (userIds.length == 0) {
+            return;
         }
+
+        byte[] payload;
+        try {
+            payload = objectMapper.writeValueAsBytes(notification);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Notification cannot be serialized", e);
+        }
+        log.debug("Queueing WS notification {} for {} users", notification.getStatus(), userIds.length);
+        notificationDispatcher.dispatch(userIds, payload);
     }
 }
@@ -4,7 +4,9 @@ import com.cs203.cs203system.dtos.players.*;
 import com.cs203.cs203system.exceptions.NotFoundException;
 import com.cs203.cs203system.model.Player;
 import com.cs203.cs203system.repository.PlayerRepository;
+import com.cs203.cs203system.service.LeaderboardService;
 import com.cs203.cs203system.service.PlayerService;
+import com.cs203.cs203system.utility.TtlUserCache;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -25,6 +27,8 @@ public class PlayerServiceImpl implements PlayerService {
     private final PlayerRepository playerRepository;
     private final PlayerWithOutStatsDtoMapper playerWithOutStatsDtoMapper;
     private final CreatePlayerMapper createPlayerMapper;
+    private final LeaderboardService leaderboardService;
+    private final TtlUserCache userCache;
 
     /**
      * Constructs a PlayerServiceImpl with the required dependencies.
@@ -32,14 +36,20 @@ public class PlayerServiceImpl implements PlayerService {
      * @param playerRepository the repository for accessing player data
      * @param playerWithOutStatsDtoMapper the mapper for converting Player entities to PlayerWithOutStatsDto
      * @param createPlayerMapper the mapper for converting CreateUserRequest to Player entity
+     * @param leaderboardService the service keeping the leaderboard in sync with created and deleted players
+     * @param userCache the cache of users loaded at login, cleared of players as they are updated or deleted
      */
     @Autowired
     public PlayerServiceImpl(PlayerRepository playerRepository,
                              PlayerWithOutStatsDtoMapper playerWithOutStatsDtoMapper,
-                             CreatePlayerMapper createPlayerMapper) {
+                             CreatePlayerMapper createPlayerMapper,
+                             LeaderboardService leaderboardService,
+                             TtlUserCache userCache) {
         this.playerRepository = playerRepository;
         this.playerWithOutStatsDtoMapper = playerWithOutStatsDtoMapper;
         this.createPlayerMapper = createPlayerMapper;
+        this.leaderboardService = leaderboardService;
+        this.userCache = userCache;
     }
 
     /**
@@ -94,8 +104,10 @@ public class PlayerServiceImpl implements PlayerService {
     public PlayerWithOutStatsDto createPlayer(CreateUserRequest createUserRequest) {
         Player newPlayer = createPlayerMapper
                 .toEntity(createUserRequest);
+        Player savedPlayer = playerRepository.save(newPlayer);
+        leaderboardService.updateRatings(List.of(savedPlayer));
         return playerWithOutStatsDtoMapper
-                .toDto(playerRepository.save(newPlayer));
+                .toDto(savedPlayer);
     }
 
     /**
@@ -112,6 +124,7 @@ public class PlayerServiceImpl implements PlayerService {
                 .findById(id)
                 .orElseThrow(() -> new NotFoundException("Player with id " + id + " not found"));
 
+        userCache.removeUserFromCache(player.getUsername());
         updateRequest.getName().ifPresent(player::setName);
         updateRequest.getEmail().ifPresent(player::setEmail);
         updateRequest.getUsername().ifPresent(player::setUsername);
@@ -129,6 +142,8 @@ public class PlayerServiceImpl implements PlayerService {
     public void deletePlayer(Long id) {
         try {
             playerRepository.deleteById(id);  // Attempt to delete the player by ID
+            leaderboardService.removePlayer(id);
+            userCache.removeUserById(id);
         } catch (EmptyResultDataAccessException e) {
             // If the player doesn't exist, throw EntityNotFoundException
             throw new EntityNotFoundException("Player with ID " + id + " not found.");
@@ -1,70 +1,59 @@
 package com.cs203.cs203system.service.impl;
 
 import com.cs203.cs203system.dtos.players.PlayerStatsDTO;
-import com.cs203.cs203system.dtos.players.PlayerStatsDTOMapper;
 import com.cs203.cs203system.model.Match;
-import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.PlayerStats;
+import com.cs203.cs203system.repository.PlayerStatsRepository;
 import com.cs203.cs203system.service.PlayerStatsService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.ArrayList;
 
 /**
  * Implementation of the {@link PlayerStatsService} interface for managing player statistics.
- * This service calculates player statistics from match data stored in the {@link MatchRepository}.
+ * <p>
+ * Each player's totals are stored in the {@code player_stats} table and updated whenever the statistics of
+ * one of their matches change, so reading them is a single lookup instead of a pass over every match.
+ * The table is rebuilt from the matches once the application is ready, to backfill matches recorded
+ * before it was kept up to date.
+ * </p>
  */
+@Slf4j
 @Service
 public class PlayerStatsServiceImpl implements PlayerStatsService {
 
-    private final MatchRepository matchRepository;
+    private final PlayerStatsRepository playerStatsRepository;
 
     /**
-     * Constructs a new {@code PlayerStatsServiceImpl} with the specified {@link MatchRepository}.
+     * Constructs a new {@code PlayerStatsServiceImpl} with the specified {@link PlayerStatsRepository}.
      *
-     * @param matchRepository the repository for retrieving match data
+     * @param playerStatsRepository the repository for reading and updating player totals
      */
     @Autowired
-    public PlayerStatsServiceImpl(MatchRepository matchRepository) {
-        this.matchRepository = matchRepository;
+    public PlayerStatsServiceImpl(PlayerStatsRepository playerStatsRepository) {
+        this.playerStatsRepository = playerStatsRepository;
     }
 
     /**
-     * Retrieves statistics for all players based on matches found in the repository.
-     * Aggregates statistics like punches, dodges, and KOs for each player from each match they participated in.
+     * Retrieves statistics for all players who have played a match.
      *
      * @return a list of {@link PlayerStatsDTO} objects, each representing the statistics for a player
      */
     @Override
     public List<PlayerStatsDTO> getAllPlayerStats() {
-        List<Match> matches = matchRepository.findAll();
-        Map<Long, PlayerStatsDTO> playerStatsMap = new HashMap<>();
-
-        for (Match match : matches) {
-            // Update stats for player1
-            playerStatsMap.computeIfAbsent(match.getPlayer1().getId(), id ->
-                            PlayerStatsDTOMapper.mapToDto(match.getPlayer1(), 0, 0, 0))
-                    .addPunches(match.getPunchesPlayer1())
-                    .addDodges(match.getDodgesPlayer1())
-                    .addKOs(match.isKoByPlayer1() ? 1 : 0);
-
-            // Update stats for player2
-            playerStatsMap.computeIfAbsent(match.getPlayer2().getId(), id ->
-                            PlayerStatsDTOMapper.mapToDto(match.getPlayer2(), 0, 0, 0))
-                    .addPunches(match.getPunchesPlayer2())
-                    .addDodges(match.getDodgesPlayer2())
-                    .addKOs(match.isKoByPlayer2() ? 1 : 0);
-        }
-
-        return new ArrayList<>(playerStatsMap.values());
+        return playerStatsRepository.findAllPlayerStats();
     }
 
     /**
      * Retrieves the statistics for a specific player by their ID.
-     * Aggregates statistics like punches, dodges, and KOs from matches in which the player participated.
      *
      * @param playerId the ID of the player whose statistics are to be retrieved
      * @return a {@link PlayerStatsDTO} representing the player's statistics;
@@ -72,26 +61,74 @@ public class PlayerStatsServiceImpl implements PlayerStatsService {
      */
     @Override
     public PlayerStatsDTO getPlayerStatsByPlayerId(Long playerId) {
-        List<Match> matches = matchRepository.findByPlayerId(playerId);
-        if (matches.isEmpty()) {
-            return new PlayerStatsDTO(playerId, "", 0, 0 ,0);
-        }
-        Map<Long, PlayerStatsDTO> playerStatsMap = new HashMap<>();
+        return playerStatsRepository.findPlayerStatsByPlayerId(playerId)
+                .orElseGet(() -> new PlayerStatsDTO(playerId, "", 0, 0, 0));
+    }
 
-        for (Match match : matches) {
-            playerStatsMap.computeIfAbsent(match.getPlayer1().getId(), id ->
-                            PlayerStatsDTOMapper.mapToDto(match.getPlayer1(), 0, 0, 0))
-                    .addPunches(match.getPunchesPlayer1())
-                    .addDodges(match.getDodgesPlayer1())
-                    .addKOs(match.isKoByPlayer1() ? 1 : 0);
+    /**
+     * Adds the change in a match's statistics to the totals of both of its players.
+     * Players without totals yet get a new row.
+     *
+     * @param match    the match, holding its new statistics
+     * @param previous the statistics of the match before the change
+     */
+    @Override
+    @Transactional
+    public void recordMatchStats(Match match, MatchStats previous) {
+        MatchStats current = MatchStats.of(match);
+        addToTotals(match.getPlayer1(),
+                current.punchesPlayer1() - previous.punchesPlayer1(),
+                current.dodgesPlayer1() - previous.dodgesPlayer1(),
+                koCount(current.koByPlayer1()) - koCount(previous.koByPlayer1()));
+
+        // Byes do not have a player 2
+        addToTotals(match.getPlayer2(),
+                current.punchesPlayer2() - previous.punchesPlayer2(),
+                current.dodgesPlayer2() - previous.dodgesPlayer2(),
+                koCount(current.koByPlayer2()) - koCount(previous.koByPlayer2()));
+    }
 
-            playerStatsMap.computeIfAbsent(match.getPlayer2().getId(), id ->
-                            PlayerStatsDTOMapper.mapToDto(match.getPlayer2(), 0, 0, 0))
-                    .addPunches(match.getPunchesPlayer2())
-                    .addDodges(match.getDodgesPlayer2())
-                    .addKOs(match.isKoByPlayer2() ? 1 : 0);
+    /**
+     * Recomputes the totals of every player from their matches, replacing the stored totals.
+     * Runs at startup so that matches recorded before the totals were maintained are counted.
+     */
+    @Override
+    @Transactional
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildPlayerStats() {
+        Map<Long, PlayerStats> totals = new HashMap<>();
+        addAll(totals, playerStatsRepository.sumPlayer1Totals());
+        addAll(totals, playerStatsRepository.sumPlayer2Totals());
+
+        playerStatsRepository.deleteAllInBatch();
+        playerStatsRepository.saveAll(totals.values());
+        log.info("Player stats rebuilt for {} players", totals.size());
+    }
+
+    private void addToTotals(Player player, int punches, int dodges, int kos) {
+        if (player == null || player.getId() == null) {
+            return;
         }
+        if (playerStatsRepository.addToTotals(player.getId(), punches, dodges, kos) == 0) {
+            playerStatsRepository.save(PlayerStats.builder()
+                    .playerId(player.getId())
+                    .totalPunches(punches)
+                    .totalDodges(dodges)
+                    .totalKOs(kos)
+                    .build());
+        }
+    }
+
+    private static void addAll(Map<Long, PlayerStats> totals, List<PlayerStatsRepository.TotalsView> rows) {
+        for (PlayerStatsRepository.TotalsView row : rows) {
+            PlayerStats stats = totals.computeIfAbsent(row.getPlayerId(), id -> PlayerStats.builder().playerId(id).build());
+            stats.setTotalPunches(stats.getTotalPunches() + row.getPunches().intValue());
+            stats.setTotalDodges(stats.getTotalDodges() + row.getDodges().intValue());
+            stats.setTotalKOs(stats.getTotalKOs() + row.getKos().intValue());
+        }
+    }
 
-        return playerStatsMap.get(playerId);
+    private static int koCount(boolean ko) {
+        return ko ? 1 : 0;
     }
 }
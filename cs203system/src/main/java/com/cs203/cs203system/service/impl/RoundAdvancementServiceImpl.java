@@ -0,0 +1,190 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.config.RoundAdvancementProperties;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.RoundAdvancementTask;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.RoundAdvancementTaskRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.RoundAdvancementService;
+import com.cs203.cs203system.service.TournamentFeedService;
+import com.cs203.cs203system.service.TournamentFormatManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Advances tournament rounds in the background, so that the result completing a round returns as soon as it is saved.
+ * <p>
+ * The result's transaction writes a {@link RoundAdvancementTask} to the outbox. Once it commits, the task is handed
+ * to a bounded pool of workers, which pair and save the next round under the tournament's lock. The format manager
+ * publishes the new round on the tournament's feed once it commits. Tasks that could not be handed over, or that failed,
+ * stay in the outbox and are picked up by a periodic poll.
+ * </p>
+ */
+@Slf4j
+@Service
+public class RoundAdvancementServiceImpl implements RoundAdvancementService {
+
+    private final TournamentFormatRegistry formatRegistry;
+    private final TournamentRepository tournamentRepository;
+    private final RoundAdvancementTaskRepository roundAdvancementTaskRepository;
+    private final TournamentUpdateExecutor tournamentUpdateExecutor;
+    private final TransactionOperations transactionOperations;
+    private final TaskExecutor roundAdvancementExecutor;
+    private final TournamentFeedService tournamentFeedService;
+    private final RoundAdvancementProperties properties;
+
+    /**
+     * Constructs a RoundAdvancementServiceImpl with the necessary dependencies.
+     *
+     * @param formatRegistry the registry of the managers running each tournament format
+     * @param tournamentRepository the repository for tournament data
+     * @param roundAdvancementTaskRepository the outbox of completed rounds
+     * @param tournamentUpdateExecutor the executor serializing updates per tournament
+     * @param transactionOperations the template for updating outbox tasks
+     * @param roundAdvancementExecutor the bounded pool of workers advancing rounds
+     * @param tournamentFeedService the service publishing the end of a tournament to spectators
+     * @param properties the round advancement settings
+     */
+    @Autowired
+    public RoundAdvancementServiceImpl(TournamentFormatRegistry formatRegistry,
+                                       TournamentRepository tournamentRepository,
+                                       RoundAdvancementTaskRepository roundAdvancementTaskRepository,
+                                       TournamentUpdateExecutor tournamentUpdateExecutor,
+                                       TransactionOperations transactionOperations,
+                                       @Qualifier("roundAdvancementExecutor") TaskExecutor roundAdvancementExecutor,
+                                       TournamentFeedService tournamentFeedService,
+                                       RoundAdvancementProperties properties) {
+        this.formatRegistry = formatRegistry;
+        this.tournamentRepository = tournamentRepository;
+        this.roundAdvancementTaskRepository = roundAdvancementTaskRepository;
+        this.tournamentUpdateExecutor = tournamentUpdateExecutor;
+        this.transactionOperations = transactionOperations;
+        this.roundAdvancementExecutor = roundAdvancementExecutor;
+        this.tournamentFeedService = tournamentFeedService;
+        this.properties = properties;
+    }
+
+    @Override
+    public boolean isAsync() {
+        return properties.isAsync();
+    }
+
+    /**
+     * Writes an outbox task for the completed round and hands it to a worker once the transaction commits.
+     *
+     * @param tournament the tournament whose round is completed
+     */
+    @Override
+    public void scheduleAdvancement(Tournament tournament) {
+        RoundAdvancementTask task = roundAdvancementTaskRepository.save(RoundAdvancementTask.builder()
+                .tournamentId(tournament.getId())
+                .roundNumber(tournament.getCurrentRoundNumber())
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(task.getId());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(task.getId());
+            }
+        });
+    }
+
+    /**
+     * Advances the tournament of an outbox task and publishes the new state.
+     * A failed attempt is recorded on the task, which is retried by the next poll.
+     *
+     * @param taskId the id of the outbox task
+     */
+    @Override
+    public void advance(Long taskId) {
+        RoundAdvancementTask task = roundAdvancementTaskRepository.findById(taskId).orElse(null);
+        if (task == null || task.getProcessedAt() != null) {
+            return;
+        }
+
+        try {
+            tournamentUpdateExecutor.execute(task.getTournamentId(), () -> advanceRound(taskId));
+        } catch (RuntimeException e) {
+            log.error("Failed to advance tournament {} after round {}", task.getTournamentId(), task.getRoundNumber(), e);
+            transactionOperations.executeWithoutResult(status -> roundAdvancementTaskRepository.findById(taskId)
+                    .ifPresent(failedTask -> {
+                        failedTask.setAttempts(failedTask.getAttempts() + 1);
+                        failedTask.setLastError(truncate(e.toString()));
+                    }));
+        }
+    }
+
+    /**
+     * Polls the outbox for pending tasks.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${tournament.round-advancement.poll-interval-ms:5000}")
+    public void processPendingTasks() {
+        roundAdvancementTaskRepository
+                .findTop50ByProcessedAtIsNullAndAttemptsLessThanOrderByIdAsc(properties.getMaxAttempts())
+                .forEach(task -> submit(task.getId()));
+    }
+
+    /**
+     * Runs inside the tournament's lock and transaction. Re-reads the task and the tournament, since another
+     * worker may have processed the task, or advanced the tournament past its round, in the meantime.
+     *
+     * @return the advanced tournament, or null if there was nothing left to do
+     */
+    private Tournament advanceRound(Long taskId) {
+        RoundAdvancementTask task = roundAdvancementTaskRepository.findById(taskId).orElse(null);
+        if (task == null || task.getProcessedAt() != null) {
+            return null;
+        }
+        task.setProcessedAt(LocalDateTime.now());
+
+        Tournament tournament = tournamentRepository.findById(task.getTournamentId()).orElse(null);
+        if (tournament == null || tournament.getStatus() != TournamentStatus.ONGOING) {
+            return null;
+        }
+        if (!Objects.equals(task.getRoundNumber(), tournament.getCurrentRoundNumber())) {
+            // The round was already advanced past the one this task was written for
+            return null;
+        }
+
+        TournamentFormatManager manager = formatRegistry.get(tournament);
+        if (!manager.isRoundCompleted(tournament)) {
+            return null;
+        }
+
+        tournament = manager.advanceRound(tournament);
+        if (tournament.getStatus() == TournamentStatus.COMPLETED) {
+            tournamentFeedService.tournamentCompleted(tournament);
+        }
+        return tournament;
+    }
+
+    private void submit(Long taskId) {
+        try {
+            roundAdvancementExecutor.execute(() -> advance(taskId));
+        } catch (TaskRejectedException e) {
+            log.warn("Round advancement queue is full, task {} is left for the next poll", taskId);
+        }
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+}
@@ -0,0 +1,258 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.enums.MatchBracket;
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentFormat;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.EloService;
+import com.cs203.cs203system.service.TournamentFeedService;
+import com.cs203.cs203system.service.TournamentFormatManager;
+import com.cs203.cs203system.utility.SwissStandings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Manages round-robin tournaments, in which every player meets every other player once.
+ * <p>
+ * The whole schedule is generated when the tournament starts with the circle method: the first player stays put
+ * while the others rotate one place per round, and each round pairs the i-th position with the i-th from the end.
+ * This takes O(N²) for N players and never looks at the matches already played. With an odd number of players,
+ * whoever would face the empty position gets a bye for the round. Players are ranked by points, with
+ * Sonneborn-Berger breaking ties.
+ * </p>
+ */
+@Service
+public class RoundRobinManagerImpl implements TournamentFormatManager {
+
+    /**
+     * Orders standings by score, then Sonneborn-Berger, both descending.
+     */
+    private static final Comparator<SwissStandings.Standing> RANKING = Comparator
+            .comparingDouble(SwissStandings.Standing::getScore)
+            .thenComparingDouble(SwissStandings.Standing::getSonnebornBerger)
+            .reversed();
+
+    private final TournamentRepository tournamentRepository;
+    private final MatchRepository matchRepository;
+    private final EloService eloService;
+    private final TournamentFeedService tournamentFeedService;
+
+    /**
+     * Constructs a RoundRobinManagerImpl with the necessary dependencies.
+     *
+     * @param tournamentRepository the repository used to manage Tournament data
+     * @param matchRepository the repository for reading the matches of the next round
+     * @param eloService the service updating the players' Elo ratings after each match
+     * @param tournamentFeedService the service publishing new rounds to spectators
+     */
+    @Autowired
+    public RoundRobinManagerImpl(TournamentRepository tournamentRepository,
+                                 MatchRepository matchRepository,
+                                 EloService eloService,
+                                 TournamentFeedService tournamentFeedService) {
+        this.tournamentRepository = tournamentRepository;
+        this.matchRepository = matchRepository;
+        this.eloService = eloService;
+        this.tournamentFeedService = tournamentFeedService;
+    }
+
+    @Override
+    public TournamentFormat getFormat() {
+        return TournamentFormat.ROUND_ROBIN;
+    }
+
+    /**
+     * Generates every round of the schedule. The first round is scheduled; the later ones wait for it.
+     *
+     * @param tournament the tournament to initialize
+     * @return the initialized tournament
+     */
+    @Override
+    @Transactional
+    public Tournament initializeTournament(Tournament tournament) {
+        List<Player> players = new ArrayList<>(tournament.getPlayers());
+        Collections.shuffle(players);
+
+        int size = players.size();
+        // An odd field gets an empty position, and whoever meets it sits the round out
+        int positions = size + size % 2;
+        int rounds = positions - 1;
+        int firstRoundMatches = 0;
+
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < positions / 2; i++) {
+                int home = playerAt(i, round, positions);
+                int away = playerAt(positions - 1 - i, round, positions);
+                Match match;
+                if (home >= size || away >= size) {
+                    match = buildMatch(tournament, round + 1, players.get(Math.min(home, away)), null, MatchStatus.BYE);
+                } else {
+                    match = buildMatch(tournament, round + 1, players.get(home), players.get(away),
+                            round == 0 ? MatchStatus.SCHEDULED : MatchStatus.WAITING);
+                    if (round == 0) {
+                        firstRoundMatches++;
+                    }
+                }
+                tournament.getMatches().add(match);
+            }
+        }
+
+        tournament.setCurrentRoundNumber(1);
+        tournament.setOutstandingMatches(firstRoundMatches);
+        return tournamentRepository.save(tournament);
+    }
+
+    /**
+     * Finds the player at a position of the circle in a given round.
+     * Position 0 never moves; the others are rotated by one place per round.
+     */
+    private static int playerAt(int position, int round, int positions) {
+        if (position == 0) {
+            return 0;
+        }
+        return 1 + (position - 1 + round) % (positions - 1);
+    }
+
+    private Match buildMatch(Tournament tournament, int round, Player player1, Player player2, MatchStatus status) {
+        return Match.builder()
+                .tournament(tournament)
+                .matchDate(LocalDateTime.now())
+                .round(round)
+                .bracket(MatchBracket.ROUND_ROBIN)
+                .status(status)
+                .player1(player1)
+                .player2(player2)
+                .build();
+    }
+
+    /**
+     * Records the result of a match and, if it was the last result of the round, opens the next round.
+     *
+     * @param match the completed match
+     * @return the updated tournament
+     */
+    @Override
+    @Transactional
+    public Tournament receiveMatchResult(Match match) {
+        Tournament tournament = match.getTournament();
+        eloService.updateEloRatings(match.getPlayer1(), match.getPlayer2(), match);
+
+        if (!isRoundCompleted(tournament)) {
+            return tournamentRepository.save(tournament);
+        }
+        return advanceRound(tournament);
+    }
+
+    /**
+     * Records the result of a match without opening the next round.
+     *
+     * @param match the completed match
+     * @return the updated tournament
+     */
+    @Override
+    @Transactional
+    public Tournament recordMatchResult(Match match) {
+        eloService.updateEloRatings(match.getPlayer1(), match.getPlayer2(), match);
+        return tournamentRepository.save(match.getTournament());
+    }
+
+    /**
+     * Records the results of several matches without opening the next round, updating the Elo ratings of every
+     * player of the batch in a single call.
+     *
+     * @param matches the completed matches, all of the same tournament
+     * @return the updated tournament
+     */
+    @Override
+    @Transactional
+    public Tournament recordMatchResults(List<Match> matches) {
+        eloService.updateEloRatings(matches);
+        return tournamentRepository.save(matches.get(0).getTournament());
+    }
+
+    /**
+     * Checks if every match of the current round has a result.
+     *
+     * @param tournament the tournament to check
+     * @return true if no match of the round is outstanding; otherwise, false
+     */
+    @Override
+    public boolean isRoundCompleted(Tournament tournament) {
+        return tournament.getOutstandingMatches() <= 0;
+    }
+
+    /**
+     * Opens the matches of the next round, or completes the tournament after the last one.
+     *
+     * @param tournament the tournament whose current round is completed
+     * @return the updated tournament
+     */
+    @Override
+    @Transactional
+    public Tournament advanceRound(Tournament tournament) {
+        int round = tournament.getCurrentRoundNumber() + 1;
+        List<Match> matches = matchRepository.findByTournamentIdAndRound(tournament.getId(), round);
+        if (matches.isEmpty()) {
+            tournament.setStatus(TournamentStatus.COMPLETED);
+            tournament.setEndDate(LocalDate.now());
+            return tournamentRepository.save(tournament);
+        }
+
+        int outstandingMatches = 0;
+        for (Match match : matches) {
+            if (match.getStatus() == MatchStatus.WAITING) {
+                match.setStatus(MatchStatus.SCHEDULED);
+                match.setMatchDate(LocalDateTime.now());
+                outstandingMatches++;
+            }
+        }
+        matchRepository.saveAll(matches);
+
+        tournament.setCurrentRoundNumber(round);
+        tournament.setOutstandingMatches(outstandingMatches);
+        tournamentFeedService.roundGenerated(tournament, round, matches);
+        return tournamentRepository.save(tournament);
+    }
+
+    /**
+     * Determines the winner of a completed tournament: the player with the most points, ties broken by
+     * Sonneborn-Berger. Byes are not counted, since with an odd field every player gets exactly one. Buchholz is
+     * not used: every player meets the whole field, so among players with the same score it is always equal.
+     *
+     * @param tournament the completed tournament
+     * @return the winner of the tournament
+     * @throws IllegalStateException if the tournament is not completed or has no players
+     */
+    @Override
+    public Player determineWinner(Tournament tournament) {
+        if (tournament.getStatus() != TournamentStatus.COMPLETED) {
+            throw new IllegalStateException("Tournament is not completed. Winner cannot be determined.");
+        }
+
+        SwissStandings standings = new SwissStandings();
+        tournament.getPlayers().forEach(standings::register);
+        for (Match match : tournament.getMatches()) {
+            if (match.getStatus() == MatchStatus.COMPLETED && match.getPlayer1() != null && match.getPlayer2() != null) {
+                standings.recordResult(match);
+            }
+        }
+
+        return standings.getRanking().stream()
+                .min(RANKING)
+                .map(SwissStandings.Standing::getPlayer)
+                .orElseThrow(() -> new IllegalStateException("There seems to be no winner"));
+    }
+}
@@ -0,0 +1,205 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.service.SwissPairingEngine;
+import com.cs203.cs203system.utility.MaximumMatching;
+import com.cs203.cs203system.utility.SwissField;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+
+/**
+ * Swiss pairing engine based on score groups and maximum matching.
+ * <p>
+ * Players are ranked by points, indexed in a {@link SwissField} and split into score groups. Each group, together with the players
+ * floating down from the group above, is first paired greedily top half against bottom half and then
+ * completed with augmenting paths (Edmonds' blossom algorithm) so that a legal pairing is found whenever
+ * one exists within the group. Players that still cannot be paired float to the next group. Whoever is
+ * left at the bottom is matched through augmenting paths over the whole field, and only players for which
+ * no legal opponent exists at all receive a bye. Rematches are never produced.
+ * </p>
+ * <p>
+ * Round generation is close to linear in the number of players, since the greedy pass settles almost
+ * everyone and the blossom search is only run for the few players it leaves free.
+ * </p>
+ */
+@Service
+public class ScoreGroupPairingEngine implements SwissPairingEngine {
+
+    /**
+     * Pairs the players of a tournament for its next round.
+     * When the number of players is odd, the lowest ranked player without a previous bye sits out.
+     *
+     * @param tournament The tournament to pair.
+     * @return The pairings of the round together with the players receiving a bye.
+     */
+    @Override
+    public SwissPairing pairNextRound(Tournament tournament) {
+        List<Player> ranked = new ArrayList<>(tournament.getPlayers());
+        ranked.sort(Comparator.comparingDouble(Player::getPoints).reversed());
+        SwissField field = SwissField.of(ranked, tournament.getMatches());
+        int size = field.size();
+
+        int bye = -1;
+        if (size % 2 != 0) {
+            bye = size - 1;
+            for (int i = size - 1; i >= 0; i--) {
+                if (!field.hadBye(i)) {
+                    bye = i;
+                    break;
+                }
+            }
+        }
+
+        MaximumMatching matching = new MaximumMatching(size, (u, v) -> !field.havePlayed(u, v));
+        int[] floaters = pairScoreGroups(field, bye, matching);
+
+        // Players left over after the last score group are matched against the whole field.
+        if (floaters.length >= 2) {
+            int[] everyone = allPlayersExcept(size, bye);
+            augmentFreeVertices(matching, floaters, floaters.length, everyone, everyone.length);
+        }
+
+        // If that still leaves someone out, the chosen bye may be the only legal opponent left for them.
+        if (bye >= 0 && hasFreePlayerOtherThan(matching, size, bye)) {
+            int[] everyone = allPlayersExcept(size, -1);
+            int[] free = Arrays.stream(everyone).filter(matching::isFree).toArray();
+            augmentFreeVertices(matching, free, free.length, everyone, everyone.length);
+        }
+
+        List<Pairing> pairings = new ArrayList<>();
+        List<Player> byes = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int mate = matching.mateOf(i);
+            if (mate > i) {
+                pairings.add(new Pairing(field.getPlayer(i), field.getPlayer(mate)));
+            } else if (mate < 0) {
+                byes.add(field.getPlayer(i));
+            }
+        }
+        return new SwissPairing(pairings, byes);
+    }
+
+    /**
+     * Pairs the score groups from the top down, floating unpaired players into the next group.
+     *
+     * @param field    The players, indexed best ranked first.
+     * @param bye      The index of the player sitting out, or -1.
+     * @param matching The matching to fill.
+     * @return The players still unpaired after the last group, best ranked first.
+     */
+    private int[] pairScoreGroups(SwissField field, int bye, MaximumMatching matching) {
+        int size = field.size();
+        int[] group = new int[size];
+        int[] free = new int[size];
+        int floaterCount = 0;
+
+        int start = 0;
+        while (start < size) {
+            int end = start;
+            double points = field.getScore(start);
+            while (end < size && field.getScore(end) == points) {
+                end++;
+            }
+
+            // Floaters from the group above come first, as they are the better ranked players.
+            int count = floaterCount;
+            System.arraycopy(free, 0, group, 0, floaterCount);
+            for (int i = start; i < end; i++) {
+                if (i != bye) {
+                    group[count++] = i;
+                }
+            }
+
+            pairGreedily(matching, group, count);
+
+            int freeCount = 0;
+            for (int i = 0; i < count; i++) {
+                if (matching.isFree(group[i])) {
+                    free[freeCount++] = group[i];
+                }
+            }
+            if (freeCount >= 2) {
+                augmentFreeVertices(matching, free, freeCount, group, count);
+                int stillFree = 0;
+                for (int i = 0; i < freeCount; i++) {
+                    if (matching.isFree(free[i])) {
+                        free[stillFree++] = free[i];
+                    }
+                }
+                freeCount = stillFree;
+            }
+            floaterCount = freeCount;
+            start = end;
+        }
+        return Arrays.copyOf(free, floaterCount);
+    }
+
+    /**
+     * Pairs the top half of a group against its bottom half, falling back to the next available
+     * player when the preferred opponent has already been met.
+     */
+    private void pairGreedily(MaximumMatching matching, int[] group, int count) {
+        int half = count / 2;
+        for (int i = 0; i < count; i++) {
+            int player = group[i];
+            if (!matching.isFree(player)) {
+                continue;
+            }
+            int opponent = findFreeOpponent(matching, group, player, Math.max(i + 1, i + half), count);
+            if (opponent < 0) {
+                opponent = findFreeOpponent(matching, group, player, i + 1, Math.min(i + half, count));
+            }
+            if (opponent >= 0) {
+                matching.match(player, opponent);
+            }
+        }
+    }
+
+    private int findFreeOpponent(MaximumMatching matching, int[] group, int player, int from, int to) {
+        for (int j = from; j < to; j++) {
+            int candidate = group[j];
+            if (matching.isFree(candidate) && matching.isAdjacent(player, candidate)) {
+                return candidate;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Runs an augmenting path search from each free vertex while at least two of them remain,
+     * since a single free vertex can never be matched.
+     */
+    private void augmentFreeVertices(MaximumMatching matching, int[] free, int freeCount, int[] vertices, int count) {
+        int remaining = freeCount;
+        for (int i = 0; i < freeCount && remaining >= 2; i++) {
+            if (!matching.isFree(free[i])) {
+                continue;
+            }
+            if (matching.augment(free[i], vertices, count)) {
+                remaining -= 2;
+            }
+        }
+    }
+
+    private int[] allPlayersExcept(int size, int excluded) {
+        int[] players = new int[excluded >= 0 ? size - 1 : size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (i != excluded) {
+                players[count++] = i;
+            }
+        }
+        return players;
+    }
+
+    private boolean hasFreePlayerOtherThan(MaximumMatching matching, int size, int excluded) {
+        for (int i = 0; i < size; i++) {
+            if (i != excluded && matching.isFree(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,285 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.enums.MatchBracket;
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentFormat;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.EloService;
+import com.cs203.cs203system.service.TournamentFeedService;
+import com.cs203.cs203system.service.TournamentFormatManager;
+import com.cs203.cs203system.utility.BracketSeeding;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Manages single-elimination tournaments.
+ * <p>
+ * The whole bracket is created when the tournament starts: the first round with its players, and every later
+ * round as waiting matches, each linked to the match its winner moves on to. A result therefore only fills one
+ * slot of the next match, and completing a round only opens the matches of the next one.
+ * Fields that are not a power of two are padded with first-round byes for the top seeds.
+ * </p>
+ */
+@Service
+public class SingleEliminationManagerImpl implements TournamentFormatManager {
+
+    private final TournamentRepository tournamentRepository;
+    private final MatchRepository matchRepository;
+    private final EloService eloService;
+    private final TournamentFeedService tournamentFeedService;
+
+    /**
+     * Constructs a SingleEliminationManagerImpl with the necessary dependencies.
+     *
+     * @param tournamentRepository the repository used to manage Tournament data
+     * @param matchRepository the repository for reading the matches of the next round
+     * @param eloService the service updating the players' Elo ratings after each match
+     * @param tournamentFeedService the service publishing bracket moves and new rounds to spectators
+     */
+    @Autowired
+    public SingleEliminationManagerImpl(TournamentRepository tournamentRepository,
+                                        MatchRepository matchRepository,
+                                        EloService eloService,
+                                        TournamentFeedService tournamentFeedService) {
+        this.tournamentRepository = tournamentRepository;
+        this.matchRepository = matchRepository;
+        this.eloService = eloService;
+        this.tournamentFeedService = tournamentFeedService;
+    }
+
+    @Override
+    public TournamentFormat getFormat() {
+        return TournamentFormat.SINGLE_ELIMINATION;
+    }
+
+    /**
+     * Creates the full bracket and fills its first round with the players, seeded by Elo rating.
+     * When the field is not a power of two, the top seeds get a bye: the bye is recorded as a match and its
+     * player is moved into the second round straight away.
+     *
+     * @param tournament the tournament to initialize, with at least 2 players
+     * @return the initialized tournament
+     */
+    @Override
+    @Transactional
+    public Tournament initializeTournament(Tournament tournament) {
+        List<Player> seeds = BracketSeeding.byRating(tournament.getPlayers());
+        int[] slots = BracketSeeding.openingSlots(seeds.size());
+
+        List<Match> firstRound = createBracket(tournament, BracketSeeding.bracketSize(seeds.size()));
+        int scheduled = 0;
+        for (int i = 0; i < firstRound.size(); i++) {
+            Match match = firstRound.get(i);
+            Player player1 = seeds.get(slots[2 * i]);
+            match.setPlayer1(player1);
+            if (slots[2 * i + 1] == BracketSeeding.BYE) {
+                match.setStatus(MatchStatus.BYE);
+                match.setPlayer1Score(1);
+                match.setPlayer2Score(0);
+                moveWinner(match, player1);
+            } else {
+                match.setPlayer2(seeds.get(slots[2 * i + 1]));
+                match.setStatus(MatchStatus.SCHEDULED);
+                scheduled++;
+            }
+        }
+
+        tournament.setCurrentRoundNumber(1);
+        tournament.setOutstandingMatches(scheduled);
+        return tournamentRepository.save(tournament);
+    }
+
+    /**
+     * Creates every match of the bracket, from the final down to the first round, and links each match to the
+     * match its winner moves on to. Matches {@code 2i} and {@code 2i + 1} of a round feed match {@code i} of the next.
+     *
+     * @param tournament the tournament the matches belong to
+     * @param size the number of players, a power of two
+     * @return the matches of the first round, in bracket order
+     */
+    private List<Match> createBracket(Tournament tournament, int size) {
+        // Later rounds are added first, so every match is saved after the match it links to
+        int rounds = Integer.numberOfTrailingZeros(size);
+        List<Match> nextRound = List.of();
+        for (int round = rounds; round >= 1; round--) {
+            int matchCount = size >> round;
+            List<Match> matches = new ArrayList<>(matchCount);
+            for (int i = 0; i < matchCount; i++) {
+                Match match = Match.builder()
+                        .tournament(tournament)
+                        .matchDate(LocalDateTime.now())
+                        .round(round)
+                        .bracket(round == rounds ? MatchBracket.FINAL : MatchBracket.UPPER)
+                        .status(MatchStatus.WAITING)
+                        .build();
+                if (!nextRound.isEmpty()) {
+                    match.setNextMatch(nextRound.get(i / 2));
+                    match.setNextMatchSlot(i % 2 + 1);
+                }
+                matches.add(match);
+            }
+            tournament.getMatches().addAll(matches);
+            nextRound = matches;
+        }
+        return nextRound;
+    }
+
+    /**
+     * Records the result of a match and, if it was the last result of the round, opens the next round.
+     *
+     * @param match the completed match
+     * @return the updated tournament
+     */
+    @Override
+    @Transactional
+    public Tournament receiveMatchResult(Match match) {
+        Tournament tournament = match.getTournament();
+        recordResult(match, tournament);
+
+        if (!isRoundCompleted(tournament)) {
+            return tournamentRepository.save(tournament);
+        }
+        return advanceRound(tournament);
+    }
+
+    /**
+     * Records the result of a match without opening the next round.
+     *
+     * @param match the completed match
+     * @return the updated tournament
+     */
+    @Override
+    @Transactional
+    public Tournament recordMatchResult(Match match) {
+        Tournament tournament = match.getTournament();
+        recordResult(match, tournament);
+        return tournamentRepository.save(tournament);
+    }
+
+    /**
+     * Records the results of several matches without opening the next round, moving their winners on in order and
+     * then updating the Elo ratings of every player of the batch in a single call.
+     *
+     * @param matches the completed matches, all of the same tournament
+     * @return the updated tournament
+     */
+    @Override
+    @Transactional
+    public Tournament recordMatchResults(List<Match> matches) {
+        Tournament tournament = matches.get(0).getTournament();
+        for (Match match : matches) {
+            advanceWinner(match, tournament);
+        }
+        eloService.updateEloRatings(matches);
+        return tournamentRepository.save(tournament);
+    }
+
+    /**
+     * Updates the Elo ratings of both players of a match and moves its winner on.
+     *
+     * @param match the completed match
+     * @param tournament the tournament the match belongs to
+     */
+    private void recordResult(Match match, Tournament tournament) {
+        eloService.updateEloRatings(match.getPlayer1(), match.getPlayer2(), match);
+        advanceWinner(match, tournament);
+    }
+
+    /**
+     * Moves the winner of a match into their slot of the next match, or completes the tournament after the final.
+     *
+     * @param match the completed match
+     * @param tournament the tournament the match belongs to
+     */
+    private void advanceWinner(Match match, Tournament tournament) {
+        if (match.getNextMatch() == null) {
+            tournament.setStatus(TournamentStatus.COMPLETED);
+            tournament.setEndDate(LocalDate.now());
+            return;
+        }
+        moveWinner(match, match.getWinner());
+        tournamentFeedService.bracketMoved(tournament, List.of(match.getNextMatch()));
+    }
+
+    /**
+     * Puts the winner of a match into their slot of the next match.
+     *
+     * @param match the decided match
+     * @param winner the player moving on
+     */
+    private void moveWinner(Match match, Player winner) {
+        if (match.getNextMatchSlot() == 1) {
+            match.getNextMatch().setPlayer1(winner);
+        } else {
+            match.getNextMatch().setPlayer2(winner);
+        }
+    }
+
+    /**
+     * Checks if every match of the current round has a result.
+     *
+     * @param tournament the tournament to check
+     * @return true if no match of the round is outstanding; otherwise, false
+     */
+    @Override
+    public boolean isRoundCompleted(Tournament tournament) {
+        return tournament.getOutstandingMatches() <= 0;
+    }
+
+    /**
+     * Opens the matches of the next round, whose players were filled in as the results came in.
+     *
+     * @param tournament the tournament whose current round is completed
+     * @return the updated tournament
+     */
+    @Override
+    @Transactional
+    public Tournament advanceRound(Tournament tournament) {
+        if (tournament.getStatus() == TournamentStatus.COMPLETED) {
+            return tournamentRepository.save(tournament);
+        }
+
+        int round = tournament.getCurrentRoundNumber() + 1;
+        List<Match> matches = matchRepository.findByTournamentIdAndRound(tournament.getId(), round);
+        for (Match match : matches) {
+            match.setStatus(MatchStatus.SCHEDULED);
+            match.setMatchDate(LocalDateTime.now());
+        }
+        matchRepository.saveAll(matches);
+
+        tournament.setCurrentRoundNumber(round);
+        tournament.setOutstandingMatches(matches.size());
+        tournamentFeedService.roundGenerated(tournament, round, matches);
+        return tournamentRepository.save(tournament);
+    }
+
+    /**
+     * Determines the winner of a completed tournament, the winner of its final.
+     *
+     * @param tournament the completed tournament
+     * @return the winner of the tournament
+     * @throws IllegalStateException if the tournament is not completed or its final has no winner
+     */
+    @Override
+    public Player determineWinner(Tournament tournament) {
+        if (tournament.getStatus() != TournamentStatus.COMPLETED) {
+            throw new IllegalStateException("Tournament is not completed. Winner cannot be determined.");
+        }
+        return tournament.getMatches().stream()
+                .filter(match -> match.getBracket() == MatchBracket.FINAL)
+                .map(Match::getWinner)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("There seems to be no winner"));
+    }
+}
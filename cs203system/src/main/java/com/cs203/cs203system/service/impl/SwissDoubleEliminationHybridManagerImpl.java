@@ -1,15 +1,19 @@
 package com.cs203.cs203system.service.impl;
 
+import com.cs203.cs203system.enums.TournamentFormat;
 import com.cs203.cs203system.enums.TournamentStatus;
 import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Player;
 import com.cs203.cs203system.model.Tournament;
 import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.SwissStandingsService;
 import com.cs203.cs203system.service.TournamentFormatManager;
-import com.cs203.cs203system.utility.SwissRoundUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Service implementation for managing a hybrid tournament format
  * that combines Swiss and Double Elimination rounds.
@@ -23,6 +27,7 @@ public class SwissDoubleEliminationHybridManagerImpl implements TournamentFormat
     private final SwissRoundManagerImpl swissRoundManager;
     private final DoubleEliminationManagerImpl doubleEliminationManager;
     private final TournamentRepository tournamentRepository;
+    private final SwissStandingsService swissStandingsService;
 
     /**
      * Constructs a SwissDoubleEliminationHybridManagerImpl with the necessary dependencies.
@@ -30,14 +35,22 @@ public class SwissDoubleEliminationHybridManagerImpl implements TournamentFormat
      * @param swissRoundManager the Swiss round manager to handle Swiss-style tournament logic
      * @param doubleEliminationManager the Double Elimination manager to handle double elimination logic
      * @param tournamentRepository the tournament repository for accessing tournament data
+     * @param swissStandingsService the service keeping the Swiss standings used to seed the second phase
      */
     @Autowired
     public SwissDoubleEliminationHybridManagerImpl(SwissRoundManagerImpl swissRoundManager,
                                                    DoubleEliminationManagerImpl doubleEliminationManager,
-                                                   TournamentRepository tournamentRepository) {
+                                                   TournamentRepository tournamentRepository,
+                                                   SwissStandingsService swissStandingsService) {
         this.swissRoundManager = swissRoundManager;
         this.doubleEliminationManager = doubleEliminationManager;
         this.tournamentRepository = tournamentRepository;
+        this.swissStandingsService = swissStandingsService;
+    }
+
+    @Override
+    public TournamentFormat getFormat() {
+        return TournamentFormat.HYBRID;
     }
 
     /**
@@ -77,22 +90,98 @@ public class SwissDoubleEliminationHybridManagerImpl implements TournamentFormat
 
         // Process match in Swiss phase
         if (tournament.getStatus() == TournamentStatus.ONGOING && !tournament.getIsOnSecondFormat()) {
-            Tournament updatedTournament = swissRoundManager.receiveMatchResult(match);
-
-            // Transition to Double Elimination phase if Swiss phase is completed
-            if (updatedTournament.getStatus() == TournamentStatus.COMPLETED) {
-                updatedTournament.setStatus(TournamentStatus.ONGOING); // Mark as ongoing since DE phase starts
-                updatedTournament.setPlayers(SwissRoundUtils.getTopPlayers(updatedTournament, updatedTournament.getPlayers().size() / 2));
-                tournament.setIsOnSecondFormat(true);
-                return doubleEliminationManager.initializeTournament(updatedTournament);
-            }
-            return updatedTournament;
+            return startSecondFormatIfCompleted(swissRoundManager.receiveMatchResult(match));
         }
 
         // Process match in Double Elimination phase
         return doubleEliminationManager.receiveMatchResult(match);
     }
 
+    /**
+     * Records a match result with the manager of the current phase, without advancing the round.
+     *
+     * @param match the match result to record
+     * @return the updated tournament
+     */
+    @Override
+    public Tournament recordMatchResult(Match match) {
+        Tournament tournament = match.getTournament();
+
+        if (tournament.getStatus() == TournamentStatus.COMPLETED && tournament.getIsOnSecondFormat()) {
+            return tournament;
+        }
+        if (tournament.getStatus() == TournamentStatus.ONGOING && !tournament.getIsOnSecondFormat()) {
+            return swissRoundManager.recordMatchResult(match);
+        }
+        return doubleEliminationManager.recordMatchResult(match);
+    }
+
+    /**
+     * Records a batch of match results with the manager of the current phase, without advancing the round.
+     *
+     * @param matches the match results to record, all of the same tournament
+     * @return the updated tournament
+     */
+    @Override
+    public Tournament recordMatchResults(List<Match> matches) {
+        Tournament tournament = matches.get(0).getTournament();
+
+        if (tournament.getStatus() == TournamentStatus.COMPLETED && tournament.getIsOnSecondFormat()) {
+            return tournament;
+        }
+        if (tournament.getStatus() == TournamentStatus.ONGOING && !tournament.getIsOnSecondFormat()) {
+            return swissRoundManager.recordMatchResults(matches);
+        }
+        return doubleEliminationManager.recordMatchResults(matches);
+    }
+
+    /**
+     * Checks whether the current round of the current phase is completed.
+     *
+     * @param tournament the tournament to check
+     * @return true if no match of the round is outstanding
+     */
+    @Override
+    public boolean isRoundCompleted(Tournament tournament) {
+        return tournament.getIsOnSecondFormat()
+                ? doubleEliminationManager.isRoundCompleted(tournament)
+                : swissRoundManager.isRoundCompleted(tournament);
+    }
+
+    /**
+     * Advances the current phase, moving on to the Double Elimination phase when the last Swiss round is completed.
+     *
+     * @param tournament the tournament whose current round is completed
+     * @return the updated tournament
+     */
+    @Override
+    public Tournament advanceRound(Tournament tournament) {
+        if (tournament.getIsOnSecondFormat()) {
+            return doubleEliminationManager.advanceRound(tournament);
+        }
+        return startSecondFormatIfCompleted(swissRoundManager.advanceRound(tournament));
+    }
+
+    /**
+     * Transitions to the Double Elimination phase if the Swiss phase is completed,
+     * seeding it with the top half of the Swiss standings.
+     *
+     * @param tournament the tournament after the Swiss manager processed it
+     * @return the tournament, initialized for Double Elimination if the Swiss phase is over
+     */
+    private Tournament startSecondFormatIfCompleted(Tournament tournament) {
+        if (tournament.getStatus() != TournamentStatus.COMPLETED) {
+            return tournament;
+        }
+        tournament.setStatus(TournamentStatus.ONGOING); // Mark as ongoing since DE phase starts
+        List<Player> qualified = new ArrayList<>(swissStandingsService.getTopPlayers(tournament, tournament.getPlayers().size() / 2));
+        tournament.setPlayers(qualified);
+        swissStandingsService.evict(tournament.getId());
+        tournament.setIsOnSecondFormat(true);
+        // Seed the bracket by Swiss rank, so any byes go to the best players of the first phase
+        return doubleEliminationManager.initializeTournament(tournament, qualified);
+    }
+
     /**
      * Determines the winner of the tournament.
      *
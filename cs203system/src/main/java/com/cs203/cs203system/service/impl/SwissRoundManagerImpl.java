@@ -7,12 +7,14 @@ import com.cs203.cs203system.enums.TournamentStatus;
 import com.cs203.cs203system.model.Match;
 import com.cs203.cs203system.model.Player;
 import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.MatchRepository;
 import com.cs203.cs203system.repository.PlayerRepository;
 import com.cs203.cs203system.repository.TournamentRepository;
 import com.cs203.cs203system.service.EloService;
-import com.cs203.cs203system.service.SwissRoundManager;
+import com.cs203.cs203system.service.SwissPairingEngine;
+import com.cs203.cs203system.service.SwissStandingsService;
+import com.cs203.cs203system.service.TournamentFeedService;
 import com.cs203.cs203system.service.TournamentFormatManager;
-import com.cs203.cs203system.utility.SwissRoundUtils;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -35,23 +37,41 @@ public class SwissRoundManagerImpl implements TournamentFormatManager {
 
     private final TournamentRepository tournamentRepository;
 
-    private static final HashMap<String, Double> scoreMap = new HashMap<>();
-
     private final PlayerRepository playerRepository;
+    private final MatchRepository matchRepository;
     private final EloService eloService;
+    private final SwissStandingsService swissStandingsService;
+    private final SwissPairingEngine swissPairingEngine;
+    private final TournamentFeedService tournamentFeedService;
 
     /**
      * Constructs the SwissRoundManagerImpl with the necessary repositories and services.
      *
-     * @param tournamentRepository Repository to manage tournament data.
-     * @param playerRepository     Repository to manage player data.
-     * @param eloService           Service to manage player ELO ratings.
+     * @param tournamentRepository  Repository to manage tournament data.
+     * @param playerRepository      Repository to manage player data.
+     * @param matchRepository       Repository saving the matches of each new round.
+     * @param eloService            Service to manage player ELO ratings.
+     * @param swissStandingsService Service keeping the running standings and tie-breaks of each tournament.
+     * @param swissPairingEngine    Engine producing the pairings of each round.
+     * @param tournamentFeedService Service publishing new rounds and standings to spectators.
      */
     @Autowired
-    public SwissRoundManagerImpl(TournamentRepository tournamentRepository, PlayerRepository playerRepository, EloService eloService) {
+    public SwissRoundManagerImpl(TournamentRepository tournamentRepository, PlayerRepository playerRepository,
+                                 MatchRepository matchRepository, EloService eloService, SwissStandingsService swissStandingsService,
+                                 SwissPairingEngine swissPairingEngine,
+                                 TournamentFeedService tournamentFeedService) {
         this.tournamentRepository = tournamentRepository;
         this.playerRepository = playerRepository;
+        this.matchRepository = matchRepository;
         this.eloService = eloService;
+        this.swissStandingsService = swissStandingsService;
+        this.swissPairingEngine = swissPairingEngine;
+        this.tournamentFeedService = tournamentFeedService;
+    }
+
+    @Override
+    public TournamentFormat getFormat() {
+        return TournamentFormat.SWISS;
     }
 
     /**
@@ -69,10 +89,10 @@ public class SwissRoundManagerImpl implements TournamentFormatManager {
         tournament.setCurrentRoundNumber(1);
 
         initializePlayersPoints(tournament.getPlayers());
+        swissStandingsService.initialize(tournament);
         Collections.shuffle(tournament.getPlayers());
 
-        List<Match> initialMatches =  createInitialMatches(tournament);
-        tournament.getMatches().addAll(initialMatches);
+        createMatchesForRound(tournament);
 
         return tournamentRepository.save(tournament);
     }
@@ -96,21 +116,6 @@ public class SwissRoundManagerImpl implements TournamentFormatManager {
         players.forEach(player -> player.setPoints(0.0));
     }
 
-    /**
-     * Creates the initial matches for the tournament's first round.
-     *
-     * @param tournament The tournament where matches will be created.
-     * @return A list of created matches for the first round.
-     */
-    private List<Match> createInitialMatches(Tournament tournament) {
-        List<Match> matches = new ArrayList<>();
-        for (int i = 1; i < tournament.getPlayers().size(); i += 2) {
-            Match match = createMatch(tournament, tournament.getPlayers().get(i - 1), tournament.getPlayers().get(i), MatchStatus.SCHEDULED);
-            matches.add(match);
-        }
-        return matches;
-    }
-
     /**
      * Builds and returns a match object for the specified players.
      *
@@ -144,22 +149,84 @@ public class SwissRoundManagerImpl implements TournamentFormatManager {
     public Tournament receiveMatchResult(Match match) {
         Tournament tournament = match.getTournament();
 
-        updatePlayerScores(match);
-        eloService.updateEloRatings(match.getPlayer1(), match.getPlayer2(), match);
+        recordResult(match);
 
-        if (!allMatchesCompleted(tournament)) {
+        if (!isRoundCompleted(tournament)) {
             return tournamentRepository.save(tournament);
         }
 
+        return advanceRound(tournament);
+    }
+
+    /**
+     * Receives a match result and updates the standings, leaving the round as it is even if it is completed.
+     *
+     * @param match The match containing the results to be processed.
+     * @return The updated tournament.
+     */
+    @Override
+    @Transactional
+    public Tournament recordMatchResult(Match match) {
+        recordResult(match);
+        return tournamentRepository.save(match.getTournament());
+    }
+
+    /**
+     * Receives the results of several matches and updates the standings, leaving the round as it is even if it is
+     * completed. The Elo ratings of every player of the batch are updated in a single call.
+     *
+     * @param matches The matches containing the results to be processed, all of the same tournament.
+     * @return The updated tournament.
+     */
+    @Override
+    @Transactional
+    public Tournament recordMatchResults(List<Match> matches) {
+        Tournament tournament = matches.get(0).getTournament();
+        List<Player> players = new ArrayList<>(matches.size() * 2);
+        for (Match match : matches) {
+            updatePlayerScores(match);
+            swissStandingsService.recordResult(match);
+            players.add(match.getPlayer1());
+            players.add(match.getPlayer2());
+        }
+        eloService.updateEloRatings(matches);
+        tournamentFeedService.standingsChanged(tournament, players);
+        return tournamentRepository.save(tournament);
+    }
+
+    /**
+     * Moves on to the next round, or handles the final round once the last Swiss round is completed.
+     *
+     * @param tournament The tournament whose current round is completed.
+     * @return The updated tournament with the next round's matches, or completed.
+     */
+    @Override
+    @Transactional
+    public Tournament advanceRound(Tournament tournament) {
         if (isFinalRound(tournament)) {
             return handleFinalRound(tournament);
         }
 
         tournament.setCurrentRoundNumber(tournament.getCurrentRoundNumber() + 1);
-        List<Match> newMatches = createMatchesForNextRound(tournament);
-        tournament.getMatches().addAll(newMatches);
+        List<Match> newMatches = createMatchesForRound(tournament);
+        // Saved on their own so these instances get their ids, and the feed never walks the tournament's match history
+        matchRepository.saveAll(newMatches);
 
-        return tournamentRepository.save(tournament);
+        Tournament savedTournament = tournamentRepository.save(tournament);
+        tournamentFeedService.roundGenerated(tournament, tournament.getCurrentRoundNumber(), newMatches);
+        return savedTournament;
+    }
+
+    /**
+     * Applies a match result to the players' points, the standings and the Elo ratings.
+     *
+     * @param match The match containing the results to be processed.
+     */
+    private void recordResult(Match match) {
+        updatePlayerScores(match);
+        swissStandingsService.recordResult(match);
+        eloService.updateEloRatings(match.getPlayer1(), match.getPlayer2(), match);
+        tournamentFeedService.standingsChanged(match.getTournament(), Arrays.asList(match.getPlayer1(), match.getPlayer2()));
     }
 
     /**
@@ -186,17 +253,15 @@ public class SwissRoundManagerImpl implements TournamentFormatManager {
         }
     }
     /**
-     * Checks if all matches in the tournament are completed or marked as a bye.
+     * Checks if every match of the current round has a result.
+     * Byes never count as outstanding, and the counter is decremented as each result is input.
      *
      * @param tournament The tournament to check.
-     * @return True if all matches are completed or a bye; otherwise, false.
+     * @return True if no match of the round is outstanding; otherwise, false.
      */
-    //check all match complete
-    private boolean allMatchesCompleted(Tournament tournament) {
-//        return tournament.getMatches().stream()
-//                .allMatch(m -> m.getStatus().equals(MatchStatus.COMPLETED) || m.getStatus().equals(MatchStatus.BYE));
-        return tournament.getMatches().stream()
-                .allMatch(m -> m.getStatus().equals(MatchStatus.COMPLETED));
+    @Override
+    public boolean isRoundCompleted(Tournament tournament) {
+        return tournament.getOutstandingMatches() <= 0;
     }
     /**
      * Checks if the tournament has reached the final round.
@@ -217,12 +282,14 @@ public class SwissRoundManagerImpl implements TournamentFormatManager {
      */
     //handle final round
     private Tournament handleFinalRound(Tournament tournament) {
-        List<Player> winners = SwissRoundUtils.findWinners(tournament);
+        List<Player> winners = swissStandingsService.findWinners(tournament);
 
         if (winners.size() <= 1 || tournament.getFormat().equals(TournamentFormat.HYBRID)) {
             tournament.setStatus(TournamentStatus.COMPLETED);
             if (tournament.getFormat().equals(TournamentFormat.SWISS)) {
                 tournament.setEndDate(LocalDate.now());
+                // A hybrid tournament still seeds its second phase from the standings, and evicts them itself
+                swissStandingsService.evict(tournament.getId());
             }
             return tournamentRepository.save(tournament);
         }
@@ -230,68 +297,45 @@ public class SwissRoundManagerImpl implements TournamentFormatManager {
         Match finalMatch = createMatch(tournament, winners.get(0), winners.get(1), MatchStatus.SCHEDULED);
         finalMatch.setBracket(MatchBracket.GRAND_FINAL);
         tournament.getMatches().add(finalMatch);
+        tournament.setOutstandingMatches(1);
+        matchRepository.save(finalMatch);
 
-        return tournamentRepository.save(tournament);
+        Tournament savedTournament = tournamentRepository.save(tournament);
+        tournamentFeedService.roundGenerated(tournament, tournament.getCurrentRoundNumber(), List.of(finalMatch));
+        return savedTournament;
     }
 
     /**
-     * Creates matches for the next round by pairing players based on their points.
-     * Ensures that players do not face the same opponent twice.
+     * Creates the matches of the current round from the pairings of the pairing engine and adds them to the tournament.
+     * Players without a legal opponent receive a bye, which is completed straight away and worth a win.
      *
      * @param tournament The tournament to update.
-     * @return A list of new matches created for the next round.
+     * @return A list of new matches created for the round, including byes.
      */
-    //createMatchforNextRound
-    private List<Match> createMatchesForNextRound(Tournament tournament) {
-        tournament.getPlayers().sort(Comparator.comparingDouble(Player::getPoints).reversed());
+    private List<Match> createMatchesForRound(Tournament tournament) {
+        SwissPairingEngine.SwissPairing pairing = swissPairingEngine.pairNextRound(tournament);
 
         List<Match> newMatches = new ArrayList<>();
-        Set<Player> pairedPlayers = new HashSet<>();
-        Map<Player, Set<Player>> matchHistory = SwissRoundUtils.createMatchHistory(tournament);
-
-        for (int i = 0; i < tournament.getPlayers().size(); i++) {
-            Player player = tournament.getPlayers().get(i);
-            if (pairedPlayers.contains(player)) continue;
-
-            Optional<Player> opponent = findOpponent(player, tournament, pairedPlayers, matchHistory, i);
-            if (opponent.isPresent()) {
-                Match match = createMatch(tournament, player, opponent.get(), MatchStatus.SCHEDULED);
-                newMatches.add(match);
-                pairedPlayers.add(player);
-                pairedPlayers.add(opponent.get());
-            }
-//            else {
-//                Match byeMatch = createMatch(tournament, player, null, MatchStatus.BYE);
-//                newMatches.add(byeMatch);
-//                pairedPlayers.add(player);
-//            }
+        for (SwissPairingEngine.Pairing pair : pairing.pairings()) {
+            newMatches.add(createMatch(tournament, pair.player1(), pair.player2(), MatchStatus.SCHEDULED));
         }
+        for (Player player : pairing.byes()) {
+            Match byeMatch = createMatch(tournament, player, null, MatchStatus.BYE);
+            byeMatch.setPlayer1Score(1);
+            byeMatch.setPlayer2Score(0);
+            player.setPoints(player.getPoints() + WIN_POINTS);
+            newMatches.add(byeMatch);
+        }
+
+        tournament.getMatches().addAll(newMatches);
+        tournament.setOutstandingMatches(pairing.pairings().size());
+        newMatches.stream()
+                .filter(match -> match.getStatus() == MatchStatus.BYE)
+                .forEach(swissStandingsService::recordBye);
+        tournamentFeedService.standingsChanged(tournament, pairing.byes());
         return newMatches;
     }
 
-    /**
-     * Finds the best opponent for a player who has not yet been paired in the round.
-     *
-     * @param player        The player seeking an opponent.
-     * @param tournament    The tournament in progress.
-     * @param pairedPlayers Set of players already paired in the round.
-     * @param matchHistory  Record of past matches to avoid repeat pairings.
-     * @param startIdx      Index to start searching for an opponent.
-     * @return An Optional containing the found opponent, or empty if no suitable opponent is found.
-     */
-    //find opponent
-    private Optional<Player> findOpponent(Player player, Tournament tournament, Set<Player> pairedPlayers, Map<Player, Set<Player>> matchHistory, int startIdx) {
-        for (int j = startIdx + 1; j < tournament.getPlayers().size(); j++) {
-            Player potentialOpponent = tournament.getPlayers().get(j);
-
-            Set<Player> playerHistory = matchHistory.getOrDefault(player, new HashSet<>()); // nullpointer except
-
-            if (!pairedPlayers.contains(potentialOpponent) && !playerHistory.contains(potentialOpponent)) {
-                return Optional.of(potentialOpponent);
-            }
-        }
-        return Optional.empty();
-    }
     /**
      * Determines the winner of the tournament.
      *
@@ -300,7 +344,7 @@ public class SwissRoundManagerImpl implements TournamentFormatManager {
      */
     @Override
     public Player determineWinner(Tournament tournament) {
-        List<Player> winner = SwissRoundUtils.findWinners(tournament);
+        List<Player> winner = swissStandingsService.findWinners(tournament);
         if (winner.isEmpty()) {
             throw new IllegalArgumentException("No winner found");
         }
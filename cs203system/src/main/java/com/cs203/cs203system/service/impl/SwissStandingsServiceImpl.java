@@ -0,0 +1,197 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.service.SwissStandingsService;
+import com.cs203.cs203system.utility.SwissStandings;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the Swiss standings of every running tournament in memory.
+ * <p>
+ * Standings are updated once per result instead of being recomputed from the full match history.
+ * When standings are missing (for example after a restart) they are rebuilt from the tournament once
+ * and then maintained incrementally again. Standings touched by a transaction that rolls back are
+ * dropped so they never drift from the database.
+ * </p>
+ * <p>
+ * Each node keeps its own standings, so a node may miss results recorded by another one. Before standings are
+ * read, the number of results they hold is checked against the tournament's recorded matches in the database,
+ * and they are rebuilt if the two disagree. Standings of completed tournaments are not kept.
+ * </p>
+ */
+@Service
+public class SwissStandingsServiceImpl implements SwissStandingsService {
+
+    private static final Set<MatchStatus> RECORDED_STATUSES = EnumSet.of(MatchStatus.COMPLETED, MatchStatus.BYE);
+
+    private final MatchRepository matchRepository;
+    private final Map<Long, SwissStandings> standingsByTournament = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a SwissStandingsServiceImpl with the necessary dependencies.
+     *
+     * @param matchRepository the repository counting the recorded matches of a tournament
+     */
+    @Autowired
+    public SwissStandingsServiceImpl(MatchRepository matchRepository) {
+        this.matchRepository = matchRepository;
+    }
+
+    /**
+     * Starts fresh standings for a tournament, registering all of its players with no score.
+     *
+     * @param tournament The tournament being initialized.
+     */
+    @Override
+    public void initialize(Tournament tournament) {
+        if (tournament.getId() == null) {
+            return;
+        }
+        SwissStandings standings = new SwissStandings();
+        tournament.getPlayers().forEach(standings::register);
+        standingsByTournament.put(tournament.getId(), standings);
+        evictOnRollback(tournament.getId());
+    }
+
+    /**
+     * Applies a completed match to the standings of its tournament.
+     * Standings that are not cached yet are rebuilt from the tournament, which already contains the match.
+     *
+     * @param match The completed match.
+     */
+    @Override
+    public void recordResult(Match match) {
+        Tournament tournament = match.getTournament();
+        if (tournament.getId() == null) {
+            return;
+        }
+
+        SwissStandings cached = standingsByTournament.get(tournament.getId());
+        if (cached == null) {
+            standingsByTournament.put(tournament.getId(), SwissStandings.fromTournament(tournament));
+        } else {
+            cached.recordResult(match);
+        }
+        evictOnRollback(tournament.getId());
+    }
+
+    /**
+     * Applies a bye to the standings of its tournament.
+     * Standings that are not cached yet are rebuilt from the tournament, which already contains the bye.
+     *
+     * @param match The bye, with the player sitting out as player 1.
+     */
+    @Override
+    public void recordBye(Match match) {
+        Tournament tournament = match.getTournament();
+        if (tournament.getId() == null) {
+            return;
+        }
+
+        SwissStandings cached = standingsByTournament.get(tournament.getId());
+        if (cached == null) {
+            standingsByTournament.put(tournament.getId(), SwissStandings.fromTournament(tournament));
+        } else {
+            cached.recordBye(match.getPlayer1());
+        }
+        evictOnRollback(tournament.getId());
+    }
+
+    @Override
+    public List<Player> findWinners(Tournament tournament) {
+        return resolve(tournament, standingsOf(tournament).findWinners());
+    }
+
+    @Override
+    public List<Player> getTopPlayers(Tournament tournament, int numberOfPlayers) {
+        return resolve(tournament, standingsOf(tournament).getTopPlayers(numberOfPlayers));
+    }
+
+    @Override
+    public void evict(Long tournamentId) {
+        if (tournamentId != null) {
+            standingsByTournament.remove(tournamentId);
+        }
+    }
+
+    /**
+     * Retrieves the standings of a tournament, building them from its matches when they are not cached or have
+     * missed results recorded elsewhere. Unsaved and completed tournaments are never cached.
+     *
+     * @param tournament The tournament to look up.
+     * @return The standings of the tournament.
+     */
+    private SwissStandings standingsOf(Tournament tournament) {
+        if (tournament.getId() == null) {
+            return SwissStandings.fromTournament(tournament);
+        }
+
+        SwissStandings cached = standingsByTournament.get(tournament.getId());
+        if (cached != null && cached.getRecordedMatches()
+                == matchRepository.countByTournamentIdAndStatusIn(tournament.getId(), RECORDED_STATUSES)) {
+            return cached;
+        }
+
+        SwissStandings rebuilt = SwissStandings.fromTournament(tournament);
+        if (tournament.getStatus() == TournamentStatus.COMPLETED) {
+            standingsByTournament.remove(tournament.getId());
+        } else {
+            standingsByTournament.put(tournament.getId(), rebuilt);
+            evictOnRollback(tournament.getId());
+        }
+        return rebuilt;
+    }
+
+    /**
+     * Swaps the players kept by the standings for the instances attached to the given tournament,
+     * since cached standings may outlive the persistence context that loaded their players.
+     *
+     * @param tournament The tournament whose players are returned.
+     * @param players    The players picked from the standings.
+     * @return The matching players of the tournament, in the same order.
+     */
+    private List<Player> resolve(Tournament tournament, List<Player> players) {
+        Map<Long, Player> attached = tournament.getPlayers().stream()
+                .filter(player -> player.getId() != null)
+                .collect(Collectors.toMap(Player::getId, Function.identity(), (first, second) -> first));
+
+        return players.stream()
+                .map(player -> player.getId() == null ? player : attached.getOrDefault(player.getId(), player))
+                .toList();
+    }
+
+    /**
+     * Drops the standings of a tournament if the surrounding transaction does not commit.
+     *
+     * @param tournamentId The id of the tournament.
+     */
+    private void evictOnRollback(Long tournamentId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    evict(tournamentId);
+                }
+            }
+        });
+    }
+}
@@ -1,5 +1,6 @@
 package com.cs203.cs203system.service.impl;
 
+import com.cs203.cs203system.config.JwtProperties;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -23,20 +24,24 @@ public class TokenService {
 
     private final JwtDecoder jwtDecoder;
 
+    private final JwtProperties jwtProperties;
+
     /**
      * Constructs a TokenService with the required JWT encoder and decoder.
      *
-     * @param jwtEncoder the encoder for creating JWT tokens
-     * @param jwtDecoder the decoder for decoding JWT tokens
+     * @param jwtEncoder    the encoder for creating JWT tokens
+     * @param jwtDecoder    the decoder for decoding JWT tokens
+     * @param jwtProperties the settings giving how long issued tokens stay valid
      */
     @Autowired
-    public TokenService(JwtEncoder jwtEncoder, JwtDecoder jwtDecoder) {
+    public TokenService(JwtEncoder jwtEncoder, JwtDecoder jwtDecoder, JwtProperties jwtProperties) {
         this.jwtEncoder = jwtEncoder;
         this.jwtDecoder = jwtDecoder;
+        this.jwtProperties = jwtProperties;
     }
 
     /**
-     * Generates a JWT token for the authenticated user.
+     * Generates a JWT token for the authenticated user, valid for the configured expiry.
      *
      * @param auth the authentication object containing user credentials and authorities
      * @return the generated JWT token as a String
@@ -52,6 +57,7 @@ public class TokenService {
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer("self")
                 .issuedAt(now)
+                .expiresAt(now.plusSeconds(jwtProperties.getExpirySeconds()))
                 .subject(auth.getName())
                 .claim("roles", scope)
                 .build();
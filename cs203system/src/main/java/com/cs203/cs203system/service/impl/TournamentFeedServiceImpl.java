@@ -0,0 +1,139 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.dtos.TournamentFeedEvent;
+import com.cs203.cs203system.dtos.TournamentFeedEvent.MatchDelta;
+import com.cs203.cs203system.dtos.TournamentFeedEvent.StandingDelta;
+import com.cs203.cs203system.enums.TournamentFeedEventType;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.service.TournamentFeedService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * Publishes the changes of a tournament on {@code /topic/tournament/{id}}, so spectators subscribe once instead of
+ * polling the whole tournament.
+ * <p>
+ * Events are built and sent after the transaction commits, from the entities as they were committed, so matches
+ * created in the transaction already carry their ids. Each event takes its number from the tournament's
+ * {@link Tournament#getFeedSequence() feed sequence} inside the transaction, so the numbers are committed with the
+ * change they describe: a rolled back change never uses up a number, and when several nodes share a broker relay
+ * the tournament's version check lets only one of two concurrent changes commit its numbers.
+ * </p>
+ */
+@Slf4j
+@Service
+public class TournamentFeedServiceImpl implements TournamentFeedService {
+
+    static final String TOPIC = "/topic/tournament/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * Constructs a TournamentFeedServiceImpl with the necessary dependencies.
+     *
+     * @param messagingTemplate the template for publishing events over STOMP
+     */
+    @Autowired
+    public TournamentFeedServiceImpl(SimpMessagingTemplate messagingTemplate) {
+        this.messagingTemplate = messagingTemplate;
+    }
+
+    @Override
+    public void matchCompleted(Match match) {
+        Tournament tournament = match.getTournament();
+        publish(tournament, sequence -> new TournamentFeedEvent(TournamentFeedEventType.MATCH_COMPLETED,
+                tournament.getId(), sequence, match.getRound(), null, List.of(toDelta(match)), null));
+    }
+
+    @Override
+    public void roundGenerated(Tournament tournament, int round, Collection<Match> matches) {
+        // Read after commit, once the saved matches have their ids
+        publish(tournament, sequence -> {
+            List<MatchDelta> deltas = new ArrayList<>();
+            for (Match match : matches) {
+                if (match.getRound() != null && match.getRound() == round) {
+                    deltas.add(toDelta(match));
+                }
+            }
+            return new TournamentFeedEvent(TournamentFeedEventType.ROUND_GENERATED, tournament.getId(), sequence,
+                    round, tournament.getStatus(), deltas, null);
+        });
+    }
+
+    @Override
+    public void bracketMoved(Tournament tournament, Collection<Match> matches) {
+        if (matches.isEmpty()) {
+            return;
+        }
+        List<Match> moved = new ArrayList<>(matches);
+        publish(tournament, sequence -> new TournamentFeedEvent(TournamentFeedEventType.BRACKET_MOVED,
+                tournament.getId(), sequence, null, null, moved.stream().map(this::toDelta).toList(), null));
+    }
+
+    @Override
+    public void standingsChanged(Tournament tournament, Collection<Player> players) {
+        List<Player> changed = players.stream().filter(player -> player != null).toList();
+        if (changed.isEmpty()) {
+            return;
+        }
+        publish(tournament, sequence -> new TournamentFeedEvent(TournamentFeedEventType.STANDINGS_CHANGED,
+                tournament.getId(), sequence, null, null, null,
+                changed.stream().map(player -> new StandingDelta(player.getId(), player.getPoints())).toList()));
+    }
+
+    @Override
+    public void tournamentCompleted(Tournament tournament) {
+        publish(tournament, sequence -> new TournamentFeedEvent(TournamentFeedEventType.TOURNAMENT_COMPLETED,
+                tournament.getId(), sequence, tournament.getCurrentRoundNumber(), tournament.getStatus(), null, null));
+    }
+
+    /**
+     * Numbers an event from the tournament's feed sequence, then sends it once the current transaction commits,
+     * or straight away outside a transaction. A failure to send is logged and does not affect the change itself.
+     */
+    private void publish(Tournament tournament, LongFunction<TournamentFeedEvent> event) {
+        if (tournament == null || tournament.getId() == null) {
+            return;
+        }
+        Long tournamentId = tournament.getId();
+        long sequence = (tournament.getFeedSequence() == null ? 0L : tournament.getFeedSequence()) + 1;
+        tournament.setFeedSequence(sequence);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send(tournamentId, sequence, event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send(tournamentId, sequence, event);
+            }
+        });
+    }
+
+    private void send(Long tournamentId, long sequence, LongFunction<TournamentFeedEvent> event) {
+        try {
+            messagingTemplate.convertAndSend(TOPIC + tournamentId, event.apply(sequence));
+        } catch (RuntimeException e) {
+            log.warn("Failed to publish an update of tournament {}", tournamentId, e);
+        }
+    }
+
+    private MatchDelta toDelta(Match match) {
+        return new MatchDelta(match.getId(), match.getRound(), match.getBracket(), match.getStatus(),
+                match.getPlayer1() == null ? null : match.getPlayer1().getId(),
+                match.getPlayer2() == null ? null : match.getPlayer2().getId(),
+                match.getPlayer1Score(), match.getPlayer2Score());
+    }
+}
@@ -0,0 +1,67 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.enums.TournamentFormat;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.service.TournamentFormatManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Looks up the {@link TournamentFormatManager} running each {@link TournamentFormat}.
+ * <p>
+ * Every manager bean registers itself under the format it returns from {@link TournamentFormatManager#getFormat()},
+ * so a new format only needs a new manager bean. Two managers claiming the same format fail the startup.
+ * </p>
+ */
+@Component
+public class TournamentFormatRegistry {
+
+    private final Map<TournamentFormat, TournamentFormatManager> managers = new EnumMap<>(TournamentFormat.class);
+
+    /**
+     * Constructs a TournamentFormatRegistry from every format manager in the application.
+     *
+     * @param formatManagers the format managers, one per supported format
+     * @throws IllegalStateException if two managers run the same format
+     */
+    @Autowired
+    public TournamentFormatRegistry(Collection<TournamentFormatManager> formatManagers) {
+        for (TournamentFormatManager manager : formatManagers) {
+            TournamentFormatManager previous = managers.putIfAbsent(manager.getFormat(), manager);
+            if (previous != null) {
+                throw new IllegalStateException("Both " + previous.getClass().getSimpleName() + " and "
+                        + manager.getClass().getSimpleName() + " run the " + manager.getFormat() + " format");
+            }
+        }
+    }
+
+    /**
+     * Retrieves the manager running a format.
+     *
+     * @param format the tournament format
+     * @return the format manager
+     * @throws IllegalArgumentException if no manager runs the format
+     */
+    public TournamentFormatManager get(TournamentFormat format) {
+        TournamentFormatManager manager = format == null ? null : managers.get(format);
+        if (manager == null) {
+            throw new IllegalArgumentException("Unsupported tournament format: " + format);
+        }
+        return manager;
+    }
+
+    /**
+     * Retrieves the manager running the format of a tournament.
+     *
+     * @param tournament the tournament
+     * @return the format manager
+     * @throws IllegalArgumentException if no manager runs the tournament's format
+     */
+    public TournamentFormatManager get(Tournament tournament) {
+        return get(tournament.getFormat());
+    }
+}
@@ -2,6 +2,8 @@ package com.cs203.cs203system.service.impl;
 
 import com.cs203.cs203system.Notification.Notification;
 import com.cs203.cs203system.Notification.NotificationStatus;
+import com.cs203.cs203system.dtos.BatchMatchResultDTO;
+import com.cs203.cs203system.dtos.TournamentSummaryDTO;
 import com.cs203.cs203system.enums.MatchStatus;
 import com.cs203.cs203system.enums.TournamentFormat;
 import com.cs203.cs203system.enums.TournamentStatus;
@@ -12,6 +14,9 @@ import com.cs203.cs203system.model.Tournament;
 import com.cs203.cs203system.repository.MatchRepository;
 import com.cs203.cs203system.repository.PlayerRepository;
 import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.PlayerStatsService;
+import com.cs203.cs203system.service.RoundAdvancementService;
+import com.cs203.cs203system.service.TournamentFeedService;
 import com.cs203.cs203system.service.TournamentFormatManager;
 import com.cs203.cs203system.service.TournamentManagerService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -26,47 +31,57 @@ import java.util.stream.Collectors;
  *
  * This service handles operations for creating, updating, starting, and managing
  * the results of tournaments, including different formats such as Swiss, Double
- * Elimination, and Hybrid. It also manages player participation and notifications.
+ * Elimination, Hybrid, Round Robin and Single Elimination. Each format is run by the
+ * manager registered for it in the {@link TournamentFormatRegistry}. It also manages
+ * player participation and notifications.
  */
 @Service
 public class TournamentManagerServiceImpl implements TournamentManagerService {
 
-    private final Map<TournamentFormat, TournamentFormatManager> formatManagers;
+    private final TournamentFormatRegistry formatRegistry;
     private final TournamentRepository tournamentRepository;
     private final PlayerRepository playerRepository;
     private final MatchRepository matchRepository;
     private final NotificationService notificationService;
+    private final PlayerStatsService playerStatsService;
+    private final TournamentUpdateExecutor tournamentUpdateExecutor;
+    private final RoundAdvancementService roundAdvancementService;
+    private final TournamentFeedService tournamentFeedService;
 
     /**
      * Constructs a TournamentManagerServiceImpl with the necessary dependencies.
      *
-     * @param swissRoundManagerImpl the Swiss round manager for handling Swiss format tournaments
-     * @param doubleEliminationManagerImpl the Double Elimination manager for double elimination tournaments
-     * @param hybridManagerImpl the Hybrid format manager for hybrid tournaments
+     * @param formatRegistry the registry of the managers running each tournament format
      * @param tournamentRepository the repository for tournament data
      * @param playerRepository the repository for player data
      * @param matchRepository the repository for match data
      * @param notificationService the service for sending notifications
+     * @param playerStatsService the service keeping player statistics totals up to date
+     * @param tournamentUpdateExecutor the executor serializing result submissions per tournament
+     * @param roundAdvancementService the service advancing completed rounds in the background
+     * @param tournamentFeedService the service publishing tournament changes to spectators
      */
     @Autowired
     public TournamentManagerServiceImpl(
-            SwissRoundManagerImpl swissRoundManagerImpl,
-            DoubleEliminationManagerImpl doubleEliminationManagerImpl,
-            SwissDoubleEliminationHybridManagerImpl hybridManagerImpl,
+            TournamentFormatRegistry formatRegistry,
             TournamentRepository tournamentRepository,
             PlayerRepository playerRepository,
             MatchRepository matchRepository,
-            NotificationService notificationService) {
-
-        this.formatManagers = new HashMap<>();
-        this.formatManagers.put(TournamentFormat.SWISS, swissRoundManagerImpl);
-        this.formatManagers.put(TournamentFormat.DOUBLE_ELIMINATION, doubleEliminationManagerImpl);
-        this.formatManagers.put(TournamentFormat.HYBRID, hybridManagerImpl);
+            NotificationService notificationService,
+            PlayerStatsService playerStatsService,
+            TournamentUpdateExecutor tournamentUpdateExecutor,
+            RoundAdvancementService roundAdvancementService,
+            TournamentFeedService tournamentFeedService) {
 
+        this.formatRegistry = formatRegistry;
         this.tournamentRepository = tournamentRepository;
         this.playerRepository = playerRepository;
         this.matchRepository = matchRepository;
         this.notificationService = notificationService;
+        this.playerStatsService = playerStatsService;
+        this.tournamentUpdateExecutor = tournamentUpdateExecutor;
+        this.roundAdvancementService = roundAdvancementService;
+        this.tournamentFeedService = tournamentFeedService;
     }
 
     /**
@@ -79,6 +94,16 @@ public class TournamentManagerServiceImpl implements TournamentManagerService {
         return tournamentRepository.findAll();
     }
 
+    /**
+     * Retrieves a summary of every tournament, with its players and matches counted rather than loaded.
+     *
+     * @return a list of tournament summaries ordered by ID.
+     */
+    @Override
+    public List<TournamentSummaryDTO> findAllTournamentSummaries() {
+        return tournamentRepository.findAllSummaries();
+    }
+
     /**
      * Deletes a tournament by its ID if it is in a SCHEDULED status.
      *
@@ -166,6 +191,7 @@ public class TournamentManagerServiceImpl implements TournamentManagerService {
 
     /**
      * Starts the tournament if it meets the necessary conditions.
+     * Any number of players from 2 is accepted: the format managers give byes when the field does not divide evenly.
      *
      * @param tournamentId the ID of the tournament to start.
      * @return the updated tournament.
@@ -181,42 +207,213 @@ public class TournamentManagerServiceImpl implements TournamentManagerService {
             throw new RuntimeException("Tournament needs to be scheduled");
         } else if (tournament.getPlayers().size() < 2) {
             throw new RuntimeException("Tournament needs at least 2 players");
-        } else if (tournament.getFormat() == TournamentFormat.DOUBLE_ELIMINATION && !isPowerOfTwo(tournament.getPlayers().size())) {
-            throw new RuntimeException("Double Elimination must have a total number of players equal to a power of 2");
-        } else if (tournament.getPlayers().size() % 2 != 0) {
-            throw new RuntimeException("Tournament needs an even number of players");
-        } else if (tournament.getFormat() == TournamentFormat.HYBRID && !isPowerOfTwo(tournament.getPlayers().size())) {
-            throw new RuntimeException("Hybrid must have a total number of players equal to a power of 2");
+        } else if (tournament.getFormat() == TournamentFormat.HYBRID && tournament.getPlayers().size() < 4) {
+            // The top half of the Swiss phase must still fill a Double Elimination bracket
+            throw new RuntimeException("Hybrid needs at least 4 players");
         }
 
         tournament.setStatus(TournamentStatus.ONGOING);
+        Tournament startedTournament = formatRegistry.get(tournament).initializeTournament(tournament);
 
+        // Only queued here; the dispatcher threads deliver it to each player
         sendNotification(tournament.getPlayers().stream().map(Player::getId).collect(Collectors.toList()),
                 NotificationStatus.START, "Tournament is starting!");
 
-        TournamentFormatManager manager = formatManagers.get(tournament.getFormat());
-        if (manager == null) {
-            throw new IllegalArgumentException("Unsupported tournament format: " + tournament.getFormat());
-        }
-        return manager.initializeTournament(tournament);
+        return startedTournament;
     }
 
     /**
      * Inputs the result of a match and updates the tournament status accordingly.
      *
+     * Results for the same tournament are applied one at a time, each in its own transaction, so that when the
+     * last results of a round arrive together only one of them sees the round as finished.
+     *
      * @param matchInRequest the match with updated results.
      * @return the updated tournament.
      * @throws NotFoundException if the match does not exist.
      * @throws RuntimeException if the match results are invalid.
      */
-    @Transactional
     @Override
     public Tournament inputResult(Match matchInRequest) {
+        Long tournamentId = matchRepository
+                .findTournamentIdById(matchInRequest.getId())
+                .orElseThrow(() -> new NotFoundException("Match of id " + matchInRequest.getId() + " is not found"));
+
+        return tournamentUpdateExecutor.execute(tournamentId, () -> recordResult(matchInRequest));
+    }
+
+    /**
+     * Validates and applies the result of a match, then hands it to the format manager.
+     * Runs inside the transaction of {@link #inputResult(Match)}, while it holds the tournament's lock.
+     *
+     * @param matchInRequest the match with updated results.
+     * @return the updated tournament.
+     */
+    private Tournament recordResult(Match matchInRequest) {
         Match matchInDatabase = matchRepository
                 .findById(matchInRequest.getId())
                 .orElseThrow(() -> new NotFoundException("Match of id " + matchInRequest.getId() + " is not found"));
 
-        // Validation of scores and match statuses
+        validateResult(matchInRequest, matchInDatabase);
+        if (matchInRequest.getStatus() != MatchStatus.PENDING) {
+            return matchInDatabase.getTournament();
+        }
+
+        applyResult(matchInRequest, matchInDatabase);
+        matchInDatabase = matchRepository.save(matchInDatabase);
+        countCompletedMatches(matchInDatabase.getTournament(), 1);
+
+        return handOffResult(getFormatManager(matchInDatabase.getTournament()), matchInDatabase);
+    }
+
+    /**
+     * Inputs the results of many matches of a tournament in a single transaction.
+     * Like {@link #inputResult(Match)}, it never runs at the same time as another result for the same tournament.
+     *
+     * Every result is validated first; invalid ones are rejected and reported without affecting the others.
+     * The accepted results are then written together and handed to the format manager as one batch. The round
+     * counter is decremented once for the whole batch and the round is only checked after it, so it advances at most once.
+     *
+     * @param tournamentId the ID of the tournament the matches belong to.
+     * @param matchesInRequest the matches with updated results.
+     * @return a report of the tournament state and of the outcome of each result, in request order.
+     * @throws NotFoundException if the tournament does not exist.
+     * @throws RuntimeException if the tournament is not ongoing.
+     */
+    @Override
+    public BatchMatchResultDTO inputResults(Long tournamentId, List<Match> matchesInRequest) {
+        return tournamentUpdateExecutor.execute(tournamentId, () -> recordResults(tournamentId, matchesInRequest));
+    }
+
+    /**
+     * Validates and applies a batch of results, then hands the accepted ones to the format manager.
+     * Runs inside the transaction of {@link #inputResults(Long, List)}, while it holds the tournament's lock.
+     *
+     * @param tournamentId the ID of the tournament the matches belong to.
+     * @param matchesInRequest the matches with updated results.
+     * @return a report of the tournament state and of the outcome of each result, in request order.
+     */
+    private BatchMatchResultDTO recordResults(Long tournamentId, List<Match> matchesInRequest) {
+        Tournament tournament = tournamentRepository
+                .findById(tournamentId)
+                .orElseThrow(() -> new NotFoundException("Tournament id of " + tournamentId + " does not exist"));
+        if (tournament.getStatus() != TournamentStatus.ONGOING) {
+            throw new RuntimeException("Results can only be input for an ongoing tournament");
+        }
+
+        Map<Long, Match> matchesInDatabase = matchRepository
+                .findAllById(matchesInRequest.stream().map(Match::getId).collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(Match::getId, match -> match));
+
+        List<Match> acceptedMatches = new ArrayList<>();
+        List<BatchMatchResultDTO.MatchResultStatusDTO> statuses = new ArrayList<>();
+        Set<Long> submittedIds = new HashSet<>();
+
+        for (Match matchInRequest : matchesInRequest) {
+            Match matchInDatabase = matchesInDatabase.get(matchInRequest.getId());
+            try {
+                if (matchInDatabase == null) {
+                    throw new NotFoundException("Match of id " + matchInRequest.getId() + " is not found");
+                } else if (!submittedIds.add(matchInRequest.getId())) {
+                    throw new RuntimeException("Match has already been submitted in this batch");
+                } else if (!tournament.equals(matchInDatabase.getTournament())) {
+                    throw new RuntimeException("Match does not belong to tournament " + tournamentId);
+                } else if (matchInRequest.getStatus() != MatchStatus.PENDING) {
+                    throw new RuntimeException("Please input a valid match status");
+                }
+                validateResult(matchInRequest, matchInDatabase);
+
+                applyResult(matchInRequest, matchInDatabase);
+                acceptedMatches.add(matchInDatabase);
+                statuses.add(new BatchMatchResultDTO.MatchResultStatusDTO(matchInRequest.getId(), true, null));
+            } catch (RuntimeException e) {
+                statuses.add(new BatchMatchResultDTO.MatchResultStatusDTO(matchInRequest.getId(), false, e.getMessage()));
+            }
+        }
+
+        if (!acceptedMatches.isEmpty()) {
+            matchRepository.saveAll(acceptedMatches);
+            countCompletedMatches(tournament, acceptedMatches.size());
+            tournament = handOffResults(getFormatManager(tournament), acceptedMatches);
+        }
+
+        return new BatchMatchResultDTO(
+                tournament.getId(),
+                tournament.getStatus(),
+                tournament.getCurrentRoundNumber(),
+                tournament.getOutstandingMatches(),
+                acceptedMatches.size(),
+                statuses.size() - acceptedMatches.size(),
+                statuses);
+    }
+
+    /**
+     * Hands a saved result to the format manager.
+     *
+     * When rounds are advanced in the background, the manager only records the result. If it completed the round,
+     * an outbox task is written in the same transaction and the next round is generated after commit, so the
+     * referee submitting the last result does not wait for the pairing.
+     *
+     * The result is published on the tournament's feed, as is the end of the tournament if the result completed it.
+     *
+     * @param manager the manager of the tournament's format.
+     * @param match the match with its result applied.
+     * @return the updated tournament.
+     */
+    private Tournament handOffResult(TournamentFormatManager manager, Match match) {
+        tournamentFeedService.matchCompleted(match);
+
+        Tournament tournament;
+        if (!roundAdvancementService.isAsync()) {
+            tournament = manager.receiveMatchResult(match);
+        } else {
+            tournament = manager.recordMatchResult(match);
+            if (tournament.getStatus() == TournamentStatus.ONGOING && manager.isRoundCompleted(tournament)) {
+                roundAdvancementService.scheduleAdvancement(tournament);
+            }
+        }
+
+        if (tournament.getStatus() == TournamentStatus.COMPLETED) {
+            tournamentFeedService.tournamentCompleted(tournament);
+        }
+        return tournament;
+    }
+
+    /**
+     * Hands a batch of saved results of the same tournament to the format manager, then checks once whether the
+     * round is completed and either advances it or schedules its advancement, depending on the advancement mode.
+     *
+     * @param manager the manager of the tournament's format.
+     * @param matches the stored matches, all with results and in request order.
+     * @return the updated tournament.
+     */
+    private Tournament handOffResults(TournamentFormatManager manager, List<Match> matches) {
+        matches.forEach(tournamentFeedService::matchCompleted);
+
+        Tournament tournament = manager.recordMatchResults(matches);
+        if (tournament.getStatus() == TournamentStatus.ONGOING && manager.isRoundCompleted(tournament)) {
+            if (!roundAdvancementService.isAsync()) {
+                tournament = manager.advanceRound(tournament);
+            } else {
+                roundAdvancementService.scheduleAdvancement(tournament);
+            }
+        }
+
+        if (tournament.getStatus() == TournamentStatus.COMPLETED) {
+            tournamentFeedService.tournamentCompleted(tournament);
+        }
+        return tournament;
+    }
+
+    /**
+     * Validates a submitted result against the stored match.
+     *
+     * @param matchInRequest the match with the submitted result.
+     * @param matchInDatabase the stored match.
+     * @throws RuntimeException if the result cannot be input.
+     */
+    private void validateResult(Match matchInRequest, Match matchInDatabase) {
         if (matchInRequest.getPlayer1Score() < 0 || matchInRequest.getPlayer2Score() < 0) {
             throw new RuntimeException("Match score cannot be negative");
         } else if (matchInRequest.getPlayer1Score() + matchInRequest.getPlayer2Score() == 0) {
@@ -224,29 +421,54 @@ public class TournamentManagerServiceImpl implements TournamentManagerService {
         } else if (matchInRequest.getPlayer1Score().equals(matchInRequest.getPlayer2Score())
                 && matchInDatabase.getTournament().getFormat() == TournamentFormat.DOUBLE_ELIMINATION) {
             throw new RuntimeException("Draws are not allowed for Double Elimination");
+        } else if (matchInRequest.getPlayer1Score().equals(matchInRequest.getPlayer2Score())
+                && matchInDatabase.getTournament().getFormat() == TournamentFormat.SINGLE_ELIMINATION) {
+            throw new RuntimeException("Draws are not allowed for Single Elimination");
+        } else if (matchInRequest.getPlayer1Score().equals(matchInRequest.getPlayer2Score())
+                && matchInDatabase.getTournament().getFormat() == TournamentFormat.HYBRID
+                && Boolean.TRUE.equals(matchInDatabase.getTournament().getIsOnSecondFormat())) {
+            throw new RuntimeException("Draws are not allowed in the Double Elimination phase");
         } else if (matchInRequest.getStatus() == MatchStatus.SCHEDULED || matchInRequest.getStatus() == MatchStatus.WAITING) {
             throw new RuntimeException("Please input a valid match status");
+        } else if (matchInDatabase.getStatus() == MatchStatus.BYE) {
+            throw new RuntimeException("A bye does not have a result to input");
+        } else if (matchInDatabase.getStatus() == MatchStatus.WAITING) {
+            throw new RuntimeException("Match is waiting for an earlier round to complete");
         } else if (matchInDatabase.getStatus() == MatchStatus.COMPLETED) {
             throw new RuntimeException("Match has already been completed");
-        } else if (matchInRequest.getStatus() == MatchStatus.PENDING) {
-            matchInDatabase.setPlayer1Score(matchInRequest.getPlayer1Score());
-            matchInDatabase.setPlayer2Score(matchInRequest.getPlayer2Score());
-            matchInDatabase.setPunchesPlayer1(matchInRequest.getPunchesPlayer1());
-            matchInDatabase.setPunchesPlayer2(matchInRequest.getPunchesPlayer2());
-            matchInDatabase.setDodgesPlayer1(matchInRequest.getDodgesPlayer1());
-            matchInDatabase.setDodgesPlayer2(matchInRequest.getDodgesPlayer2());
-            matchInDatabase.setKoByPlayer1(matchInRequest.isKoByPlayer1());
-            matchInDatabase.setKoByPlayer2(matchInRequest.isKoByPlayer2());
-            matchInDatabase.setStatus(MatchStatus.COMPLETED);
-            matchInDatabase = matchRepository.save(matchInDatabase);
-
-            TournamentFormatManager manager = formatManagers.get(matchInDatabase.getTournament().getFormat());
-            if (manager == null) {
-                throw new IllegalArgumentException("Unsupported tournament format: " + matchInDatabase.getTournament().getFormat());
-            }
-            return manager.receiveMatchResult(matchInDatabase);
         }
-        return matchInDatabase.getTournament();
+    }
+
+    /**
+     * Copies a submitted result onto the stored match, marks it as completed and adds its statistics to
+     * the players' totals.
+     *
+     * @param matchInRequest the match with the submitted result.
+     * @param matchInDatabase the stored match to update.
+     */
+    private void applyResult(Match matchInRequest, Match matchInDatabase) {
+        PlayerStatsService.MatchStats previousStats = PlayerStatsService.MatchStats.of(matchInDatabase);
+        matchInDatabase.setPlayer1Score(matchInRequest.getPlayer1Score());
+        matchInDatabase.setPlayer2Score(matchInRequest.getPlayer2Score());
+        matchInDatabase.setPunchesPlayer1(matchInRequest.getPunchesPlayer1());
+        matchInDatabase.setPunchesPlayer2(matchInRequest.getPunchesPlayer2());
+        matchInDatabase.setDodgesPlayer1(matchInRequest.getDodgesPlayer1());
+        matchInDatabase.setDodgesPlayer2(matchInRequest.getDodgesPlayer2());
+        matchInDatabase.setKoByPlayer1(matchInRequest.isKoByPlayer1());
+        matchInDatabase.setKoByPlayer2(matchInRequest.isKoByPlayer2());
+        matchInDatabase.setStatus(MatchStatus.COMPLETED);
+        playerStatsService.recordMatchStats(matchInDatabase, previousStats);
+    }
+
+    /**
+     * Retrieves the manager handling the format of a tournament.
+     *
+     * @param tournament the tournament.
+     * @return the format manager.
+     * @throws IllegalArgumentException if the format is not supported.
+     */
+    private TournamentFormatManager getFormatManager(Tournament tournament) {
+        return formatRegistry.get(tournament);
     }
 
     /**
@@ -266,11 +488,7 @@ public class TournamentManagerServiceImpl implements TournamentManagerService {
             throw new RuntimeException("Winner cannot be determined in a tournament that has not completed.");
         }
 
-        TournamentFormatManager manager = formatManagers.get(tournament.getFormat());
-        if (manager == null) {
-            throw new IllegalArgumentException("Unsupported tournament format: " + tournament.getFormat());
-        }
-        Player winner = manager.determineWinner(tournament);
+        Player winner = getFormatManager(tournament).determineWinner(tournament);
 
         if (winner != null) {
             sendNotification(Collections.singletonList(winner.getId()), NotificationStatus.ENDED, winner.getName() + " is the winner!");
@@ -280,13 +498,22 @@ public class TournamentManagerServiceImpl implements TournamentManagerService {
     }
 
     /**
-     * Determines if a given number is a power of two.
+     * Decrements the outstanding match counter of the tournament in the database and refreshes the loaded entity,
+     * so the format manager can tell whether the round is over without looking at the other matches.
      *
-     * @param n the number to check.
-     * @return true if the number is a power of two, false otherwise.
+     * @param tournament the tournament the completed matches belong to.
+     * @param count the number of completed matches.
+     * @throws IllegalStateException if the counter is lower than the number of completed matches, so the
+     *                               transaction is rolled back instead of recording results the round never expected.
      */
-    private boolean isPowerOfTwo(int n) {
-        return n > 0 && (n & (n - 1)) == 0;
+    private void countCompletedMatches(Tournament tournament, int count) {
+        int updated = tournamentRepository.decrementOutstandingMatches(tournament.getId(), count);
+        if (updated != 1) {
+            throw new IllegalStateException("Outstanding match counter of tournament " + tournament.getId()
+                    + " is lower than the " + count + " results being recorded");
+        }
+        Integer outstandingMatches = tournamentRepository.findOutstandingMatchesById(tournament.getId());
+        tournament.setOutstandingMatches(outstandingMatches == null ? 0 : outstandingMatches);
     }
 
     /**
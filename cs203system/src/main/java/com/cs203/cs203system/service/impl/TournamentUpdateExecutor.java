@@ -0,0 +1,69 @@
+package com.cs203.cs203system.service.impl;
+
+import com.cs203.cs203system.utility.StripedLocks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.locks.Lock;
+import java.util.function.Supplier;
+
+/**
+ * Runs updates to a tournament one at a time.
+ * <p>
+ * Updates to the same tournament take the same in-JVM lock before their transaction starts and release it
+ * after it commits, so each one sees everything the previous one wrote. Updates to different tournaments
+ * only share a lock when their ids land on the same stripe. The lock does not help across several
+ * application instances, so the tournament is also versioned: an update that loses that race fails its
+ * version check on commit and is retried in a new transaction.
+ * </p>
+ */
+@Slf4j
+@Component
+public class TournamentUpdateExecutor {
+
+    static final int STRIPES = 64;
+    static final int MAX_ATTEMPTS = 3;
+
+    private final StripedLocks locks = new StripedLocks(STRIPES);
+    private final TransactionOperations transactionOperations;
+
+    /**
+     * Constructs a TournamentUpdateExecutor with the necessary dependency.
+     *
+     * @param transactionOperations the template running each attempt in its own transaction
+     */
+    @Autowired
+    public TournamentUpdateExecutor(TransactionOperations transactionOperations) {
+        this.transactionOperations = transactionOperations;
+    }
+
+    /**
+     * Runs an update to a tournament while no other update to it runs in this application.
+     *
+     * @param tournamentId the ID of the tournament being updated
+     * @param update the update, which must read the tournament again every time it is run
+     * @return the result of the update
+     * @throws OptimisticLockingFailureException if the tournament kept being changed elsewhere
+     */
+    public <T> T execute(Long tournamentId, Supplier<T> update) {
+        Lock lock = locks.get(tournamentId);
+        lock.lock();
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    return transactionOperations.execute(status -> update.get());
+                } catch (OptimisticLockingFailureException e) {
+                    if (attempt >= MAX_ATTEMPTS) {
+                        throw e;
+                    }
+                    log.debug("Tournament {} was changed concurrently, retrying (attempt {})", tournamentId, attempt + 1);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.cs203.cs203system.service.impl;
 
+import com.cs203.cs203system.dtos.UserResponseDto;
 import com.cs203.cs203system.model.User;
 import com.cs203.cs203system.repository.UserRepository;
+import com.cs203.cs203system.utility.TtlUserCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service for managing user-related operations and user authentication.
@@ -23,14 +29,18 @@ public class UserService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    private final TtlUserCache userCache;
+
     /**
      * Constructs a UserService with the necessary dependencies.
      *
      * @param userRepository the user repository for accessing user data
+     * @param userCache      the cache of users loaded at login, cleared of users as they are updated
      */
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository, TtlUserCache userCache) {
         this.userRepository = userRepository;
+        this.userCache = userCache;
     }
 
     /**
@@ -52,18 +62,42 @@ public class UserService implements UserDetailsService {
         return userRepository.findAll();
     }
 
+    /**
+     * Retrieves a page of users in id order, starting after the given id.
+     *
+     * @param afterId the id of the last user of the previous page, 0 for the first page
+     * @param limit the maximum number of users to return
+     * @return the users of the page
+     */
+    public List<UserResponseDto> getUsersAfter(Long afterId, int limit) {
+        return userRepository.findDtosAfter(afterId, Limit.of(limit));
+    }
+
+    /**
+     * Hands every user to the consumer in id order, reading them from the database in chunks.
+     *
+     * @param consumer receives each user, inside the export's read-only transaction
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(Consumer<UserResponseDto> consumer) {
+        try (Stream<UserResponseDto> users = userRepository.streamAllDtos()) {
+            users.forEach(consumer);
+        }
+    }
+
     public User updateUserDetails(Long id, User updatedUserDetails) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
         user.setEmail(updatedUserDetails.getEmail());
 
+        userCache.removeUserFromCache(user.getUsername());
+        userCache.removeUserFromCache(updatedUserDetails.getUsername());
         return userRepository.save(updatedUserDetails);
     }
 
     /**
-     * Locates the user based on the username. In the actual implementation, the search
-     * may be case-sensitive or case-insensitive depending on the configuration.
+     * Locates the user based on the username, whatever its case, through the index on the lower-cased username.
      *
      * This method is used by Spring Security to authenticate users. If the user
      * is found, it returns a {@link UserDetails} object with the user's information.
@@ -76,7 +110,7 @@ public class UserService implements UserDetailsService {
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsernameIgnoreCase(username)
+        return userRepository.findByUsernameLower(User.normalize(username))
                 .orElseThrow(() -> new UsernameNotFoundException("User '" + username + "' not found"));
     }
 }
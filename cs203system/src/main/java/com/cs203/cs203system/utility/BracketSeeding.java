@@ -0,0 +1,72 @@
+package com.cs203.cs203system.utility;
+
+import com.cs203.cs203system.model.Player;
+
+import java.util.*;
+
+/**
+ * Seeding of elimination brackets whose field is not a power of two.
+ * <p>
+ * The bracket is sized to the next power of two and the seeds are laid out in the standard order, where seeds
+ * {@code s} and {@code size + 1 - s} meet in the first round. The missing seeds are the lowest ones, so the
+ * byes go to the top seeds and two byes never meet.
+ * </p>
+ */
+public final class BracketSeeding {
+
+    /**
+     * The seed of an empty slot, whose opponent receives a bye.
+     */
+    public static final int BYE = -1;
+
+    private BracketSeeding() {
+    }
+
+    /**
+     * @param players The number of players, at least 1.
+     * @return The smallest power of two holding all the players.
+     */
+    public static int bracketSize(int players) {
+        return players <= 1 ? 1 : Integer.highestOneBit(players - 1) << 1;
+    }
+
+    /**
+     * Lays out the seeds of the first round.
+     *
+     * @param players The number of players.
+     * @return The 0-based seed in each slot of the first round, slots {@code 2i} and {@code 2i + 1} forming match
+     * {@code i}, or {@link #BYE} for a missing seed. The better seed always takes the first slot of a match.
+     */
+    public static int[] openingSlots(int players) {
+        int size = bracketSize(players);
+        int[] order = {0};
+        while (order.length < size) {
+            int length = order.length * 2;
+            int[] next = new int[length];
+            for (int i = 0; i < order.length; i++) {
+                next[2 * i] = order[i];
+                next[2 * i + 1] = length - 1 - order[i];
+            }
+            order = next;
+        }
+        for (int i = 0; i < order.length; i++) {
+            if (order[i] >= players) {
+                order[i] = BYE;
+            }
+        }
+        return order;
+    }
+
+    /**
+     * Orders players by Elo rating, highest first. Players with the same rating are ordered at random.
+     *
+     * @param players The players to seed.
+     * @return A new list of the players, best seed first.
+     */
+    public static List<Player> byRating(Collection<Player> players) {
+        List<Player> seeds = new ArrayList<>(players);
+        Collections.shuffle(seeds);
+        seeds.sort(Comparator.comparing(Player::getEloRating, Comparator.nullsLast(Comparator.reverseOrder())));
+        return seeds;
+    }
+}
@@ -0,0 +1,45 @@
+package com.cs203.cs203system.utility;
+
+import com.cs203.cs203system.enums.UserType;
+import com.cs203.cs203system.model.User;
+import lombok.Getter;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * An immutable copy of a {@link User} kept by the {@link TtlUserCache}.
+ * <p>
+ * Besides the credentials needed to authenticate, it holds the id, email and type of the user, so a login served
+ * from the cache can describe the user without reading it again.
+ * </p>
+ */
+@Getter
+public class CachedUser extends org.springframework.security.core.userdetails.User {
+
+    private final Long id;
+    private final String email;
+    private final UserType userType;
+
+    private CachedUser(UserDetails user, Long id, String email, UserType userType) {
+        super(user.getUsername(), user.getPassword(), user.isEnabled(), user.isAccountNonExpired(),
+                user.isCredentialsNonExpired(), user.isAccountNonLocked(), user.getAuthorities());
+        this.id = id;
+        this.email = email;
+        this.userType = userType;
+    }
+
+    /**
+     * Copies a user. Details other than the credentials are only known for {@link User} entities and other copies.
+     *
+     * @param user the user to copy
+     * @return the copy of the user
+     */
+    public static CachedUser of(UserDetails user) {
+        if (user instanceof CachedUser cached) {
+            return new CachedUser(cached, cached.getId(), cached.getEmail(), cached.getUserType());
+        }
+        if (user instanceof User entity) {
+            return new CachedUser(entity, entity.getId(), entity.getEmail(), entity.getUserType());
+        }
+        return new CachedUser(user, null, null, null);
+    }
+}
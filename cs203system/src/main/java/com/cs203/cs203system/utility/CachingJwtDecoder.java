@@ -0,0 +1,116 @@
+package com.cs203.cs203system.utility;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@link JwtDecoder} that remembers the tokens it has already verified.
+ * <p>
+ * The first request with a token goes through the wrapped decoder, which checks its signature and claims.
+ * Later requests with the same token get the verified {@link Jwt} back from the cache until the token expires,
+ * or until the cache TTL runs out if that is sooner. Tokens are keyed by their SHA-256 hash, so the cache does not
+ * hold the tokens themselves. Rejected tokens are never cached.
+ * </p>
+ * <p>
+ * The cache is bounded and keeps the most recently used tokens: when it is full, caching a new token evicts the
+ * token that went unused the longest. Expired tokens are dropped when they are next looked up, or are evicted
+ * in turn once they fall out of use.
+ * </p>
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Entry> cache;
+
+    /**
+     * @param delegate the decoder verifying tokens that are not cached
+     * @param maxSize  the maximum number of tokens kept
+     * @param ttl      the longest a verified token is kept
+     */
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, Duration ttl) {
+        this(delegate, maxSize, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * @param delegate the decoder verifying tokens that are not cached
+     * @param maxSize  the maximum number of tokens kept
+     * @param ttl      the longest a verified token is kept
+     * @param clock    the clock the expiry of cached tokens is checked against
+     */
+    public CachingJwtDecoder(JwtDecoder delegate, int maxSize, Duration ttl, Clock clock) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > CachingJwtDecoder.this.maxSize;
+            }
+        };
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = hash(token);
+        Instant now = clock.instant();
+
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry != null) {
+                if (now.isBefore(entry.expiresAt())) {
+                    return entry.jwt();
+                }
+                cache.remove(key);
+            }
+        }
+
+        // Tokens are verified outside the lock, so a slow verification does not hold up cached tokens
+        Jwt jwt = delegate.decode(token);
+        Instant expiresAt = now.plus(ttl);
+        if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isBefore(expiresAt)) {
+            expiresAt = jwt.getExpiresAt();
+        }
+        if (now.isBefore(expiresAt) && maxSize > 0) {
+            synchronized (cache) {
+                cache.put(key, new Entry(jwt, expiresAt));
+            }
+        }
+        return jwt;
+    }
+
+    /**
+     * @return The number of tokens currently cached, including expired ones not yet dropped.
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record Entry(Jwt jwt, Instant expiresAt) {
+    }
+}
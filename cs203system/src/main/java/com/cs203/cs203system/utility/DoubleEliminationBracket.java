@@ -0,0 +1,265 @@
+package com.cs203.cs203system.utility;
+
+import com.cs203.cs203system.enums.MatchBracket;
+
+/**
+ * The match graph of a double elimination bracket, computed once for a field of a given size.
+ * <p>
+ * Every match of the bracket gets an index, and for each index the graph stores where its winner and its loser
+ * go next: the index of the match and the slot (1 or 2) they take in it. The upper bracket has {@code k} rounds
+ * for {@code n = 2^k} players. The lower bracket alternates rounds played among its own players with rounds
+ * taking in the losers of the next upper round, {@code 2(k - 1)} rounds in all. Losers of the later upper rounds
+ * enter the lower bracket in reverse order, so two players do not meet again right away.
+ * The champions of both brackets meet in the {@link MatchBracket#FINAL}. The
+ * {@link MatchBracket#GRAND_FINAL} is the bracket reset, only played if the lower bracket champion wins the final.
+ * </p>
+ * <p>
+ * Fields that are not a power of two are seeded into the next power of two with {@link BracketSeeding}, so the
+ * top seeds get a bye in the first round. The number of players reaching each match is worked out here, once:
+ * a match that only one player can reach is a bye, and lets that player through without being played.
+ * </p>
+ * <p>
+ * Indexes run from the grand final to the first upper round, so every match links to a match with a smaller
+ * index. Saving the matches in index order therefore saves every match after the matches it links to.
+ * </p>
+ */
+public class DoubleEliminationBracket {
+
+    /**
+     * The link of a player who does not move on to another match.
+     */
+    public static final int NONE = -1;
+
+    public static final int GRAND_FINAL = 0;
+    public static final int FINAL = 1;
+
+    private final int players;
+    private final int size;
+    private final int upperRounds;
+    private final int lowerRounds;
+    private final int[] upperStart;
+    private final int[] lowerStart;
+
+    private final MatchBracket[] brackets;
+    private final int[] rounds;
+    private final int[] winnerNext;
+    private final int[] winnerSlot;
+    private final int[] loserNext;
+    private final int[] loserSlot;
+    private final int[] openingSlots;
+    private final int[] entrants;
+
+    /**
+     * Computes the bracket of a field.
+     *
+     * @param players The number of players, at least 2.
+     * @throws IllegalArgumentException if there are fewer than 2 players.
+     */
+    public DoubleEliminationBracket(int players) {
+        if (players < 2) {
+            throw new IllegalArgumentException("A double elimination bracket needs at least 2 players");
+        }
+        this.players = players;
+        this.size = BracketSeeding.bracketSize(players);
+        this.upperRounds = Integer.numberOfTrailingZeros(size);
+        this.lowerRounds = 2 * (upperRounds - 1);
+
+        int matchCount = 2 * size - 1;
+        brackets = new MatchBracket[matchCount];
+        rounds = new int[matchCount];
+        winnerNext = new int[matchCount];
+        winnerSlot = new int[matchCount];
+        loserNext = new int[matchCount];
+        loserSlot = new int[matchCount];
+
+        // Lay out the indexes: finals first, then the lower and upper rounds from last to first
+        upperStart = new int[upperRounds + 1];
+        lowerStart = new int[lowerRounds + 1];
+        int index = FINAL + 1;
+        for (int round = lowerRounds; round >= 1; round--) {
+            lowerStart[round] = index;
+            index += lowerRoundSize(round);
+        }
+        for (int round = upperRounds; round >= 1; round--) {
+            upperStart[round] = index;
+            index += upperRoundSize(round);
+        }
+
+        int finalRound = Math.max(upperRounds, lowerRounds) + 1;
+        set(GRAND_FINAL, MatchBracket.GRAND_FINAL, finalRound + 1, NONE, 0, NONE, 0);
+        set(FINAL, MatchBracket.FINAL, finalRound, GRAND_FINAL, 1, GRAND_FINAL, 2);
+        linkUpperBracket();
+        linkLowerBracket();
+
+        openingSlots = BracketSeeding.openingSlots(players);
+        entrants = countEntrants();
+    }
+
+    /**
+     * Counts the players reaching each match, going from the first round to the grand final.
+     * Only the first round has empty slots, but a missing loser there leaves a gap further down the lower bracket.
+     */
+    private int[] countEntrants() {
+        int[] counts = new int[brackets.length];
+        for (int i = 0; i < getOpeningMatchCount(); i++) {
+            counts[upper(1, i)] = openingSlots[2 * i + 1] == BracketSeeding.BYE ? 1 : 2;
+        }
+        // Every link points to a smaller index, so a match is counted before the matches it feeds
+        for (int i = brackets.length - 1; i >= 0; i--) {
+            if (counts[i] >= 1 && winnerNext[i] != NONE) {
+                counts[winnerNext[i]]++;
+            }
+            if (counts[i] == 2 && loserNext[i] != NONE) {
+                counts[loserNext[i]]++;
+            }
+        }
+        return counts;
+    }
+
+    private void linkUpperBracket() {
+        for (int round = 1; round <= upperRounds; round++) {
+            int matches = upperRoundSize(round);
+            for (int i = 0; i < matches; i++) {
+                int next = round < upperRounds ? upper(round + 1, i / 2) : FINAL;
+                int nextSlot = round < upperRounds ? i % 2 + 1 : 1;
+
+                int dropTo;
+                int dropSlot;
+                if (lowerRounds == 0) {
+                    // Two players: the loser of the only match goes straight to the final
+                    dropTo = FINAL;
+                    dropSlot = 2;
+                } else if (round == 1) {
+                    dropTo = lower(1, i / 2);
+                    dropSlot = i % 2 + 1;
+                } else {
+                    dropTo = lower(2 * (round - 1), matches - 1 - i);
+                    dropSlot = 2;
+                }
+                set(upper(round, i), MatchBracket.UPPER, round, next, nextSlot, dropTo, dropSlot);
+            }
+        }
+    }
+
+    private void linkLowerBracket() {
+        for (int round = 1; round <= lowerRounds; round++) {
+            int matches = lowerRoundSize(round);
+            for (int i = 0; i < matches; i++) {
+                int next;
+                int nextSlot;
+                if (round % 2 == 1) {
+                    // Winners wait for a loser of the upper bracket
+                    next = lower(round + 1, i);
+                    nextSlot = 1;
+                } else if (round < lowerRounds) {
+                    next = lower(round + 1, i / 2);
+                    nextSlot = i % 2 + 1;
+                } else {
+                    next = FINAL;
+                    nextSlot = 2;
+                }
+                set(lower(round, i), MatchBracket.LOWER, round, next, nextSlot, NONE, 0);
+            }
+        }
+    }
+
+    private void set(int index, MatchBracket bracket, int round, int next, int nextSlot, int dropTo, int dropSlot) {
+        brackets[index] = bracket;
+        rounds[index] = round;
+        winnerNext[index] = next;
+        winnerSlot[index] = nextSlot;
+        loserNext[index] = dropTo;
+        loserSlot[index] = dropSlot;
+    }
+
+    private int upperRoundSize(int round) {
+        return size >> round;
+    }
+
+    private int lowerRoundSize(int round) {
+        return size >> ((round + 1) / 2 + 1);
+    }
+
+    /**
+     * @return The index of match {@code i} of an upper bracket round.
+     */
+    public int upper(int round, int i) {
+        return upperStart[round] + i;
+    }
+
+    /**
+     * @return The index of match {@code i} of a lower bracket round.
+     */
+    public int lower(int round, int i) {
+        return lowerStart[round] + i;
+    }
+
+    /**
+     * @return The number of matches of the bracket, including the grand final.
+     */
+    public int getMatchCount() {
+        return brackets.length;
+    }
+
+    /**
+     * @return The number of matches played when the bracket is not reset, {@code 2n - 2}: every player but the
+     * champion loses twice.
+     */
+    public int getMatchesToPlay() {
+        return 2 * players - 2;
+    }
+
+    /**
+     * @param match The index of a match.
+     * @return True if at most one player reaches the match, so it is not played.
+     */
+    public boolean isBye(int match) {
+        return entrants[match] < 2;
+    }
+
+    /**
+     * @param openingMatch The position of a match in the first upper round.
+     * @param slot The side of the match: 1 for player 1, 2 for player 2.
+     * @return The 0-based seed placed in that slot, or {@link BracketSeeding#BYE} if it is empty.
+     */
+    public int getOpeningSeed(int openingMatch, int slot) {
+        return openingSlots[2 * openingMatch + slot - 1];
+    }
+
+    /**
+     * @return The number of matches of the first upper round, which hold the players when the bracket starts.
+     */
+    public int getOpeningMatchCount() {
+        return upperRoundSize(1);
+    }
+
+    public MatchBracket getBracket(int match) {
+        return brackets[match];
+    }
+
+    public int getRound(int match) {
+        return rounds[match];
+    }
+
+    /**
+     * @return The index of the match the winner moves on to, or {@link #NONE} for the grand final.
+     */
+    public int getWinnerNext(int match) {
+        return winnerNext[match];
+    }
+
+    public int getWinnerSlot(int match) {
+        return winnerSlot[match];
+    }
+
+    /**
+     * @return The index of the match the loser drops to, or {@link #NONE} if the loser is eliminated.
+     */
+    public int getLoserNext(int match) {
+        return loserNext[match];
+    }
+
+    public int getLoserSlot(int match) {
+        return loserSlot[match];
+    }
+}
@@ -0,0 +1,95 @@
+package com.cs203.cs203system.utility;
+
+/**
+ * The Elo formula used for every rating change, on plain numbers so that it can be applied both to live results
+ * and to a replay of the whole match history.
+ * <p>
+ * On top of the classic Elo update, a player gains or loses points for their share of the punches and dodges of
+ * the match, with half the weight for the player who did not win, and a winner gets a bonus for a knockout.
+ * </p>
+ */
+public final class EloCalculator {
+
+    public static final int K_FACTOR = 32; // ELO constant
+
+    private EloCalculator() {
+    }
+
+    /**
+     * Calculates a player's new rating after a match.
+     *
+     * @param rating the player's rating before the match
+     * @param opponentRating the opponent's rating before the match
+     * @param score the player's score
+     * @param opponentScore the opponent's score
+     * @param punches punches landed by the player
+     * @param opponentPunches punches landed by the opponent
+     * @param dodges dodges performed by the player
+     * @param opponentDodges dodges performed by the opponent
+     * @param ko whether the player knocked the opponent out
+     * @return the player's rating after the match
+     */
+    public static double newRating(double rating, double opponentRating, int score, int opponentScore,
+                                   int punches, int opponentPunches, int dodges, int opponentDodges, boolean ko) {
+        double actualScore = score > opponentScore ? 1.0 : (score < opponentScore ? 0.0 : 0.5);
+        boolean won = actualScore == 1.0;
+
+        // Apply additional factors, with reduced weight for the losing player
+        double punchFactor = won ? calculatePunchFactor(punches, opponentPunches) : calculatePunchFactor(punches, opponentPunches) * 0.5;
+        double dodgeFactor = won ? calculateDodgeFactor(dodges, opponentDodges) : calculateDodgeFactor(dodges, opponentDodges) * 0.5;
+        double koFactor = won && ko ? calculateKOFactor(true) : 0;
+
+        return rating + K_FACTOR * (actualScore - expectedScore(rating, opponentRating)) + punchFactor + dodgeFactor + koFactor;
+    }
+
+    /**
+     * Calculates the expected score based on Elo ratings.
+     *
+     * @param playerElo the Elo rating of the player
+     * @param opponentElo the Elo rating of the opponent
+     * @return the expected score of the player
+     */
+    public static double expectedScore(double playerElo, double opponentElo) {
+        return 1 / (1 + Math.pow(10, (opponentElo - playerElo) / 400));
+    }
+
+    /**
+     * Calculates the punch factor for the Elo adjustment based on punches landed.
+     *
+     * @param punchesPlayer1 punches landed by player1
+     * @param punchesPlayer2 punches landed by player2
+     * @return the punch factor for Elo adjustment
+     */
+    private static double calculatePunchFactor(int punchesPlayer1, int punchesPlayer2) {
+        int totalPunches = punchesPlayer1 + punchesPlayer2;
+        if (totalPunches == 0) return 0;
+
+        double punchRatio = (double) punchesPlayer1 / totalPunches;
+        return K_FACTOR * (punchRatio - 0.5); // Adjust to give more points to higher punch ratio
+    }
+
+    /**
+     * Calculates the dodge factor for the Elo adjustment based on dodges performed.
+     *
+     * @param dodgesPlayer1 dodges performed by player1
+     * @param dodgesPlayer2 dodges performed by player2
+     * @return the dodge factor for Elo adjustment
+     */
+    private static double calculateDodgeFactor(int dodgesPlayer1, int dodgesPlayer2) {
+        int totalDodges = dodgesPlayer1 + dodgesPlayer2;
+        if (totalDodges == 0) return 0;
+
+        double dodgeRatio = (double) dodgesPlayer1 / totalDodges;
+        return K_FACTOR * (dodgeRatio - 0.5); // Adjust to reward higher dodge performance
+    }
+
+    /**
+     * Calculates the knockout factor for the Elo adjustment based on a KO win.
+     *
+     * @param isKO indicates if the player won by knockout
+     * @return the knockout factor for Elo adjustment
+     */
+    private static double calculateKOFactor(boolean isKO) {
+        return isKO ? K_FACTOR * 1.5 : 0; // Example: Bonus points for a knockout win
+    }
+}
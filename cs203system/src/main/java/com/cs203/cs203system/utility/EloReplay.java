@@ -0,0 +1,269 @@
+package com.cs203.cs203system.utility;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Recomputes Elo ratings by replaying matches in order with {@link EloCalculator}.
+ * <p>
+ * Matches are stored column by column in primitive arrays, and players and tournaments are mapped to dense
+ * indexes, so a replay allocates nothing per match. Tournaments are grouped so that two tournaments sharing a
+ * player, directly or through other tournaments, end up in the same group. Groups share no player, so they are
+ * replayed in parallel, each in match order.
+ * </p>
+ * <p>
+ * Usage: add the matches in chronological order with {@link #addMatch}, set the starting ratings with
+ * {@link #setInitialRating}, then call {@link #run()}.
+ * </p>
+ */
+public class EloReplay {
+
+    private static final double DEFAULT_RATING = 1000.0;
+
+    private final Map<Long, Integer> playerIndexes = new HashMap<>();
+    private final Map<Long, Integer> tournamentIndexes = new HashMap<>();
+    private long[] playerIds = new long[16];
+
+    private int matchCount;
+    private long[] matchIds = new long[16];
+    private int[] tournaments = new int[16];
+    private int[] players1 = new int[16];
+    private int[] players2 = new int[16];
+    private int[] scores1 = new int[16];
+    private int[] scores2 = new int[16];
+    private int[] punches1 = new int[16];
+    private int[] punches2 = new int[16];
+    private int[] dodges1 = new int[16];
+    private int[] dodges2 = new int[16];
+    // Bit 0: KO by player 1, bit 1: KO by player 2
+    private byte[] kos = new byte[16];
+
+    private double[] initialRatings = new double[16];
+
+    private double[] ratings;
+    private double[] before1;
+    private double[] after1;
+    private double[] before2;
+    private double[] after2;
+    private int groupCount;
+
+    /**
+     * Adds the next match of the replay. Matches must be added in the order they were played.
+     */
+    public void addMatch(long matchId, long tournamentId, long player1Id, long player2Id, int player1Score,
+                         int player2Score, int punchesPlayer1, int punchesPlayer2, int dodgesPlayer1,
+                         int dodgesPlayer2, boolean koByPlayer1, boolean koByPlayer2) {
+        if (matchCount == matchIds.length) {
+            growMatches();
+        }
+        int i = matchCount++;
+        matchIds[i] = matchId;
+        tournaments[i] = tournamentIndexes.computeIfAbsent(tournamentId, id -> tournamentIndexes.size());
+        players1[i] = playerIndex(player1Id);
+        players2[i] = playerIndex(player2Id);
+        scores1[i] = player1Score;
+        scores2[i] = player2Score;
+        punches1[i] = punchesPlayer1;
+        punches2[i] = punchesPlayer2;
+        dodges1[i] = dodgesPlayer1;
+        dodges2[i] = dodgesPlayer2;
+        kos[i] = (byte) ((koByPlayer1 ? 1 : 0) | (koByPlayer2 ? 2 : 0));
+    }
+
+    /**
+     * Sets the rating a player starts the replay with. Players without one start at 1000.
+     */
+    public void setInitialRating(long playerId, double rating) {
+        Integer index = playerIndexes.get(playerId);
+        if (index != null) {
+            initialRatings[index] = rating;
+        }
+    }
+
+    /**
+     * Replays every match, each group of independent tournaments on its own thread.
+     */
+    public void run() {
+        int playerCount = playerIndexes.size();
+        ratings = Arrays.copyOf(initialRatings, playerCount);
+        before1 = new double[matchCount];
+        after1 = new double[matchCount];
+        before2 = new double[matchCount];
+        after2 = new double[matchCount];
+
+        int[][] groups = groupMatches();
+        groupCount = groups.length;
+        IntStream.range(0, groups.length).parallel().forEach(group -> replay(groups[group]));
+    }
+
+    private void replay(int[] matches) {
+        for (int i : matches) {
+            int player1 = players1[i];
+            int player2 = players2[i];
+            double rating1 = ratings[player1];
+            double rating2 = ratings[player2];
+            double newRating1 = EloCalculator.newRating(rating1, rating2, scores1[i], scores2[i],
+                    punches1[i], punches2[i], dodges1[i], dodges2[i], (kos[i] & 1) != 0);
+            double newRating2 = EloCalculator.newRating(rating2, rating1, scores2[i], scores1[i],
+                    punches2[i], punches1[i], dodges2[i], dodges1[i], (kos[i] & 2) != 0);
+            before1[i] = rating1;
+            after1[i] = newRating1;
+            before2[i] = rating2;
+            after2[i] = newRating2;
+            ratings[player1] = newRating1;
+            ratings[player2] = newRating2;
+        }
+    }
+
+    /**
+     * Groups the matches by connected tournaments, keeping the replay order within each group.
+     */
+    private int[][] groupMatches() {
+        int[] parent = new int[tournamentIndexes.size()];
+        for (int t = 0; t < parent.length; t++) {
+            parent[t] = t;
+        }
+        // Link every tournament to the last tournament each of its players was seen in
+        int[] lastTournament = new int[playerIndexes.size()];
+        Arrays.fill(lastTournament, -1);
+        for (int i = 0; i < matchCount; i++) {
+            link(parent, lastTournament, players1[i], tournaments[i]);
+            link(parent, lastTournament, players2[i], tournaments[i]);
+        }
+
+        int[] groupOfRoot = new int[parent.length];
+        Arrays.fill(groupOfRoot, -1);
+        int[] groupOfMatch = new int[matchCount];
+        int[] sizes = new int[parent.length];
+        int groups = 0;
+        for (int i = 0; i < matchCount; i++) {
+            int root = find(parent, tournaments[i]);
+            if (groupOfRoot[root] < 0) {
+                groupOfRoot[root] = groups++;
+            }
+            groupOfMatch[i] = groupOfRoot[root];
+            sizes[groupOfMatch[i]]++;
+        }
+
+        int[][] matchesByGroup = new int[groups][];
+        int[] filled = new int[groups];
+        for (int g = 0; g < groups; g++) {
+            matchesByGroup[g] = new int[sizes[g]];
+        }
+        for (int i = 0; i < matchCount; i++) {
+            int g = groupOfMatch[i];
+            matchesByGroup[g][filled[g]++] = i;
+        }
+        return matchesByGroup;
+    }
+
+    private static void link(int[] parent, int[] lastTournament, int player, int tournament) {
+        if (lastTournament[player] >= 0) {
+            union(parent, lastTournament[player], tournament);
+        }
+        lastTournament[player] = tournament;
+    }
+
+    private static int find(int[] parent, int x) {
+        while (parent[x] != x) {
+            parent[x] = parent[parent[x]];
+            x = parent[x];
+        }
+        return x;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    private int playerIndex(long playerId) {
+        Integer index = playerIndexes.get(playerId);
+        if (index != null) {
+            return index;
+        }
+        int newIndex = playerIndexes.size();
+        playerIndexes.put(playerId, newIndex);
+        if (newIndex == playerIds.length) {
+            playerIds = Arrays.copyOf(playerIds, newIndex * 2);
+            initialRatings = Arrays.copyOf(initialRatings, newIndex * 2);
+        }
+        playerIds[newIndex] = playerId;
+        initialRatings[newIndex] = DEFAULT_RATING;
+        return newIndex;
+    }
+
+    private void growMatches() {
+        int size = matchIds.length * 2;
+        matchIds = Arrays.copyOf(matchIds, size);
+        tournaments = Arrays.copyOf(tournaments, size);
+        players1 = Arrays.copyOf(players1, size);
+        players2 = Arrays.copyOf(players2, size);
+        scores1 = Arrays.copyOf(scores1, size);
+        scores2 = Arrays.copyOf(scores2, size);
+        punches1 = Arrays.copyOf(punches1, size);
+        punches2 = Arrays.copyOf(punches2, size);
+        dodges1 = Arrays.copyOf(dodges1, size);
+        dodges2 = Arrays.copyOf(dodges2, size);
+        kos = Arrays.copyOf(kos, size);
+    }
+
+    public int getMatchCount() {
+        return matchCount;
+    }
+
+    public int getPlayerCount() {
+        return playerIndexes.size();
+    }
+
+    /**
+     * @return The number of groups of tournaments that were replayed independently.
+     */
+    public int getGroupCount() {
+        return groupCount;
+    }
+
+    public long getMatchId(int match) {
+        return matchIds[match];
+    }
+
+    public long getPlayer1Id(int match) {
+        return playerIds[players1[match]];
+    }
+
+    public long getPlayer2Id(int match) {
+        return playerIds[players2[match]];
+    }
+
+    public double getPlayer1RatingBefore(int match) {
+        return before1[match];
+    }
+
+    public double getPlayer1RatingAfter(int match) {
+        return after1[match];
+    }
+
+    public double getPlayer2RatingBefore(int match) {
+        return before2[match];
+    }
+
+    public double getPlayer2RatingAfter(int match) {
+        return after2[match];
+    }
+
+    public long getPlayerId(int player) {
+        return playerIds[player];
+    }
+
+    /**
+     * @return The rating of a player after the replay, by index from 0 to {@link #getPlayerCount()} - 1.
+     */
+    public double getFinalRating(int player) {
+        return ratings[player];
+    }
+}
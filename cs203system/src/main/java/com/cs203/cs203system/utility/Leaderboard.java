@@ -0,0 +1,310 @@
+package com.cs203.cs203system.utility;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Rank-indexed leaderboard of player Elo ratings.
+ * <p>
+ * Players are kept in a treap ordered by rating (highest first, ties broken by the lowest id), where every
+ * node also stores the size of its subtree. This turns "what is the rank of this player" and "who is at
+ * rank r" into a single walk down the tree, so updates, rank lookups and rank windows all take O(log N),
+ * plus the length of the window returned. Readers share a lock and writers take it exclusively.
+ * </p>
+ */
+public class Leaderboard {
+
+    /**
+     * A player's place on the leaderboard. Ranks start at 1.
+     */
+    public record Entry(int rank, long playerId, double eloRating) {
+    }
+
+    private static final class Node {
+        final long playerId;
+        final double eloRating;
+        final int priority;
+        Node left;
+        Node right;
+        int size = 1;
+
+        Node(long playerId, double eloRating, int priority) {
+            this.playerId = playerId;
+            this.eloRating = eloRating;
+            this.priority = priority;
+        }
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Double> ratings = new HashMap<>();
+    private final SplittableRandom random = new SplittableRandom(203);
+    private Node root;
+
+    /**
+     * Adds a player or moves them to their new rating.
+     *
+     * @param playerId  The id of the player.
+     * @param eloRating The current Elo rating of the player.
+     */
+    public void put(long playerId, double eloRating) {
+        lock.writeLock().lock();
+        try {
+            Double previous = ratings.put(playerId, eloRating);
+            if (previous != null) {
+                root = delete(root, previous, playerId);
+            }
+            root = insert(root, new Node(playerId, eloRating, random.nextInt()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a player from the leaderboard.
+     *
+     * @param playerId The id of the player.
+     * @return True if the player was on the leaderboard.
+     */
+    public boolean remove(long playerId) {
+        lock.writeLock().lock();
+        try {
+            Double previous = ratings.remove(playerId);
+            if (previous == null) {
+                return false;
+            }
+            root = delete(root, previous, playerId);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the whole leaderboard.
+     *
+     * @param ratingsById The Elo rating of every player, keyed by player id.
+     */
+    public void rebuild(Map<Long, Double> ratingsById) {
+        lock.writeLock().lock();
+        try {
+            ratings.clear();
+            root = null;
+            ratingsById.forEach((playerId, eloRating) -> {
+                ratings.put(playerId, eloRating);
+                root = insert(root, new Node(playerId, eloRating, random.nextInt()));
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size(root);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Looks up the place of a player.
+     *
+     * @param playerId The id of the player.
+     * @return The entry of the player, or empty if they are not on the leaderboard.
+     */
+    public Optional<Entry> find(long playerId) {
+        lock.readLock().lock();
+        try {
+            Double eloRating = ratings.get(playerId);
+            if (eloRating == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new Entry(rankOf(eloRating, playerId), playerId, eloRating));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the best ranked players.
+     *
+     * @param count The number of players to retrieve.
+     * @return Up to {@code count} entries, best ranked first.
+     */
+    public List<Entry> top(int count) {
+        return range(1, count);
+    }
+
+    /**
+     * Retrieves consecutive places of the leaderboard.
+     *
+     * @param fromRank The first rank to include, starting at 1.
+     * @param count    The number of places to retrieve.
+     * @return Up to {@code count} entries starting at {@code fromRank}, best ranked first.
+     */
+    public List<Entry> range(int fromRank, int count) {
+        lock.readLock().lock();
+        try {
+            int from = Math.max(fromRank, 1);
+            int to = (int) Math.min((long) from + Math.max(count, 0) - 1, size(root));
+            List<Entry> entries = new ArrayList<>(Math.max(to - from + 1, 0));
+            collect(root, from, to, 0, entries);
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the players ranked just above and below a player, including the player.
+     *
+     * @param playerId The id of the player.
+     * @param radius   The number of places to include on each side.
+     * @return The entries around the player, best ranked first, or an empty list if the player is not on the leaderboard.
+     */
+    public List<Entry> around(long playerId, int radius) {
+        lock.readLock().lock();
+        try {
+            Double eloRating = ratings.get(playerId);
+            if (eloRating == null) {
+                return List.of();
+            }
+            int rank = rankOf(eloRating, playerId);
+            int from = Math.max(rank - Math.max(radius, 0), 1);
+            int to = Math.min(rank + Math.max(radius, 0), size(root));
+            List<Entry> entries = new ArrayList<>(to - from + 1);
+            collect(root, from, to, 0, entries);
+            return entries;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Orders players by rating, highest first, then by id.
+     */
+    private static int compare(double eloRating, long playerId, Node node) {
+        int byRating = Double.compare(node.eloRating, eloRating);
+        return byRating != 0 ? byRating : Long.compare(playerId, node.playerId);
+    }
+
+    private static int size(Node node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static Node update(Node node) {
+        node.size = 1 + size(node.left) + size(node.right);
+        return node;
+    }
+
+    private int rankOf(double eloRating, long playerId) {
+        int rank = 1;
+        Node node = root;
+        while (node != null) {
+            int comparison = compare(eloRating, playerId, node);
+            if (comparison < 0) {
+                node = node.left;
+            } else if (comparison > 0) {
+                rank += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return rank + size(node.left);
+            }
+        }
+        throw new IllegalStateException("Player " + playerId + " is indexed but missing from the leaderboard");
+    }
+
+    /**
+     * Appends, in order, the entries of the subtree whose ranks fall within {@code [from, to]}.
+     *
+     * @param offset The number of players ranked before the subtree.
+     */
+    private static void collect(Node node, int from, int to, int offset, List<Entry> entries) {
+        if (node == null || from > to) {
+            return;
+        }
+        int rank = offset + size(node.left) + 1;
+        if (from < rank) {
+            collect(node.left, from, to, offset, entries);
+        }
+        if (from <= rank && rank <= to) {
+            entries.add(new Entry(rank, node.playerId, node.eloRating));
+        }
+        if (to > rank) {
+            collect(node.right, from, to, rank, entries);
+        }
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) {
+            return added;
+        }
+        if (added.priority > node.priority) {
+            Node[] parts = split(node, added.eloRating, added.playerId);
+            added.left = parts[0];
+            added.right = parts[1];
+            return update(added);
+        }
+        if (compare(added.eloRating, added.playerId, node) < 0) {
+            node.left = insert(node.left, added);
+        } else {
+            node.right = insert(node.right, added);
+        }
+        return update(node);
+    }
+
+    private static Node delete(Node node, double eloRating, long playerId) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = compare(eloRating, playerId, node);
+        if (comparison == 0) {
+            return merge(node.left, node.right);
+        }
+        if (comparison < 0) {
+            node.left = delete(node.left, eloRating, playerId);
+        } else {
+            node.right = delete(node.right, eloRating, playerId);
+        }
+        return update(node);
+    }
+
+    /**
+     * Splits a subtree into the players ranked before the given key and the players ranked after it.
+     */
+    private static Node[] split(Node node, double eloRating, long playerId) {
+        if (node == null) {
+            return new Node[]{null, null};
+        }
+        if (compare(eloRating, playerId, node) > 0) {
+            Node[] parts = split(node.right, eloRating, playerId);
+            node.right = parts[0];
+            parts[0] = update(node);
+            return parts;
+        }
+        Node[] parts = split(node.left, eloRating, playerId);
+        node.left = parts[1];
+        parts[1] = update(node);
+        return parts;
+    }
+
+    /**
+     * Joins two subtrees where every player of {@code left} is ranked before every player of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+}
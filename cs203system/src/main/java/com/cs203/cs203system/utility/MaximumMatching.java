@@ -0,0 +1,200 @@
+package com.cs203.cs203system.utility;
+
+import java.util.Arrays;
+
+/**
+ * Edmonds' blossom algorithm for maximum cardinality matching on a general graph.
+ * <p>
+ * Vertices are the integers {@code 0..n-1} and edges are given implicitly by an {@link Adjacency}
+ * predicate, so dense graphs such as "players that have not met yet" never have to be materialized.
+ * The matching can be seeded with any valid partial matching (for example a greedy one) and is then
+ * grown one augmenting path at a time, which keeps the cost low when only a few vertices are left free.
+ * </p>
+ */
+public class MaximumMatching {
+
+    /**
+     * Decides whether two distinct vertices are joined by an edge.
+     */
+    @FunctionalInterface
+    public interface Adjacency {
+        boolean test(int u, int v);
+    }
+
+    private static final int NONE = -1;
+
+    private final Adjacency adjacency;
+    private final int[] mate;
+
+    // Search state, sized once and reset only for the vertices taking part in a search.
+    private final int[] parent;
+    private final int[] base;
+    private final int[] queue;
+    private final boolean[] inQueue;
+    private final boolean[] inBlossom;
+    private final boolean[] onPath;
+
+    /**
+     * Creates an empty matching over {@code size} vertices.
+     *
+     * @param size      The number of vertices.
+     * @param adjacency The edge predicate.
+     */
+    public MaximumMatching(int size, Adjacency adjacency) {
+        this.adjacency = adjacency;
+        this.mate = new int[size];
+        this.parent = new int[size];
+        this.base = new int[size];
+        this.queue = new int[size];
+        this.inQueue = new boolean[size];
+        this.inBlossom = new boolean[size];
+        this.onPath = new boolean[size];
+        Arrays.fill(mate, NONE);
+    }
+
+    /**
+     * Matches two free vertices directly.
+     *
+     * @param u The first vertex.
+     * @param v The second vertex.
+     */
+    public void match(int u, int v) {
+        mate[u] = v;
+        mate[v] = u;
+    }
+
+    /**
+     * Retrieves the vertex matched with {@code v}.
+     *
+     * @param v The vertex.
+     * @return The mate of the vertex, or -1 if it is free.
+     */
+    public int mateOf(int v) {
+        return mate[v];
+    }
+
+    public boolean isFree(int v) {
+        return mate[v] == NONE;
+    }
+
+    public boolean isAdjacent(int u, int v) {
+        return u != v && adjacency.test(u, v);
+    }
+
+    /**
+     * Tries to match a free vertex by searching for an augmenting path that only uses the given vertices.
+     * On success the matching grows by one edge; vertices already matched stay matched, possibly to someone else.
+     *
+     * @param root     The free vertex to match.
+     * @param vertices The vertices the search may use; must contain {@code root}.
+     * @param count    The number of leading entries of {@code vertices} to use.
+     * @return True if the root is now matched.
+     */
+    public boolean augment(int root, int[] vertices, int count) {
+        if (!isFree(root)) {
+            return true;
+        }
+        for (int i = 0; i < count; i++) {
+            int v = vertices[i];
+            parent[v] = NONE;
+            base[v] = v;
+            inQueue[v] = false;
+        }
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = root;
+        inQueue[root] = true;
+
+        while (head < tail) {
+            int v = queue[head++];
+            for (int i = 0; i < count; i++) {
+                int to = vertices[i];
+                if (to == v || base[v] == base[to] || mate[v] == to || !adjacency.test(v, to)) {
+                    continue;
+                }
+
+                if (to == root || (mate[to] != NONE && parent[mate[to]] != NONE)) {
+                    // Odd cycle: contract the blossom onto its base.
+                    int blossomBase = lowestCommonAncestor(root, v, to, vertices, count);
+                    for (int j = 0; j < count; j++) {
+                        inBlossom[vertices[j]] = false;
+                    }
+                    markPath(v, blossomBase, to);
+                    markPath(to, blossomBase, v);
+                    for (int j = 0; j < count; j++) {
+                        int w = vertices[j];
+                        if (inBlossom[base[w]]) {
+                            base[w] = blossomBase;
+                            if (!inQueue[w]) {
+                                inQueue[w] = true;
+                                queue[tail++] = w;
+                            }
+                        }
+                    }
+                } else if (parent[to] == NONE) {
+                    parent[to] = v;
+                    if (mate[to] == NONE) {
+                        flipPath(to);
+                        return true;
+                    }
+                    int next = mate[to];
+                    inQueue[next] = true;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the base of the blossom closing the alternating paths that lead to {@code a} and {@code b}.
+     */
+    private int lowestCommonAncestor(int root, int a, int b, int[] vertices, int count) {
+        for (int i = 0; i < count; i++) {
+            onPath[vertices[i]] = false;
+        }
+        while (true) {
+            a = base[a];
+            onPath[a] = true;
+            if (a == root) {
+                break;
+            }
+            a = parent[mate[a]];
+        }
+        while (true) {
+            b = base[b];
+            if (onPath[b]) {
+                return b;
+            }
+            b = parent[mate[b]];
+        }
+    }
+
+    /**
+     * Marks the vertices of the blossom between {@code v} and its base, re-pointing parents so the
+     * path through the contracted blossom can later be expanded.
+     */
+    private void markPath(int v, int blossomBase, int child) {
+        while (base[v] != blossomBase) {
+            inBlossom[base[v]] = true;
+            inBlossom[base[mate[v]]] = true;
+            parent[v] = child;
+            child = mate[v];
+            v = parent[mate[v]];
+        }
+    }
+
+    /**
+     * Flips the matched and unmatched edges along the augmenting path ending at the free vertex {@code v}.
+     */
+    private void flipPath(int v) {
+        while (v != NONE) {
+            int previous = parent[v];
+            int previousMate = mate[previous];
+            mate[v] = previous;
+            mate[previous] = v;
+            v = previousMate;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.cs203.cs203system.utility;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A fixed set of locks shared out between keys by hash.
+ * Work on the same key is always serialized, while work on different keys only contends when two keys
+ * land on the same stripe, without having to create and clean up a lock per key.
+ */
+public class StripedLocks {
+
+    private final Lock[] stripes;
+
+    /**
+     * @param stripeCount The number of locks, rounded up to a power of two.
+     */
+    public StripedLocks(int stripeCount) {
+        int size = Integer.highestOneBit(Math.max(stripeCount - 1, 1)) << 1;
+        stripes = new Lock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Retrieves the lock guarding a key.
+     *
+     * @param key The key.
+     * @return The same lock for equal keys.
+     */
+    public Lock get(Object key) {
+        int hash = key.hashCode();
+        // Spread the high bits so that sequential ids do not all depend on the lowest bits
+        hash ^= hash >>> 16;
+        return stripes[hash & (stripes.length - 1)];
+    }
+}
@@ -0,0 +1,136 @@
+package com.cs203.cs203system.utility;
+
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+
+import java.util.*;
+
+/**
+ * Compact, index-based view of the players of a Swiss tournament for pairing a round.
+ * <p>
+ * Each player is given a dense index, in the order the players were passed in. Scores are held in a
+ * {@code double[]} and the opponents already met in a bit matrix with one row per player, so checking
+ * whether two players have met is a single bit test rather than a lookup in a map keyed on {@link Player}.
+ * The matrix takes {@code n * n / 8} bytes, about 125 KB for a field of 1 000 players.
+ * </p>
+ */
+public class SwissField {
+
+    private final List<Player> players;
+    private final LongIntMap indexById;
+    /**
+     * Players that have not been persisted yet have no id, so they are tracked by identity instead.
+     */
+    private final Map<Player, Integer> unsavedIndexes = new IdentityHashMap<>();
+
+    private final double[] scores;
+    private final boolean[] hadBye;
+    private final long[] played;
+    private final int wordsPerRow;
+
+    private SwissField(List<Player> players) {
+        int size = players.size();
+        this.players = List.copyOf(players);
+        this.indexById = new LongIntMap(size);
+        this.scores = new double[size];
+        this.hadBye = new boolean[size];
+        this.wordsPerRow = (size + 63) >>> 6;
+        this.played = new long[size * wordsPerRow];
+
+        for (int i = 0; i < size; i++) {
+            Player player = players.get(i);
+            if (player.getId() != null) {
+                indexById.put(player.getId(), i);
+            } else {
+                unsavedIndexes.put(player, i);
+            }
+            scores[i] = player.getPoints();
+        }
+    }
+
+    /**
+     * Builds the field of a round from its players and the matches played so far.
+     * Matches involving players outside of {@code players} are ignored.
+     *
+     * @param players The players to index, in the order their indexes are assigned.
+     * @param matches The matches played so far, including byes.
+     * @return The field, with each player's current points as their score.
+     */
+    public static SwissField of(List<Player> players, Collection<Match> matches) {
+        SwissField field = new SwissField(players);
+        for (Match match : matches) {
+            int first = field.indexOf(match.getPlayer1());
+            int second = field.indexOf(match.getPlayer2());
+            if (match.getStatus() == MatchStatus.BYE && first >= 0) {
+                field.hadBye[first] = true;
+            } else if (first >= 0 && second >= 0) {
+                field.setPlayed(first, second);
+                field.setPlayed(second, first);
+            }
+        }
+        return field;
+    }
+
+    private void setPlayed(int player, int opponent) {
+        played[player * wordsPerRow + (opponent >>> 6)] |= 1L << opponent;
+    }
+
+    /**
+     * Checks whether two players have already met.
+     *
+     * @param player   The index of the first player.
+     * @param opponent The index of the second player.
+     * @return True if the players have played each other.
+     */
+    public boolean havePlayed(int player, int opponent) {
+        return (played[player * wordsPerRow + (opponent >>> 6)] & (1L << opponent)) != 0;
+    }
+
+    /**
+     * Counts the opponents a player has already met.
+     *
+     * @param player The index of the player.
+     * @return The number of distinct opponents.
+     */
+    public int countOpponents(int player) {
+        int count = 0;
+        for (int word = player * wordsPerRow, end = word + wordsPerRow; word < end; word++) {
+            count += Long.bitCount(played[word]);
+        }
+        return count;
+    }
+
+    public boolean hadBye(int player) {
+        return hadBye[player];
+    }
+
+    public double getScore(int player) {
+        return scores[player];
+    }
+
+    public Player getPlayer(int player) {
+        return players.get(player);
+    }
+
+    public int size() {
+        return players.size();
+    }
+
+    /**
+     * Retrieves the index of a player.
+     *
+     * @param player The player to look up, may be null.
+     * @return The index of the player, or -1 if the player is null or not part of the field.
+     */
+    public int indexOf(Player player) {
+        if (player == null) {
+            return -1;
+        }
+        if (player.getId() != null) {
+            return indexById.get(player.getId());
+        }
+        Integer index = unsavedIndexes.get(player);
+        return index == null ? -1 : index;
+    }
+}
@@ -0,0 +1,341 @@
+package com.cs203.cs203system.utility;
+
+import com.cs203.cs203system.enums.MatchBracket;
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+
+import java.util.*;
+
+/**
+ * Incrementally maintained standings of a single Swiss tournament.
+ * <p>
+ * Every recorded result updates the score of both players and pushes the score change into the
+ * Buchholz and Sonneborn-Berger (SB) sums of the players they have already met. Tie-breaks are
+ * therefore always up to date and never require a rescan of the tournament's matches.
+ * </p>
+ * <p>
+ * Players are given dense indexes as they are registered, and every value is kept in a primitive array
+ * indexed by them, so recording a result boxes nothing and never hashes a {@link Player}.
+ * </p>
+ */
+public class SwissStandings {
+
+    private static final double WIN_POINTS = 1.0;
+    private static final double DRAW_POINTS = 0.5;
+    private static final double LOSE_POINTS = 0.0;
+
+    /**
+     * Orders standings by score, then Buchholz, then Sonneborn-Berger, all descending.
+     */
+    private static final Comparator<Standing> RANKING = Comparator
+            .comparingDouble(Standing::getScore)
+            .thenComparingDouble(Standing::getBuchholz)
+            .thenComparingDouble(Standing::getSonnebornBerger)
+            .reversed();
+
+    private final LongIntMap indexById = new LongIntMap(16);
+
+    /**
+     * Players that have not been persisted yet have no id, so they are tracked by identity instead.
+     */
+    private final Map<Player, Integer> unsavedIndexes = new IdentityHashMap<>();
+
+    // One slot per registered player, in registration order.
+    private int size;
+    private Player[] players = new Player[16];
+    private double[] scores = new double[16];
+    private double[] buchholz = new double[16];
+    private double[] sonnebornBerger = new double[16];
+
+    // The games of each player: the opponent's index and the points the player earned against them.
+    private int[][] opponents = new int[16][];
+    private double[][] resultPoints = new double[16][];
+    private int[] resultCounts = new int[16];
+
+    // The number of results and byes recorded, to tell whether the standings have missed any.
+    private int recordedMatches;
+
+    /**
+     * Builds the standings of a tournament from its players and completed Swiss matches.
+     *
+     * @param tournament The tournament whose standings are built.
+     * @return The standings reflecting every completed Swiss match of the tournament.
+     */
+    public static SwissStandings fromTournament(Tournament tournament) {
+        SwissStandings standings = new SwissStandings();
+        tournament.getPlayers().forEach(standings::register);
+
+        for (Match match : tournament.getMatches()) {
+            if (match.getStatus() == MatchStatus.BYE && match.getPlayer1() != null) {
+                standings.recordBye(match.getPlayer1());
+            } else if (counts(match)) {
+                standings.recordResult(match);
+            }
+        }
+        return standings;
+    }
+
+    /**
+     * Checks whether a match contributes to the Swiss standings.
+     *
+     * @param match The match to check.
+     * @return True if the match is a completed Swiss or grand final match between two players.
+     */
+    private static boolean counts(Match match) {
+        return match.getStatus() == MatchStatus.COMPLETED
+                && match.getPlayer1() != null && match.getPlayer2() != null
+                && (match.getBracket() == null
+                || match.getBracket() == MatchBracket.SWISS
+                || match.getBracket() == MatchBracket.GRAND_FINAL);
+    }
+
+    /**
+     * Adds a player to the standings with no score if they are not tracked yet.
+     *
+     * @param player The player to register.
+     */
+    public synchronized void register(Player player) {
+        indexOf(player);
+    }
+
+    /**
+     * Records the result of a completed match.
+     * Both players are registered on the fly if they are not tracked yet.
+     *
+     * @param match The completed match.
+     */
+    public synchronized void recordResult(Match match) {
+        int first = indexOf(match.getPlayer1());
+        int second = indexOf(match.getPlayer2());
+
+        double firstPoints;
+        if (match.isDraw()) {
+            firstPoints = DRAW_POINTS;
+        } else {
+            firstPoints = match.getPlayer1().equals(match.getWinner()) ? WIN_POINTS : LOSE_POINTS;
+        }
+        double secondPoints = WIN_POINTS - firstPoints;
+
+        // Link the players first so each one picks up the other's current score ...
+        addResult(first, second, firstPoints);
+        addResult(second, first, secondPoints);
+        buchholz[first] += scores[second];
+        buchholz[second] += scores[first];
+        sonnebornBerger[first] += firstPoints * scores[second];
+        sonnebornBerger[second] += secondPoints * scores[first];
+
+        // ... then propagate the new points to everyone they have met, including each other.
+        addScore(first, firstPoints);
+        addScore(second, secondPoints);
+        recordedMatches++;
+    }
+
+    /**
+     * Records a bye, which is worth a win but has no opponent to count towards the tie-breaks.
+     *
+     * @param player The player receiving the bye.
+     */
+    public synchronized void recordBye(Player player) {
+        addScore(indexOf(player), WIN_POINTS);
+        recordedMatches++;
+    }
+
+    /**
+     * Retrieves the number of results and byes the standings have recorded.
+     *
+     * @return The number of recorded matches.
+     */
+    public synchronized int getRecordedMatches() {
+        return recordedMatches;
+    }
+
+    private void addResult(int player, int opponent, double points) {
+        int count = resultCounts[player];
+        if (opponents[player] == null) {
+            opponents[player] = new int[4];
+            resultPoints[player] = new double[4];
+        } else if (count == opponents[player].length) {
+            opponents[player] = Arrays.copyOf(opponents[player], count * 2);
+            resultPoints[player] = Arrays.copyOf(resultPoints[player], count * 2);
+        }
+        opponents[player][count] = opponent;
+        resultPoints[player][count] = points;
+        resultCounts[player] = count + 1;
+    }
+
+    /**
+     * Adds points to a player and pushes the change into the tie-breaks of their opponents.
+     *
+     * @param player The index of the player receiving the points.
+     * @param points The points to add.
+     */
+    private void addScore(int player, double points) {
+        if (points == 0.0) {
+            return;
+        }
+        scores[player] += points;
+        for (int i = 0; i < resultCounts[player]; i++) {
+            int opponent = opponents[player][i];
+            buchholz[opponent] += points;
+            // The opponent's own result against this player weights the SB contribution.
+            sonnebornBerger[opponent] += (WIN_POINTS - resultPoints[player][i]) * points;
+        }
+    }
+
+    /**
+     * Retrieves the index of a player, registering the player if needed.
+     *
+     * @param player The player to look up.
+     * @return The index of the player.
+     */
+    private int indexOf(Player player) {
+        int index = find(player);
+        if (index >= 0) {
+            return index;
+        }
+        if (size == players.length) {
+            grow();
+        }
+        index = size++;
+        players[index] = player;
+        if (player.getId() != null) {
+            indexById.put(player.getId(), index);
+        } else {
+            unsavedIndexes.put(player, index);
+        }
+        return index;
+    }
+
+    private int find(Player player) {
+        if (player.getId() != null) {
+            return indexById.get(player.getId());
+        }
+        Integer index = unsavedIndexes.get(player);
+        return index == null ? -1 : index;
+    }
+
+    private void grow() {
+        int capacity = players.length * 2;
+        players = Arrays.copyOf(players, capacity);
+        scores = Arrays.copyOf(scores, capacity);
+        buchholz = Arrays.copyOf(buchholz, capacity);
+        sonnebornBerger = Arrays.copyOf(sonnebornBerger, capacity);
+        opponents = Arrays.copyOf(opponents, capacity);
+        resultPoints = Arrays.copyOf(resultPoints, capacity);
+        resultCounts = Arrays.copyOf(resultCounts, capacity);
+    }
+
+    /**
+     * Retrieves the standing of a player without registering them.
+     *
+     * @param player The player to look up.
+     * @return A snapshot of the standing of the player, or null if the player is not tracked.
+     */
+    public synchronized Standing getStanding(Player player) {
+        int index = find(player);
+        return index < 0 ? null : standing(index);
+    }
+
+    /**
+     * Finds the players sharing the best score, Buchholz and Sonneborn-Berger values.
+     * A single entry means the tie-breaks produced a clear winner.
+     *
+     * @return The leading players, empty if no player is tracked.
+     */
+    public synchronized List<Player> findWinners() {
+        int best = -1;
+        List<Player> winners = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            int comparison = best < 0 ? -1 : compare(i, best);
+            if (comparison < 0) {
+                best = i;
+                winners.clear();
+                winners.add(players[i]);
+            } else if (comparison == 0) {
+                winners.add(players[i]);
+            }
+        }
+        return winners;
+    }
+
+    /**
+     * Compares two players by score, then Buchholz, then Sonneborn-Berger, the better ranked first.
+     */
+    private int compare(int a, int b) {
+        int comparison = Double.compare(scores[b], scores[a]);
+        if (comparison == 0) {
+            comparison = Double.compare(buchholz[b], buchholz[a]);
+        }
+        if (comparison == 0) {
+            comparison = Double.compare(sonnebornBerger[b], sonnebornBerger[a]);
+        }
+        return comparison;
+    }
+
+    /**
+     * Retrieves the best ranked players.
+     *
+     * @param numberOfPlayers The number of players to retrieve.
+     * @return Up to {@code numberOfPlayers} players, best ranked first.
+     */
+    public synchronized List<Player> getTopPlayers(int numberOfPlayers) {
+        return getRanking().stream()
+                .limit(Math.max(numberOfPlayers, 0))
+                .map(Standing::getPlayer)
+                .toList();
+    }
+
+    /**
+     * Retrieves every tracked standing, best ranked first.
+     *
+     * @return Snapshots of the full ranking.
+     */
+    public synchronized List<Standing> getRanking() {
+        List<Standing> ranking = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ranking.add(standing(i));
+        }
+        ranking.sort(RANKING);
+        return ranking;
+    }
+
+    private Standing standing(int index) {
+        return new Standing(players[index], scores[index], buchholz[index], sonnebornBerger[index]);
+    }
+
+    /**
+     * The score and tie-break values of a single player at the time they were read.
+     */
+    public static class Standing {
+        private final Player player;
+        private final double score;
+        private final double buchholz;
+        private final double sonnebornBerger;
+
+        private Standing(Player player, double score, double buchholz, double sonnebornBerger) {
+            this.player = player;
+            this.score = score;
+            this.buchholz = buchholz;
+            this.sonnebornBerger = sonnebornBerger;
+        }
+
+        public Player getPlayer() {
+            return player;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public double getBuchholz() {
+            return buchholz;
+        }
+
+        public double getSonnebornBerger() {
+            return sonnebornBerger;
+        }
+    }
+}
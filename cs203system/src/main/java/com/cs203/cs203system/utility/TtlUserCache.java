@@ -0,0 +1,107 @@
+package com.cs203.cs203system.utility;
+
+import com.cs203.cs203system.model.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A small {@link UserCache} whose entries expire after a fixed time.
+ * <p>
+ * Usernames are matched regardless of case, as they are by the user lookup itself, so a login typed in
+ * any case finds the user cached by another. The cache is bounded: when it is full, expired entries are dropped,
+ * and if none have expired the user is simply not cached.
+ * </p>
+ * <p>
+ * Only a {@link CachedUser} copy of each user's credentials, id, email and type is kept, never the entity itself,
+ * so a cached principal cannot hold on to a persistence context or expose the rest of the user. Each lookup hands
+ * out a fresh copy, as the password of a principal is erased once it is authenticated.
+ * </p>
+ */
+public class TtlUserCache implements UserCache {
+
+    private final int maxSize;
+    private final Duration ttl;
+    private final Clock clock;
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param maxSize the maximum number of users kept
+     * @param ttl     how long a user is kept
+     */
+    public TtlUserCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * @param maxSize the maximum number of users kept
+     * @param ttl     how long a user is kept
+     * @param clock   the clock the expiry of cached users is checked against
+     */
+    public TtlUserCache(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        String key = User.normalize(username);
+        Entry entry = key == null ? null : cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (!clock.instant().isBefore(entry.expiresAt())) {
+            cache.remove(key, entry);
+            return null;
+        }
+        return CachedUser.of(entry.user());
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        Instant now = clock.instant();
+        if (hasRoom(now)) {
+            cache.put(User.normalize(user.getUsername()), new Entry(CachedUser.of(user), now.plus(ttl)));
+        }
+    }
+
+    @Override
+    public void removeUserFromCache(String username) {
+        if (username != null) {
+            cache.remove(User.normalize(username));
+        }
+    }
+
+    /**
+     * Removes a user whose username is not known, e.g. one deleted by id.
+     *
+     * @param id the id of the user
+     */
+    public void removeUserById(Long id) {
+        cache.values().removeIf(entry -> id.equals(entry.user().getId()));
+    }
+
+    /**
+     * @return The number of users currently cached, including expired ones not yet dropped.
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    private boolean hasRoom(Instant now) {
+        if (cache.size() < maxSize) {
+            return true;
+        }
+        cache.values().removeIf(entry -> !now.isBefore(entry.expiresAt()));
+        return cache.size() < maxSize;
+    }
+
+    private record Entry(CachedUser user, Instant expiresAt) {
+    }
+}
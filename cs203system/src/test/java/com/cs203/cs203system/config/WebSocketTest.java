@@ -0,0 +1,155 @@
+package com.cs203.cs203system.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.user.MultiServerUserRegistry;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.messaging.simp.user.UserDestinationMessageHandler;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WebSocketTest {
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ConfigurationPropertiesAutoConfiguration.class))
+            .withUserConfiguration(WebSocket.class, WebSocketBrokerProperties.class);
+
+    @Test
+    void configureMessageBroker_RelayDisabled_UsesSimpleBroker() {
+        contextRunner
+                .withPropertyValues("websocket.broker.relay=false")
+                .run(context -> {
+                    assertTrue(context.getBeansOfType(StompBrokerRelayMessageHandler.class).isEmpty());
+                    SimpleBrokerMessageHandler broker = context.getBean(SimpleBrokerMessageHandler.class);
+                    assertTrue(broker.getDestinationPrefixes().containsAll(List.of("/user", "/topic")));
+
+                    // Users are only looked up among the sessions of this instance
+                    assertFalse(context.getBean(SimpUserRegistry.class) instanceof MultiServerUserRegistry);
+                    assertNull(context.getBean(UserDestinationMessageHandler.class).getBroadcastDestination());
+                });
+    }
+
+    @Test
+    void configureMessageBroker_RelayEnabled_ConnectsToBrokerAndSharesUsers() throws Exception {
+        try (StubStompBroker stub = new StubStompBroker()) {
+            contextRunner
+                    .withPropertyValues(
+                            "websocket.broker.relay=true",
+                            "websocket.broker.relay-host=" + stub.getHost(),
+                            "websocket.broker.relay-port=" + stub.getPort(),
+                            "websocket.broker.system-login=system",
+                            "websocket.broker.system-passcode=secret")
+                    .run(context -> {
+                        assertTrue(context.getBeansOfType(SimpleBrokerMessageHandler.class).isEmpty());
+                        StompBrokerRelayMessageHandler relay = context.getBean(StompBrokerRelayMessageHandler.class);
+                        assertEquals(stub.getPort(), relay.getRelayPort());
+                        assertTrue(relay.getDestinationPrefixes().containsAll(List.of("/user", "/topic")));
+
+                        assertInstanceOf(MultiServerUserRegistry.class, context.getBean(SimpUserRegistry.class));
+                        assertEquals("/topic/cs203.unresolved-user",
+                                context.getBean(UserDestinationMessageHandler.class).getBroadcastDestination());
+
+                        // The shared connection logs in and subscribes to the topics the instances talk over
+                        assertTrue(stub.awaitFrame("CONNECT", "login:system"));
+                        assertTrue(stub.awaitFrame("SUBSCRIBE", "destination:/topic/cs203.user-registry"));
+                        assertTrue(stub.awaitFrame("SUBSCRIBE", "destination:/topic/cs203.unresolved-user"));
+                    });
+        }
+    }
+
+    /**
+     * Accepts a single STOMP connection, answers its CONNECT frame and records every frame it receives.
+     */
+    private static class StubStompBroker implements AutoCloseable {
+
+        private static final long TIMEOUT_MS = 10_000;
+
+        private final ServerSocket serverSocket;
+        private final List<String> frames = new ArrayList<>();
+
+        StubStompBroker() throws IOException {
+            serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+            Thread thread = new Thread(this::serve, "stub-stomp-broker");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        String getHost() {
+            return serverSocket.getInetAddress().getHostAddress();
+        }
+
+        int getPort() {
+            return serverSocket.getLocalPort();
+        }
+
+        /**
+         * Waits for a frame with the given command and header line.
+         *
+         * @return true if such a frame was received before the timeout
+         */
+        boolean awaitFrame(String command, String header) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+            while (System.currentTimeMillis() < deadline) {
+                synchronized (frames) {
+                    for (String frame : frames) {
+                        List<String> lines = frame.lines().toList();
+                        if (!lines.isEmpty() && lines.get(0).equals(command) && lines.contains(header)) {
+                            return true;
+                        }
+                    }
+                }
+                Thread.sleep(50);
+            }
+            return false;
+        }
+
+        private void serve() {
+            try (Socket socket = serverSocket.accept()) {
+                InputStream in = socket.getInputStream();
+                OutputStream out = socket.getOutputStream();
+                ByteArrayOutputStream frame = new ByteArrayOutputStream();
+                int read;
+                while ((read = in.read()) != -1) {
+                    if (read != 0) {
+                        // Line breaks between frames are heart-beats
+                        if (frame.size() > 0 || (read != '\n' && read != '\r')) {
+                            frame.write(read);
+                        }
+                        continue;
+                    }
+                    String received = frame.toString(StandardCharsets.UTF_8);
+                    frame.reset();
+                    synchronized (frames) {
+                        frames.add(received);
+                    }
+                    if (received.startsWith("CONNECT\n")) {
+                        out.write("CONNECTED\nversion:1.2\nheart-beat:0,0\n\n\0".getBytes(StandardCharsets.UTF_8));
+                        out.flush();
+                    }
+                }
+            } catch (IOException e) {
+                // The socket is closed once the test is over
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
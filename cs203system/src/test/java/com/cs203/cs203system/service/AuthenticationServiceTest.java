@@ -14,11 +14,13 @@ import com.cs203.cs203system.repository.PlayerRepository;
 import com.cs203.cs203system.repository.UserRepository;
 import com.cs203.cs203system.service.impl.AuthenticationService;
 import com.cs203.cs203system.service.impl.TokenService;
+import com.cs203.cs203system.utility.CachedUser;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -59,6 +61,9 @@ public class AuthenticationServiceTest {
     @Mock
     private UserResponseMapper userResponseMapper;
 
+    @Mock
+    private LeaderboardService leaderboardService;
+
     @InjectMocks
     private AuthenticationService authenticationService;
 
@@ -115,6 +120,25 @@ public class AuthenticationServiceTest {
         verify(playerRepository, times(0)).save(any(Player.class)); // Ensure player save is never called
     }
 
+    @Test
+    void testRegister_UsernameTaken_ThrowsRuntimeException() {
+        // Arrange
+        CreateUserRequest request = new CreateUserRequest();
+        request.setUsername("PlayerUser");
+        request.setPassword("password123");
+        request.setUserType(UserType.ROLE_PLAYER);
+
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(playerRepository.save(any(Player.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_users_username_lower"));
+
+        // Act & Assert
+        RuntimeException exception = assertThrows(RuntimeException.class, () -> authenticationService.register(request));
+        assertEquals("Username or Email is already in use", exception.getMessage());
+        verify(playerRepository, times(1)).save(any(Player.class)); // The constraint is relied on, not a lookup
+        verifyNoInteractions(leaderboardService);
+    }
+
     @Test
     void testLoginUser_Success() {
         // Arrange
@@ -124,12 +148,12 @@ public class AuthenticationServiceTest {
         user.setUsername(username);
 
         Authentication auth = mock(Authentication.class);
+        when(auth.getPrincipal()).thenReturn(user);
 
         // Mock the authentication process
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenReturn(auth);
         when(tokenService.generateJwt(auth)).thenReturn("mockedToken");
-        when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.of(user));
         when(userResponseMapper.toDto(user)).thenReturn(new UserResponseDto(user.getId(),user.getUsername(), user.getEmail(), user.getUserType()));
 
         // Act
@@ -144,10 +168,40 @@ public class AuthenticationServiceTest {
         // Verify that the right methods were called
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(tokenService, times(1)).generateJwt(auth);
-        verify(userRepository, times(1)).findByUsernameIgnoreCase(username);
+        verify(userRepository, times(0)).findByUsernameLower(anyString()); // The principal is reused
         verify(userResponseMapper, times(1)).toDto(user);
     }
 
+    @Test
+    void testLoginUser_CachedPrincipal_DescribesUserFromCache() {
+        // Arrange
+        String username = "testUser";
+        Player player = new Player();
+        player.setId(7L);
+        player.setUsername(username);
+        player.setPassword("encoded");
+        player.setEmail("test@example.com");
+        player.setUserType(UserType.ROLE_PLAYER);
+
+        // A user found in the user cache is a copy of the user
+        Authentication auth = mock(Authentication.class);
+        when(auth.getPrincipal()).thenReturn(CachedUser.of(player));
+        when(auth.getName()).thenReturn(username);
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(auth);
+        when(tokenService.generateJwt(auth)).thenReturn("mockedToken");
+
+        // Act
+        LoginResponse response = authenticationService.loginUser(username, "testPassword");
+
+        // Assert
+        assertEquals(new UserResponseDto(7L, username, "test@example.com", UserType.ROLE_PLAYER), response.getUser());
+        assertEquals("mockedToken", response.getJwt());
+        verify(userRepository, never()).findByUsernameLower(anyString());
+        verify(userResponseMapper, never()).toDto(any());
+    }
+
     @Test
     void testLoginUser_Failure() {
         // Arrange
@@ -169,7 +223,7 @@ public class AuthenticationServiceTest {
         // Verify that the right methods were called
         verify(authenticationManager, times(1)).authenticate(any(UsernamePasswordAuthenticationToken.class));
         verify(tokenService, times(0)).generateJwt(any());
-        verify(userRepository, times(0)).findByUsernameIgnoreCase(anyString());
+        verify(userRepository, times(0)).findByUsernameLower(anyString());
         verify(userResponseMapper, times(0)).toDto(any());
     }
 
@@ -181,7 +235,7 @@ public class AuthenticationServiceTest {
         user.setUsername(username);
 
         // Mock the repository to return the user
-        when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.of(user));
+        when(userRepository.findByUsernameLower(User.normalize(username))).thenReturn(Optional.of(user));
 
         // Act
         User result = authenticationService.getCurrentUser(username);
@@ -197,14 +251,14 @@ public class AuthenticationServiceTest {
         String username = "nonexistentuser";
 
         // Mock the repository to return the user
-        when(userRepository.findByUsernameIgnoreCase(username)).thenReturn(Optional.empty());
+        when(userRepository.findByUsernameLower(User.normalize(username))).thenReturn(Optional.empty());
 
         // Assert
         assertThrows(UsernameNotFoundException.class, () -> {
             authenticationService.getCurrentUser(username);
         });
 
-        verify(userRepository, times(1)).findByUsernameIgnoreCase(username);
+        verify(userRepository, times(1)).findByUsernameLower(User.normalize(username));
     }
 
 
@@ -0,0 +1,153 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.utility.CachingJwtDecoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2024-10-01T10:00:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private MutableClock clock;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        clock = new MutableClock(NOW);
+        decoder = new CachingJwtDecoder(delegate, 2, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void decode_SameTokenTwice_VerifiesOnce() {
+        Jwt jwt = jwt("a", NOW.plusSeconds(3600));
+        when(delegate.decode("a")).thenReturn(jwt);
+
+        assertSame(jwt, decoder.decode("a"));
+        assertSame(jwt, decoder.decode("a"));
+
+        verify(delegate, times(1)).decode("a");
+    }
+
+    @Test
+    void decode_TokenExpiredSinceCached_VerifiesAgain() {
+        when(delegate.decode("a")).thenReturn(jwt("a", NOW.plusSeconds(60)));
+        decoder.decode("a");
+
+        clock.instant = NOW.plusSeconds(60);
+        doThrow(new BadJwtException("Jwt expired")).when(delegate).decode("a");
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("a"));
+        verify(delegate, times(2)).decode("a");
+    }
+
+    @Test
+    void decode_TokenWithoutExpiry_KeptForTheCacheTtl() {
+        when(delegate.decode("a")).thenReturn(jwt("a", null));
+        decoder.decode("a");
+
+        clock.instant = NOW.plus(Duration.ofMinutes(4));
+        decoder.decode("a");
+        clock.instant = NOW.plus(Duration.ofMinutes(5));
+        decoder.decode("a");
+
+        verify(delegate, times(2)).decode("a");
+    }
+
+    @Test
+    void decode_InvalidToken_IsNotCached() {
+        when(delegate.decode("bad")).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("bad"));
+
+        verify(delegate, times(2)).decode("bad");
+        assertEquals(0, decoder.size());
+    }
+
+    @Test
+    void decode_CacheFull_EvictsTheLeastRecentlyUsedToken() {
+        when(delegate.decode("a")).thenReturn(jwt("a", NOW.plusSeconds(3600)));
+        when(delegate.decode("b")).thenReturn(jwt("b", NOW.plusSeconds(3600)));
+        when(delegate.decode("c")).thenReturn(jwt("c", NOW.plusSeconds(3600)));
+        decoder.decode("a");
+        decoder.decode("b");
+        decoder.decode("a"); // "b" is now the least recently used
+
+        decoder.decode("c"); // Takes the place of "b"
+        decoder.decode("a");
+        decoder.decode("c");
+
+        assertEquals(2, decoder.size());
+        verify(delegate, times(1)).decode("a");
+        verify(delegate, times(1)).decode("c");
+
+        decoder.decode("b");
+        verify(delegate, times(2)).decode("b");
+        assertEquals(2, decoder.size());
+    }
+
+    @Test
+    void decode_CacheFullOfUnexpiredTokens_StillCachesNewTokens() {
+        for (int i = 0; i < 10; i++) {
+            String token = "token" + i;
+            when(delegate.decode(token)).thenReturn(jwt(token, NOW.plusSeconds(3600)));
+            decoder.decode(token);
+            decoder.decode(token);
+            verify(delegate, times(1)).decode(token);
+        }
+
+        assertEquals(2, decoder.size());
+    }
+
+    private Jwt jwt(String token, Instant expiresAt) {
+        Jwt.Builder builder = Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("testUser")
+                .issuedAt(NOW.minusSeconds(1));
+        if (expiresAt != null) {
+            builder.expiresAt(expiresAt);
+        }
+        return builder.build();
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.dtos.EloHistoryPointDto;
+import com.cs203.cs203system.enums.EloHistoryResolution;
+import com.cs203.cs203system.model.EloRatingBucket;
+import com.cs203.cs203system.model.EloRecord;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.repository.EloRatingBucketRepository;
+import com.cs203.cs203system.repository.EloRecordRepository;
+import com.cs203.cs203system.service.impl.EloHistoryServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+public class EloHistoryServiceTest {
+
+    @InjectMocks
+    private EloHistoryServiceImpl eloHistoryServiceImpl;
+
+    @Mock
+    private EloRatingBucketRepository eloRatingBucketRepository;
+
+    @Mock
+    private EloRecordRepository eloRecordRepository;
+
+    private Player player;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        player = new Player();
+        player.setId(1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void recordRatingChanges_NewBuckets_CombinesChangesOfTheSameDay() {
+        // Wednesday, so both changes fall into the same day and the same week
+        LocalDateTime morning = LocalDateTime.of(2024, 5, 15, 9, 0);
+        List<EloRecord> records = List.of(
+                record(morning, 1000.0, 1016.0),
+                record(morning.plusHours(2), 1016.0, 990.0));
+        when(eloRatingBucketRepository.extendBucket(anyLong(), any(), any(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenReturn(0);
+
+        eloHistoryServiceImpl.recordRatingChanges(records);
+
+        ArgumentCaptor<Iterable<EloRatingBucket>> saved = ArgumentCaptor.forClass(Iterable.class);
+        verify(eloRatingBucketRepository).saveAllAndFlush(saved.capture());
+        List<EloRatingBucket> buckets = new ArrayList<>();
+        saved.getValue().forEach(buckets::add);
+
+        assertEquals(2, buckets.size());
+        EloRatingBucket daily = buckets.get(0);
+        assertEquals(EloHistoryResolution.DAILY, daily.getResolution());
+        assertEquals(LocalDate.of(2024, 5, 15), daily.getBucketStart());
+        assertEquals(1000.0, daily.getOpenRating());
+        assertEquals(990.0, daily.getMinRating());
+        assertEquals(1016.0, daily.getMaxRating());
+        assertEquals(990.0, daily.getCloseRating());
+        assertEquals(2, daily.getChanges());
+        assertEquals(LocalDate.of(2024, 5, 13), buckets.get(1).getBucketStart());
+    }
+
+    @Test
+    void recordRatingChanges_ExistingBucket_ExtendsItInsteadOfInserting() {
+        LocalDateTime date = LocalDateTime.of(2024, 5, 15, 9, 0);
+        when(eloRatingBucketRepository.extendBucket(anyLong(), any(), any(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenReturn(1);
+
+        eloHistoryServiceImpl.recordRatingChanges(List.of(record(date, 1000.0, 1010.0)));
+
+        verify(eloRatingBucketRepository).extendBucket(1L, EloHistoryResolution.DAILY, LocalDate.of(2024, 5, 15),
+                1000.0, 1010.0, 1010.0, 1);
+        verify(eloRatingBucketRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    void recordRatingChanges_BucketCreatedConcurrently_ReportsAConflictToRetry() {
+        LocalDateTime date = LocalDateTime.of(2024, 5, 15, 9, 0);
+        when(eloRatingBucketRepository.extendBucket(anyLong(), any(), any(), anyDouble(), anyDouble(), anyDouble(), anyInt()))
+                .thenReturn(0);
+        when(eloRatingBucketRepository.saveAllAndFlush(any()))
+                .thenThrow(new DataIntegrityViolationException("uk_elo_rating_bucket_player_resolution_start"));
+
+        assertThrows(OptimisticLockingFailureException.class,
+                () -> eloHistoryServiceImpl.recordRatingChanges(List.of(record(date, 1000.0, 1010.0))));
+    }
+
+    @Test
+    void getHistory_MoreBucketsThanPoints_MergesNeighbours() {
+        List<EloRatingBucket> buckets = new ArrayList<>();
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int week = 0; week < 10; week++) {
+            double open = 1000.0 + week * 10;
+            buckets.add(EloRatingBucket.builder()
+                    .playerId(1L)
+                    .resolution(EloHistoryResolution.WEEKLY)
+                    .bucketStart(start.plusWeeks(week))
+                    .openRating(open)
+                    .minRating(open - 5)
+                    .maxRating(open + 15)
+                    .closeRating(open + 10)
+                    .changes(2)
+                    .build());
+        }
+        when(eloRatingBucketRepository.countByPlayerIdAndResolutionAndBucketStartBetween(
+                eq(1L), eq(EloHistoryResolution.DAILY), any(), any())).thenReturn(20L);
+        when(eloRatingBucketRepository.findByPlayerIdAndResolutionAndBucketStartBetweenOrderByBucketStartAsc(
+                eq(1L), eq(EloHistoryResolution.WEEKLY), any(), any())).thenReturn(buckets);
+
+        List<EloHistoryPointDto> history = eloHistoryServiceImpl.getHistory(1L, null, null, null, 4);
+
+        // 10 weeks in groups of 3
+        assertEquals(4, history.size());
+        assertEquals(start, history.get(0).getStart());
+        assertEquals(1000.0, history.get(0).getOpen());
+        assertEquals(995.0, history.get(0).getMin());
+        assertEquals(1035.0, history.get(0).getMax());
+        assertEquals(1030.0, history.get(0).getClose());
+        assertEquals(6, history.get(0).getChanges());
+        assertEquals(1100.0, history.get(3).getClose());
+    }
+
+    private EloRecord record(LocalDateTime date, double oldRating, double newRating) {
+        return EloRecord.builder()
+                .player(player)
+                .date(date)
+                .oldRating(oldRating)
+                .newRating(newRating)
+                .build();
+    }
+}
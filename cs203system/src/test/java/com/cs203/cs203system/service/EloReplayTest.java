@@ -0,0 +1,93 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.repository.EloRecordRepository;
+import com.cs203.cs203system.service.impl.EloServiceImpl;
+import com.cs203.cs203system.utility.EloReplay;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+public class EloReplayTest {
+
+    private static final int PLAYERS = 12;
+
+    /**
+     * Replays the same matches through the replay engine and through the live rating update, one by one,
+     * and checks that both end with the same ratings.
+     */
+    @Test
+    void run_SameMatchesAsLiveUpdates_EndsWithSameRatings() {
+        EloServiceImpl eloService = new EloServiceImpl(mock(EloRecordRepository.class),
+                mock(LeaderboardService.class), mock(EloHistoryService.class));
+        List<Player> players = new ArrayList<>();
+        for (long id = 1; id <= PLAYERS; id++) {
+            Player player = new Player();
+            player.setId(id);
+            player.setName("Player " + id);
+            player.setEloRating(900.0 + id * 20);
+            players.add(player);
+        }
+        double[] startingRatings = players.stream().mapToDouble(Player::getEloRating).toArray();
+
+        EloReplay replay = new EloReplay();
+        Random random = new Random(42);
+        for (long matchId = 1; matchId <= 200; matchId++) {
+            Player player1 = players.get(random.nextInt(PLAYERS));
+            Player player2 = players.get(random.nextInt(PLAYERS));
+            if (player1 == player2) {
+                continue;
+            }
+            Match match = new Match();
+            match.setPlayer1(player1);
+            match.setPlayer2(player2);
+            match.setPlayer1Score(random.nextInt(4));
+            match.setPlayer2Score(random.nextInt(4));
+            match.setPunchesPlayer1(random.nextInt(30));
+            match.setPunchesPlayer2(random.nextInt(30));
+            match.setDodgesPlayer1(random.nextInt(10));
+            match.setDodgesPlayer2(random.nextInt(10));
+            match.setKoByPlayer1(match.getPlayer1Score() > match.getPlayer2Score() && random.nextBoolean());
+
+            replay.addMatch(matchId, matchId % 3, player1.getId(), player2.getId(),
+                    match.getPlayer1Score(), match.getPlayer2Score(),
+                    match.getPunchesPlayer1(), match.getPunchesPlayer2(),
+                    match.getDodgesPlayer1(), match.getDodgesPlayer2(),
+                    match.isKoByPlayer1(), match.isKoByPlayer2());
+            eloService.updateEloRatings(player1, player2, match);
+        }
+
+        for (Player player : players) {
+            replay.setInitialRating(player.getId(), startingRatings[(int) (player.getId() - 1)]);
+        }
+        replay.run();
+
+        for (int player = 0; player < replay.getPlayerCount(); player++) {
+            Player expected = players.get((int) replay.getPlayerId(player) - 1);
+            assertEquals(expected.getEloRating(), replay.getFinalRating(player), 1e-9);
+        }
+    }
+
+    @Test
+    void run_TournamentsWithoutCommonPlayers_ReplayedAsSeparateGroups() {
+        EloReplay replay = new EloReplay();
+        // Tournaments 1 and 2 share player 2, tournament 3 has its own players
+        replay.addMatch(1, 1, 1, 2, 3, 1, 0, 0, 0, 0, false, false);
+        replay.addMatch(2, 3, 5, 6, 3, 1, 0, 0, 0, 0, false, false);
+        replay.addMatch(3, 2, 2, 3, 1, 3, 0, 0, 0, 0, false, false);
+        replay.addMatch(4, 2, 3, 4, 3, 2, 0, 0, 0, 0, false, false);
+
+        replay.run();
+
+        assertEquals(2, replay.getGroupCount());
+        // Player 2 enters match 3 with the rating it left match 1 with
+        assertEquals(replay.getPlayer2RatingAfter(0), replay.getPlayer1RatingBefore(2));
+        assertEquals(1000.0, replay.getPlayer1RatingBefore(1));
+    }
+}
@@ -7,10 +7,13 @@ import com.cs203.cs203system.repository.EloRecordRepository;
 import com.cs203.cs203system.service.impl.EloServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -23,6 +26,12 @@ public class EloServiceTest {
     @Mock
     private EloRecordRepository eloRecordRepository;
 
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private EloHistoryService eloHistoryService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -62,6 +71,49 @@ public class EloServiceTest {
         // Verify that EloRecordRepository saved EloRecords for both players
         verify(eloRecordRepository, times(2)).save(any(EloRecord.class));
     }
+
+    @Test
+    void updateEloRatings_ManyMatches_CarriesRatingsAndSavesRecordsTogether() {
+        // Arrange
+        Player player1 = createPlayer("Player 1", 1500.0);
+        Player player2 = createPlayer("Player 2", 1400.0);
+        Player player3 = createPlayer("Player 3", 1300.0);
+
+        Match first = createMatch(player1, player2, 3, 1);
+        Match second = createMatch(player3, player1, 2, 0);
+
+        // Act
+        eloServiceImpl.updateEloRatings(List.of(first, second));
+
+        // Assert
+        // Player 1 enters the second match with the rating earned in the first one
+        double player1AfterFirst = 1500 + 32 * (1.0 - eloServiceImpl.expectedScore(1500, 1400));
+        double player1AfterSecond = player1AfterFirst + 32 * (0.0 - eloServiceImpl.expectedScore(player1AfterFirst, 1300));
+        assertEquals(player1AfterSecond, player1.getEloRating(), 0.01);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<EloRecord>> records = ArgumentCaptor.forClass(List.class);
+        verify(eloRecordRepository, times(1)).saveAll(records.capture());
+        verify(eloRecordRepository, never()).save(any(EloRecord.class));
+        assertEquals(4, records.getValue().size());
+        assertEquals(player1AfterFirst, records.getValue().get(3).getOldRating(), 0.01);
+    }
+
+    private Player createPlayer(String name, double eloRating) {
+        Player player = new Player();
+        player.setName(name);
+        player.setEloRating(eloRating);
+        return player;
+    }
+
+    private Match createMatch(Player player1, Player player2, int player1Score, int player2Score) {
+        Match match = new Match();
+        match.setPlayer1(player1);
+        match.setPlayer2(player2);
+        match.setPlayer1Score(player1Score);
+        match.setPlayer2Score(player2Score);
+        return match;
+    }
     //@Test
 //    void updateEloRatings_NoWinner_NoChanges() {
 //        // Arrange
@@ -0,0 +1,133 @@
+package com.cs203.cs203system.service.IntegrationTest;
+
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentFormat;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.repository.PlayerRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.TournamentManagerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stress test for results of the same round arriving at the same time.
+ * Without serialization, two referees submitting the last two results of a round could both see the round as
+ * finished and both generate the next one.
+ */
+@SpringBootTest(properties = "tournament.round-advancement.async=false")
+public class ConcurrentResultIntegrationTest {
+
+    private static final int PLAYERS_PER_TOURNAMENT = 8;
+    private static final int ROUNDS_TO_PLAY = 2;
+
+    @Autowired
+    private TournamentManagerService tournamentManagerService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Submits every result of a round from its own thread, for two tournaments at once, and checks that each
+     * tournament generates exactly one next round.
+     */
+    @Test
+    public void inputResult_WholeRoundSubmittedConcurrently_GeneratesNextRoundOnce() throws Exception {
+        List<Long> tournamentIds = List.of(startSwissTournament(), startSwissTournament());
+        int matchesPerRound = PLAYERS_PER_TOURNAMENT / 2;
+
+        ExecutorService executor = Executors.newFixedThreadPool(matchesPerRound * tournamentIds.size());
+        try {
+            for (int round = 1; round <= ROUNDS_TO_PLAY; round++) {
+                List<Match> results = new ArrayList<>();
+                for (Long tournamentId : tournamentIds) {
+                    List<Match> scheduled = matchRepository.findByTournamentIdAndRound(tournamentId, round)
+                            .stream()
+                            .filter(match -> match.getStatus() == MatchStatus.SCHEDULED)
+                            .toList();
+                    assertEquals(matchesPerRound, scheduled.size());
+                    scheduled.forEach(match -> results.add(resultFor(match.getId())));
+                }
+
+                submitTogether(executor, results);
+
+                for (Long tournamentId : tournamentIds) {
+                    Tournament tournament = tournamentRepository.findById(tournamentId).orElseThrow();
+                    assertEquals(round + 1, tournament.getCurrentRoundNumber());
+                    assertEquals(matchesPerRound, tournament.getOutstandingMatches());
+                    assertEquals(matchesPerRound, matchRepository.findByTournamentIdAndRound(tournamentId, round + 1).size(),
+                            "Exactly one next round should have been generated");
+                    assertTrue(matchRepository.findByTournamentIdAndRound(tournamentId, round + 2).isEmpty());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Submits each result from its own thread, releasing all threads at the same moment.
+     */
+    private void submitTogether(ExecutorService executor, List<Match> results) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Tournament>> futures = new ArrayList<>();
+        for (Match result : results) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return tournamentManagerService.inputResult(result);
+            }));
+        }
+        start.countDown();
+        for (Future<Tournament> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private Long startSwissTournament() {
+        return transactionTemplate.execute(status -> {
+            List<Long> playerIds = new ArrayList<>();
+            for (int i = 0; i < PLAYERS_PER_TOURNAMENT; i++) {
+                Player player = new Player();
+                player.setName("Concurrent Player " + (i + 1));
+                playerIds.add(playerRepository.save(player).getId());
+            }
+
+            Tournament tournament = new Tournament();
+            tournament.setFormat(TournamentFormat.SWISS);
+            tournament = tournamentManagerService.createTournament(tournament);
+            tournamentManagerService.updatePlayersToTournament(tournament.getId(), playerIds);
+            Tournament started = tournamentManagerService.startTournament(tournament.getId());
+            assertEquals(TournamentStatus.ONGOING, started.getStatus());
+            return started.getId();
+        });
+    }
+
+    private Match resultFor(Long matchId) {
+        return Match.builder()
+                .id(matchId)
+                .player1Score(1)
+                .player2Score(0)
+                .status(MatchStatus.PENDING)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.cs203.cs203system.service.IntegrationTest;
+
+import com.cs203.cs203system.dtos.EloRecordResponseDto;
+import com.cs203.cs203system.dtos.KeysetPage;
+import com.cs203.cs203system.dtos.UserResponseDto;
+import com.cs203.cs203system.model.EloRecord;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.repository.EloRecordRepository;
+import com.cs203.cs203system.repository.PlayerRepository;
+import com.cs203.cs203system.repository.UserRepository;
+import com.cs203.cs203system.service.EloRecordService;
+import com.cs203.cs203system.service.impl.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that walking the keyset pages and running the streaming export both visit every row exactly once, in id order.
+ */
+@SpringBootTest
+@Transactional
+public class KeysetExportIntegrationTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EloRecordService eloRecordService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private EloRecordRepository eloRecordRepository;
+
+    @Test
+    void users_PagesAndExportMatchTable() {
+        for (int i = 0; i < 5; i++) {
+            Player player = new Player();
+            player.setUsername("keyset" + i);
+            player.setName("Keyset Player " + i);
+            playerRepository.save(player);
+        }
+        List<Long> expectedIds = userRepository.findAll().stream().map(user -> user.getId()).sorted().toList();
+
+        List<Long> pagedIds = new ArrayList<>();
+        Long cursor = null;
+        do {
+            KeysetPage<UserResponseDto> page = KeysetPage.of(
+                    userService.getUsersAfter(KeysetPage.afterId(cursor), 2), 2, UserResponseDto::getId);
+            page.getItems().forEach(user -> pagedIds.add(user.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        List<Long> exportedIds = new ArrayList<>();
+        userService.exportUsers(user -> exportedIds.add(user.getId()));
+
+        assertEquals(expectedIds, pagedIds);
+        assertEquals(expectedIds, exportedIds);
+    }
+
+    @Test
+    void eloRecords_ExportIncludesRecordsWithoutMatch() {
+        Player player = new Player();
+        player.setUsername("keysetElo");
+        player = playerRepository.save(player);
+        for (int i = 0; i < 3; i++) {
+            eloRecordRepository.save(EloRecord.builder()
+                    .player(player)
+                    .oldRating(1000.0 + i)
+                    .newRating(1001.0 + i)
+                    .changeReason("test")
+                    .date(LocalDateTime.now())
+                    .build());
+        }
+
+        List<EloRecordResponseDto> exported = new ArrayList<>();
+        eloRecordService.exportEloRecords(exported::add);
+        List<EloRecordResponseDto> firstPage = eloRecordService.findEloRecordsAfter(0L, 2);
+
+        assertEquals(eloRecordRepository.count(), exported.size());
+        assertEquals(2, firstPage.size());
+        assertEquals(exported.get(0).getId(), firstPage.get(0).getId());
+        assertNull(exported.get(exported.size() - 1).getMatch());
+    }
+}
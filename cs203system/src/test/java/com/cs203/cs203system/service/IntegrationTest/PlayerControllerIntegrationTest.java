@@ -5,6 +5,8 @@
 package com.cs203.cs203system.service.IntegrationTest;
 
 import com.cs203.cs203system.dtos.players.PlayerWithOutStatsDto;
+import com.cs203.cs203system.dtos.players.RankedPlayerDto;
+import com.cs203.cs203system.service.LeaderboardService;
 import com.cs203.cs203system.service.PlayerService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +38,9 @@ public class PlayerControllerIntegrationTest {
     @MockBean
     private PlayerService playerService;
 
+    @MockBean
+    private LeaderboardService leaderboardService;
+
     /**
      * Tests retrieving a player by ID.
      * Mocks the {@link PlayerService#findPlayerById(Long)} method to return a specific player DTO.
@@ -81,19 +86,17 @@ public class PlayerControllerIntegrationTest {
 
     /**
      * Tests retrieving players by ranking.
-     * Mocks the {@link PlayerService#findAllPlayersOrderByEloRating()} method to return a list of players ordered by ELO rating.
-     * Verifies that the response contains players' ranking data in JSON format.
+     * Mocks the {@link LeaderboardService#getRanking(int, int)} method to return players ordered by ELO rating.
+     * Verifies that the whole ranking is requested when no limit is given.
      * @throws Exception if there is an error performing the request.
      */
     @Test
     public void testGetPlayerRanking() throws Exception {
-        PlayerWithOutStatsDto player1 = new PlayerWithOutStatsDto();
-        player1.setId(1L);
-        PlayerWithOutStatsDto player2 = new PlayerWithOutStatsDto();
-        player2.setId(2L);
-        List<PlayerWithOutStatsDto> rankedPlayers = Arrays.asList(player1, player2);
+        List<RankedPlayerDto> rankedPlayers = Arrays.asList(
+                new RankedPlayerDto(1, 1L, "player1", "Player 1", 1600.0),
+                new RankedPlayerDto(2, 2L, "player2", "Player 2", 1500.0));
 
-        when(playerService.findAllPlayersOrderByEloRating()).thenReturn(rankedPlayers);
+        when(leaderboardService.getRanking(0, Integer.MAX_VALUE)).thenReturn(rankedPlayers);
 
         mockMvc.perform(get("/api/player/ranking"))
                 .andExpect(status().isOk())
@@ -102,6 +105,23 @@ public class PlayerControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].id").value(2));
     }
 
+    /**
+     * Tests retrieving a page of the ranking.
+     * Verifies that the offset and limit are passed on to the {@link LeaderboardService}.
+     * @throws Exception if there is an error performing the request.
+     */
+    @Test
+    public void testGetPlayerRankingPage() throws Exception {
+        List<RankedPlayerDto> page = List.of(new RankedPlayerDto(3, 3L, "player3", "Player 3", 1400.0));
+
+        when(leaderboardService.getRanking(2, 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/player/ranking").param("offset", "2").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].rank").value(3));
+    }
+
     /**
      * Tests retrieving a player by a non-existent ID.
      * Mocks the {@link PlayerService#findPlayerById(Long)} method to return an empty result.
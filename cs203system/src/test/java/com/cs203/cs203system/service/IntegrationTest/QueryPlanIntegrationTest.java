@@ -0,0 +1,126 @@
+package com.cs203.cs203system.service.IntegrationTest;
+
+import com.cs203.cs203system.repository.EloRecordRepository;
+import com.cs203.cs203system.repository.MatchRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks on H2 that the match and Elo record lookups are answered from their indexes
+ * rather than by scanning the whole table.
+ * <p>
+ * Each repository method is run once so that the SQL Hibernate generates for it is captured,
+ * and that exact statement is then explained with the same parameters.
+ * </p>
+ */
+@SpringBootTest
+public class QueryPlanIntegrationTest {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private EloRecordRepository eloRecordRepository;
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+
+        /**
+         * Records every statement Hibernate prepares, leaving it unchanged.
+         */
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            StatementInspector inspector = sql -> {
+                statements.add(sql);
+                return sql;
+            };
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        statements.clear();
+    }
+
+    @Test
+    void findByPlayerId_BothBranchesOfUnionUsePlayerIndexes() {
+        matchRepository.findByPlayerId(1L);
+        String sql = capturedStatement("match");
+        assertTrue(sql.toLowerCase(Locale.ROOT).contains("union all"), sql);
+
+        String plan = explain(sql, 1L, 1L, 1L);
+
+        assertTrue(plan.contains("IDX_MATCH_PLAYER1"), plan);
+        assertTrue(plan.contains("IDX_MATCH_PLAYER2"), plan);
+        assertFalse(plan.contains("TABLESCAN"), plan);
+    }
+
+    @Test
+    void findByTournamentIdAndRound_UsesTournamentRoundIndex() {
+        matchRepository.findByTournamentIdAndRound(1L, 2);
+
+        String plan = explain(capturedStatement("match"), 1L, 2);
+
+        assertTrue(plan.contains("IDX_MATCH_TOURNAMENT_ROUND"), plan);
+    }
+
+    @Test
+    void findMatchesWithinDateRange_UsesMatchDateIndex() {
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2024, 12, 31, 0, 0);
+        matchRepository.findMatchesWithinDateRange(start, end);
+
+        String plan = explain(capturedStatement("match"), start, end);
+
+        assertTrue(plan.contains("IDX_MATCH_MATCH_DATE"), plan);
+    }
+
+    @Test
+    void findEloRecordsByPlayer_UsesPlayerDateIndex() {
+        eloRecordRepository.findByPlayer_Id(1L);
+
+        String plan = explain(capturedStatement("elo_record"), 1L);
+
+        assertTrue(plan.contains("IDX_ELO_RECORD_PLAYER_DATE"), plan);
+    }
+
+    /**
+     * Finds the lookup run by the repository method, skipping follow-up fetches of associations and
+     * statements of scheduled jobs running at the same time.
+     *
+     * @param table The table the lookup reads.
+     * @return The first captured statement reading the table.
+     */
+    private String capturedStatement(String table) {
+        return statements.stream()
+                .filter(sql -> sql.toLowerCase(Locale.ROOT).contains(" from " + table + " "))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No statement read " + table + ": " + statements));
+    }
+
+    private String explain(String sql, Object... parameters) {
+        return String.join("\n", jdbcTemplate.queryForList("explain " + sql, String.class, parameters))
+                .toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,133 @@
+package com.cs203.cs203system.service.IntegrationTest;
+
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentFormat;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.RoundAdvancementTask;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.repository.PlayerRepository;
+import com.cs203.cs203system.repository.RoundAdvancementTaskRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.RoundAdvancementService;
+import com.cs203.cs203system.service.TournamentManagerService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests the background round advancement as it runs by default: every result is committed on its own, and the
+ * next round is paired by a worker after the result completing the round has returned.
+ * The test is deliberately not transactional, since tasks are only handed to the workers once a transaction commits.
+ */
+@SpringBootTest
+public class RoundAdvancementIntegrationTest {
+
+    private static final int PLAYERS = 8;
+    private static final long TIMEOUT_MS = 10_000;
+
+    @Autowired
+    private TournamentManagerService tournamentManagerService;
+
+    @Autowired
+    private RoundAdvancementService roundAdvancementService;
+
+    @Autowired
+    private TournamentRepository tournamentRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private RoundAdvancementTaskRepository roundAdvancementTaskRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    public void inputResult_LastResultOfRound_NextRoundIsPairedInTheBackground() throws Exception {
+        assertTrue(roundAdvancementService.isAsync());
+        Long tournamentId = startSwissTournament();
+
+        List<Match> scheduled = matchRepository.findByTournamentIdAndRound(tournamentId, 1)
+                .stream()
+                .filter(match -> match.getStatus() == MatchStatus.SCHEDULED)
+                .toList();
+        assertEquals(PLAYERS / 2, scheduled.size());
+        for (Match match : scheduled) {
+            tournamentManagerService.inputResult(resultFor(match.getId()));
+        }
+
+        assertTrue(await(() -> matchRepository.findByTournamentIdAndRound(tournamentId, 2).size() == PLAYERS / 2),
+                "The next round should be paired after the round is completed");
+
+        Tournament tournament = tournamentRepository.findById(tournamentId).orElseThrow();
+        assertEquals(2, tournament.getCurrentRoundNumber());
+        assertEquals(PLAYERS / 2, tournament.getOutstandingMatches());
+
+        List<RoundAdvancementTask> tasks = roundAdvancementTaskRepository.findAll().stream()
+                .filter(task -> task.getTournamentId().equals(tournamentId))
+                .toList();
+        assertEquals(1, tasks.size(), "Only the last result of the round should write an outbox task");
+        assertEquals(1, tasks.get(0).getRoundNumber());
+        assertEquals(0, tasks.get(0).getAttempts());
+        assertTrue(await(() -> roundAdvancementTaskRepository.findById(tasks.get(0).getId())
+                .orElseThrow().getProcessedAt() != null));
+
+        // Picking the processed task up again, as a poll racing the worker would, does not pair another round
+        roundAdvancementService.advance(tasks.get(0).getId());
+        assertEquals(PLAYERS / 2, matchRepository.findByTournamentIdAndRound(tournamentId, 2).size());
+        assertTrue(matchRepository.findByTournamentIdAndRound(tournamentId, 3).isEmpty());
+    }
+
+    private boolean await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            Thread.sleep(50);
+        }
+        return condition.getAsBoolean();
+    }
+
+    private Long startSwissTournament() {
+        return transactionTemplate.execute(status -> {
+            List<Long> playerIds = new ArrayList<>();
+            for (int i = 0; i < PLAYERS; i++) {
+                Player player = new Player();
+                player.setName("Background Player " + (i + 1));
+                playerIds.add(playerRepository.save(player).getId());
+            }
+
+            Tournament tournament = new Tournament();
+            tournament.setFormat(TournamentFormat.SWISS);
+            tournament = tournamentManagerService.createTournament(tournament);
+            tournamentManagerService.updatePlayersToTournament(tournament.getId(), playerIds);
+            Tournament started = tournamentManagerService.startTournament(tournament.getId());
+            assertEquals(TournamentStatus.ONGOING, started.getStatus());
+            return started.getId();
+        });
+    }
+
+    private Match resultFor(Long matchId) {
+        return Match.builder()
+                .id(matchId)
+                .player1Score(1)
+                .player2Score(0)
+                .status(MatchStatus.PENDING)
+                .build();
+    }
+}
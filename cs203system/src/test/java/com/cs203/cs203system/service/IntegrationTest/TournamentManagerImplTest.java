@@ -5,6 +5,8 @@
  */
 package com.cs203.cs203system.service.IntegrationTest;
 
+import com.cs203.cs203system.dtos.BatchMatchResultDTO;
+import com.cs203.cs203system.dtos.TournamentSummaryDTO;
 import com.cs203.cs203system.enums.MatchStatus;
 import com.cs203.cs203system.enums.TournamentFormat;
 import com.cs203.cs203system.enums.TournamentStatus;
@@ -36,7 +38,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * Integration test for {@link TournamentManagerService} covering various tournament lifecycle
  * operations like creating, updating players, starting, and finalizing tournaments.
  */
-@SpringBootTest
+@SpringBootTest(properties = "tournament.round-advancement.async=false")
 public class TournamentManagerImplTest {
 
     private static final Logger logger = LoggerFactory.getLogger(TournamentManagerImplTest.class);
@@ -107,8 +109,12 @@ public class TournamentManagerImplTest {
         assertEquals(TournamentStatus.ONGOING, startedTournament.getStatus(), "Tournament should be ONGOING after starting");
 
         while (startedTournament.getStatus() != TournamentStatus.COMPLETED) {
-            List<Match> matchesCopy = new ArrayList<>(startedTournament.getMatches());
+            List<Match> matchesCopy = startedTournament.getMatches().stream()
+                    .filter(m -> m.getStatus() == MatchStatus.SCHEDULED)
+                    .toList();
             System.out.println("Number of matches in this round: " + matchesCopy.size());
+            assertEquals(matchesCopy.size(), startedTournament.getOutstandingMatches(),
+                    "Every scheduled match of the round should be outstanding");
 
             for (Match match : matchesCopy) {
                 match.setPlayer1Score(1);
@@ -193,4 +199,56 @@ public class TournamentManagerImplTest {
             tournamentManagerService.inputResult(match);
         }, "Inputting a match result with a negative score should throw an exception");
     }
+
+    /**
+     * Tests listing tournament summaries.
+     * Verifies that players and matches are reported as counts and that the current round can be read on its own.
+     */
+    @Test
+    @Transactional
+    public void testFindAllTournamentSummaries() {
+        Tournament createdTournament = prepareTournament(TournamentFormat.SWISS);
+        Tournament startedTournament = tournamentManagerService.startTournament(createdTournament.getId());
+
+        TournamentSummaryDTO summary = tournamentManagerService.findAllTournamentSummaries()
+                .stream()
+                .filter(s -> s.getId().equals(startedTournament.getId()))
+                .findFirst()
+                .orElseThrow();
+
+        assertEquals(TournamentStatus.ONGOING, summary.getStatus());
+        assertEquals(playerIds.size(), summary.getPlayerCount());
+        assertEquals(playerIds.size() / 2, summary.getMatchCount());
+        assertEquals(0, summary.getCompletedMatchCount());
+        assertEquals(playerIds.size() / 2,
+                matchRepository.findByTournamentIdAndRound(startedTournament.getId(), startedTournament.getCurrentRoundNumber()).size());
+    }
+
+    /**
+     * Tests submitting a whole round of results at once.
+     * Verifies that every result is accepted and that the round advances exactly once.
+     */
+    @Test
+    @Transactional
+    public void testInputResultsForWholeRound() {
+        Tournament createdTournament = prepareTournament(TournamentFormat.SWISS);
+        Tournament startedTournament = tournamentManagerService.startTournament(createdTournament.getId());
+
+        List<Match> results = new ArrayList<>();
+        for (Match match : startedTournament.getMatches()) {
+            results.add(Match.builder()
+                    .id(match.getId())
+                    .player1Score(1)
+                    .player2Score(0)
+                    .status(MatchStatus.PENDING)
+                    .build());
+        }
+
+        BatchMatchResultDTO report = tournamentManagerService.inputResults(startedTournament.getId(), results);
+
+        assertEquals(results.size(), report.getAcceptedCount());
+        assertEquals(0, report.getRejectedCount());
+        assertEquals(2, report.getCurrentRoundNumber(), "The round should advance exactly once");
+        assertEquals(playerIds.size() / 2, report.getOutstandingMatches());
+    }
 }
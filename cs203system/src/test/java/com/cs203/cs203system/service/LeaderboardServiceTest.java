@@ -0,0 +1,109 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.dtos.players.RankedPlayerDto;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.repository.PlayerRepository;
+import com.cs203.cs203system.service.impl.LeaderboardServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.when;
+
+public class LeaderboardServiceTest {
+
+    @InjectMocks
+    private LeaderboardServiceImpl leaderboardService;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    private final Map<Long, Player> players = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        for (long id = 1; id <= 6; id++) {
+            players.put(id, createPlayer(id, 1000.0 + id * 10));
+        }
+        // Player 2 ties with player 3, the lower id is ranked first
+        players.get(2L).setEloRating(1030.0);
+
+        when(playerRepository.findAllEloRatings()).thenAnswer(invocation -> players.values().stream()
+                .map(player -> (PlayerRepository.EloRatingView) new PlayerRepository.EloRatingView() {
+                    @Override
+                    public Long getId() {
+                        return player.getId();
+                    }
+
+                    @Override
+                    public Double getEloRating() {
+                        return player.getEloRating();
+                    }
+                })
+                .toList());
+        when(playerRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Player> found = new ArrayList<>();
+            for (Object id : (Iterable<?>) invocation.getArgument(0)) {
+                Optional.ofNullable(players.get((Long) id)).ifPresent(found::add);
+            }
+            return found;
+        });
+
+        leaderboardService.rebuild();
+    }
+
+    @Test
+    void getRanking_ReturnsPageInRatingOrder() {
+        List<RankedPlayerDto> page = leaderboardService.getRanking(1, 3);
+
+        assertEquals(List.of(5L, 4L, 2L), page.stream().map(RankedPlayerDto::getId).toList());
+        assertEquals(List.of(2, 3, 4), page.stream().map(RankedPlayerDto::getRank).toList());
+        assertEquals("player5", page.get(0).getUsername());
+    }
+
+    @Test
+    void updateRatings_MovesPlayerAndShiftsOthers() {
+        Player player1 = players.get(1L);
+        player1.setEloRating(2000.0);
+
+        leaderboardService.updateRatings(List.of(player1));
+
+        assertEquals(1, leaderboardService.getRank(1L).orElseThrow().getRank());
+        assertEquals(2, leaderboardService.getRank(6L).orElseThrow().getRank());
+        assertEquals(6, leaderboardService.getRanking(0, 10).size());
+    }
+
+    @Test
+    void getPlayersAround_ClipsAtTopOfLeaderboard() {
+        List<RankedPlayerDto> around = leaderboardService.getPlayersAround(5L, 2);
+
+        assertEquals(List.of(6L, 5L, 4L, 2L), around.stream().map(RankedPlayerDto::getId).toList());
+    }
+
+    @Test
+    void removePlayer_PlayerIsNoLongerRanked() {
+        leaderboardService.removePlayer(6L);
+        players.remove(6L);
+
+        assertTrue(leaderboardService.getRank(6L).isEmpty());
+        assertEquals(1, leaderboardService.getRank(5L).orElseThrow().getRank());
+        assertTrue(leaderboardService.getPlayersAround(6L, 2).isEmpty());
+    }
+
+    private Player createPlayer(Long id, double eloRating) {
+        Player player = new Player();
+        player.setId(id);
+        player.setUsername("player" + id);
+        player.setName("Player " + id);
+        player.setEloRating(eloRating);
+        return player;
+    }
+}
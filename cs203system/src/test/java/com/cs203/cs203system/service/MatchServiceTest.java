@@ -25,6 +25,9 @@ public class MatchServiceTest {
     @Mock
     private MatchRepository matchRepository;
 
+    @Mock
+    private PlayerStatsService playerStatsService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -0,0 +1,94 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.config.NotificationProperties;
+import com.cs203.cs203system.service.impl.NotificationDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class NotificationDispatcherTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationDispatcher notificationDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(messagingTemplate.getUserDestinationPrefix()).thenReturn("/user/");
+        meterRegistry = new SimpleMeterRegistry();
+
+        NotificationProperties properties = new NotificationProperties();
+        properties.setThreads(2);
+        properties.setQueueCapacity(2);
+        properties.setOfferTimeoutMs(0);
+        notificationDispatcher = new NotificationDispatcher(messagingTemplate, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        notificationDispatcher.stop();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dispatch_ManyUsers_SharesOneSerializedMessage() {
+        notificationDispatcher.start();
+
+        notificationDispatcher.dispatch(new long[]{1, 2, 3, 4}, payload("start"));
+
+        ArgumentCaptor<Message<?>> messages = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, timeout(1000).times(4)).send(anyString(), messages.capture());
+        verify(messagingTemplate).send(eq("/user/3/notifications"), any(Message.class));
+        Object payload = messages.getAllValues().get(0).getPayload();
+        messages.getAllValues().forEach(message -> assertSame(payload, message.getPayload()));
+        assertEquals(4.0, meterRegistry.counter("notifications.sent").count());
+    }
+
+    @Test
+    void dispatch_SamePayloadQueuedTwice_EachUserReceivesItOnce() {
+        // Queued before the threads start, so both broadcasts are taken in the same batch
+        notificationDispatcher.dispatch(new long[]{1, 2}, payload("start"));
+        notificationDispatcher.dispatch(new long[]{2, 4}, payload("start"));
+
+        notificationDispatcher.start();
+
+        verify(messagingTemplate, timeout(1000).times(3)).send(anyString(), any(Message.class));
+        verify(messagingTemplate, times(1)).send(eq("/user/2/notifications"), any(Message.class));
+        assertEquals(1.0, meterRegistry.counter("notifications.coalesced").count());
+    }
+
+    @Test
+    void dispatch_QueueFull_DropsAndCountsRecipients() {
+        // User 2 always goes to the same thread, whose queue holds two broadcasts
+        notificationDispatcher.dispatch(new long[]{2}, payload("first"));
+        notificationDispatcher.dispatch(new long[]{2}, payload("second"));
+        notificationDispatcher.dispatch(new long[]{2}, payload("third"));
+
+        assertEquals(2.0, meterRegistry.counter("notifications.queued").count());
+        assertEquals(1.0, meterRegistry.counter("notifications.dropped").count());
+        assertEquals(2, notificationDispatcher.getQueuedBroadcasts());
+        verifyNoMoreInteractions(ignoreStubs(messagingTemplate));
+    }
+
+    private byte[] payload(String status) {
+        return ("{\"status\":\"" + status + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+}
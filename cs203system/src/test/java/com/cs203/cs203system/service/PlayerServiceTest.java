@@ -8,6 +8,7 @@ import com.cs203.cs203system.dtos.players.PlayerWithOutStatsDtoMapper;
 import com.cs203.cs203system.model.Player;
 import com.cs203.cs203system.repository.PlayerRepository;
 import com.cs203.cs203system.service.impl.PlayerServiceImpl;
+import com.cs203.cs203system.utility.TtlUserCache;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,12 @@ class PlayerServiceTest {
     @Mock
     private CreatePlayerMapper createPlayerMapper;
 
+    @Mock
+    private LeaderboardService leaderboardService;
+
+    @Mock
+    private TtlUserCache userCache;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);  // Initialize mocks
@@ -201,6 +208,7 @@ class PlayerServiceTest {
         verify(createPlayerMapper, times(1)).toEntity(createUserRequest);
         verify(playerRepository, times(1)).save(newPlayer);
         verify(playerWithOutStatsDtoMapper, times(1)).toDto(savedPlayer);
+        verify(leaderboardService, times(1)).updateRatings(List.of(savedPlayer));
     }
 
     @Test
@@ -272,6 +280,9 @@ class PlayerServiceTest {
 
         // Verify that save was called once with the updated player
         verify(playerRepository, times(1)).save(existingPlayer);
+
+        // Verify that the player cached at login under the old username is dropped
+        verify(userCache, times(1)).removeUserFromCache("MyUsername");
     }
 
     @Test
@@ -322,6 +333,8 @@ class PlayerServiceTest {
 
         // Assert: Verify that playerRepository.deleteById() was called once with the correct ID
         verify(playerRepository, times(1)).deleteById(playerId);
+        verify(leaderboardService, times(1)).removePlayer(playerId);
+        verify(userCache, times(1)).removeUserById(playerId);
     }
 
     @Test
@@ -0,0 +1,86 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.dtos.players.PlayerStatsDTO;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.PlayerStats;
+import com.cs203.cs203system.repository.PlayerStatsRepository;
+import com.cs203.cs203system.service.impl.PlayerStatsServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+public class PlayerStatsServiceTest {
+
+    @InjectMocks
+    private PlayerStatsServiceImpl playerStatsServiceImpl;
+
+    @Mock
+    private PlayerStatsRepository playerStatsRepository;
+
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        player1 = new Player();
+        player1.setId(1L);
+        player2 = new Player();
+        player2.setId(2L);
+    }
+
+    @Test
+    void recordMatchStats_StatsChanged_AddsOnlyTheDifference() {
+        Match match = Match.builder().player1(player1).player2(player2)
+                .punchesPlayer1(3).dodgesPlayer1(2).punchesPlayer2(1).dodgesPlayer2(0).build();
+        PlayerStatsService.MatchStats previous = PlayerStatsService.MatchStats.of(match);
+
+        match.setPunchesPlayer1(10);
+        match.setDodgesPlayer2(4);
+        match.setKoByPlayer1(true);
+        when(playerStatsRepository.addToTotals(anyLong(), anyInt(), anyInt(), anyInt())).thenReturn(1);
+
+        playerStatsServiceImpl.recordMatchStats(match, previous);
+
+        verify(playerStatsRepository).addToTotals(1L, 7, 0, 1);
+        verify(playerStatsRepository).addToTotals(2L, 0, 4, 0);
+        verify(playerStatsRepository, never()).save(any(PlayerStats.class));
+    }
+
+    @Test
+    void recordMatchStats_PlayerWithoutTotals_InsertsRow() {
+        Match match = Match.builder().player1(player1).punchesPlayer1(5).dodgesPlayer1(1).build();
+        PlayerStatsService.MatchStats previous = new PlayerStatsService.MatchStats(0, 0, 0, 0, false, false);
+        when(playerStatsRepository.addToTotals(anyLong(), anyInt(), anyInt(), anyInt())).thenReturn(0);
+
+        playerStatsServiceImpl.recordMatchStats(match, previous);
+
+        ArgumentCaptor<PlayerStats> saved = ArgumentCaptor.forClass(PlayerStats.class);
+        verify(playerStatsRepository).save(saved.capture());
+        assertEquals(1L, saved.getValue().getPlayerId());
+        assertEquals(5, saved.getValue().getTotalPunches());
+        assertEquals(1, saved.getValue().getTotalDodges());
+        // A bye has no player 2 to update
+        verify(playerStatsRepository, times(1)).addToTotals(anyLong(), anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    void getPlayerStatsByPlayerId_NoTotals_ReturnsZeroedStats() {
+        when(playerStatsRepository.findPlayerStatsByPlayerId(3L)).thenReturn(Optional.empty());
+
+        PlayerStatsDTO stats = playerStatsServiceImpl.getPlayerStatsByPlayerId(3L);
+
+        assertEquals(3L, stats.getPlayerId());
+        assertEquals(0, stats.getTotalPunches());
+    }
+}
@@ -0,0 +1,224 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.config.RoundAdvancementProperties;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.RoundAdvancementTask;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.RoundAdvancementTaskRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.impl.RoundAdvancementServiceImpl;
+import com.cs203.cs203system.service.impl.TournamentFormatRegistry;
+import com.cs203.cs203system.service.impl.TournamentUpdateExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+public class RoundAdvancementServiceTest {
+
+    private static final Long TOURNAMENT_ID = 1L;
+    private static final Long TASK_ID = 10L;
+
+    @Mock
+    private TournamentFormatRegistry formatRegistry;
+
+    @Mock
+    private TournamentFormatManager formatManager;
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private RoundAdvancementTaskRepository roundAdvancementTaskRepository;
+
+    @Mock
+    private TournamentFeedService tournamentFeedService;
+
+    private QueueingExecutor roundAdvancementExecutor;
+    private RoundAdvancementProperties properties;
+    private RoundAdvancementService roundAdvancementService;
+
+    private Tournament tournament;
+    private RoundAdvancementTask task;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+
+        roundAdvancementExecutor = new QueueingExecutor();
+        properties = new RoundAdvancementProperties();
+        roundAdvancementService = new RoundAdvancementServiceImpl(formatRegistry, tournamentRepository,
+                roundAdvancementTaskRepository, new TournamentUpdateExecutor(TransactionOperations.withoutTransaction()),
+                TransactionOperations.withoutTransaction(), roundAdvancementExecutor, tournamentFeedService, properties);
+
+        tournament = Tournament.builder()
+                .id(TOURNAMENT_ID)
+                .status(TournamentStatus.ONGOING)
+                .currentRoundNumber(1)
+                .build();
+        task = RoundAdvancementTask.builder()
+                .id(TASK_ID)
+                .tournamentId(TOURNAMENT_ID)
+                .roundNumber(1)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        when(roundAdvancementTaskRepository.save(any(RoundAdvancementTask.class))).thenAnswer(invocation -> {
+            RoundAdvancementTask saved = invocation.getArgument(0);
+            saved.setId(TASK_ID);
+            return saved;
+        });
+        when(roundAdvancementTaskRepository.findById(TASK_ID)).thenAnswer(invocation -> Optional.of(task));
+        when(tournamentRepository.findById(TOURNAMENT_ID)).thenReturn(Optional.of(tournament));
+        when(formatRegistry.get(tournament)).thenReturn(formatManager);
+        when(formatManager.isRoundCompleted(tournament)).thenReturn(true);
+        when(formatManager.advanceRound(tournament)).thenAnswer(invocation -> {
+            tournament.setCurrentRoundNumber(tournament.getCurrentRoundNumber() + 1);
+            return tournament;
+        });
+    }
+
+    @Test
+    void scheduleAdvancement_InTransaction_SubmitsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            roundAdvancementService.scheduleAdvancement(tournament);
+
+            // The task is not visible to a worker before the result's transaction commits
+            assertTrue(roundAdvancementExecutor.queued.isEmpty());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, roundAdvancementExecutor.queued.size());
+        roundAdvancementExecutor.runQueued();
+
+        verify(formatManager, times(1)).advanceRound(tournament);
+        assertNotNull(task.getProcessedAt());
+    }
+
+    @Test
+    void scheduleAdvancement_QueueFull_LeavesTaskForThePoll() {
+        roundAdvancementExecutor.rejecting = true;
+
+        assertDoesNotThrow(() -> roundAdvancementService.scheduleAdvancement(tournament));
+        verify(formatManager, never()).advanceRound(any());
+        assertNull(task.getProcessedAt());
+
+        roundAdvancementExecutor.rejecting = false;
+        when(roundAdvancementTaskRepository.findTop50ByProcessedAtIsNullAndAttemptsLessThanOrderByIdAsc(properties.getMaxAttempts()))
+                .thenReturn(List.of(task));
+
+        roundAdvancementService.processPendingTasks();
+        roundAdvancementExecutor.runQueued();
+
+        verify(formatManager, times(1)).advanceRound(tournament);
+        assertNotNull(task.getProcessedAt());
+    }
+
+    @Test
+    void advance_Failure_CountsTheAttemptAndRecordsTheError() {
+        when(formatManager.advanceRound(tournament)).thenThrow(new IllegalStateException("Pairing failed"));
+
+        roundAdvancementService.advance(TASK_ID);
+
+        assertEquals(1, task.getAttempts());
+        assertTrue(task.getLastError().contains("Pairing failed"));
+
+        task.setProcessedAt(null); // The failed transaction is rolled back
+        roundAdvancementService.advance(TASK_ID);
+
+        assertEquals(2, task.getAttempts());
+    }
+
+    @Test
+    void processPendingTasks_OnlyPollsTasksBelowTheAttemptLimit() {
+        properties.setMaxAttempts(3);
+        when(roundAdvancementTaskRepository.findTop50ByProcessedAtIsNullAndAttemptsLessThanOrderByIdAsc(anyInt()))
+                .thenReturn(List.of());
+
+        roundAdvancementService.processPendingTasks();
+
+        verify(roundAdvancementTaskRepository, times(1)).findTop50ByProcessedAtIsNullAndAttemptsLessThanOrderByIdAsc(3);
+        assertTrue(roundAdvancementExecutor.queued.isEmpty());
+    }
+
+    @Test
+    void advance_SubmittedTwice_AdvancesTheRoundOnce() {
+        roundAdvancementService.advance(TASK_ID);
+        roundAdvancementService.advance(TASK_ID);
+
+        verify(formatManager, times(1)).advanceRound(tournament);
+        assertEquals(2, tournament.getCurrentRoundNumber());
+    }
+
+    @Test
+    void advance_TournamentAlreadyPastTheRound_DoesNotAdvance() {
+        tournament.setCurrentRoundNumber(2);
+
+        roundAdvancementService.advance(TASK_ID);
+
+        verify(formatManager, never()).advanceRound(any());
+        assertNotNull(task.getProcessedAt());
+    }
+
+    @Test
+    void advance_RoundNotCompleted_DoesNotAdvance() {
+        when(formatManager.isRoundCompleted(tournament)).thenReturn(false);
+
+        roundAdvancementService.advance(TASK_ID);
+
+        verify(formatManager, never()).advanceRound(any());
+    }
+
+    @Test
+    void advance_LastRound_PublishesTheEndOfTheTournament() {
+        when(formatManager.advanceRound(tournament)).thenAnswer(invocation -> {
+            tournament.setStatus(TournamentStatus.COMPLETED);
+            return tournament;
+        });
+
+        roundAdvancementService.advance(TASK_ID);
+
+        verify(tournamentFeedService, times(1)).tournamentCompleted(tournament);
+    }
+
+    /**
+     * Holds submitted advancements until the test runs them, or rejects them like a full queue.
+     */
+    private static final class QueueingExecutor implements TaskExecutor {
+        private final List<Runnable> queued = new ArrayList<>();
+        private boolean rejecting;
+
+        @Override
+        public void execute(Runnable task) {
+            if (rejecting) {
+                throw new TaskRejectedException("Queue is full");
+            }
+            queued.add(task);
+        }
+
+        void runQueued() {
+            List<Runnable> tasks = new ArrayList<>(queued);
+            queued.clear();
+            tasks.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.impl.RoundRobinManagerImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+public class RoundRobinManagerTest {
+
+    @InjectMocks
+    private RoundRobinManagerImpl roundRobinManagerImpl;
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private EloService eloService;
+
+    @Mock
+    private TournamentFeedService tournamentFeedService;
+
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(tournamentRepository.save(any(Tournament.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setStatus(TournamentStatus.ONGOING);
+        when(matchRepository.findByTournamentIdAndRound(anyLong(), anyInt())).thenAnswer(invocation ->
+                tournament.getMatches().stream()
+                        .filter(match -> match.getRound().equals(invocation.getArgument(1)))
+                        .toList());
+    }
+
+    @Test
+    void initializeTournament_EvenField_EveryPairMeetsExactlyOnce() {
+        addPlayers(6);
+
+        roundRobinManagerImpl.initializeTournament(tournament);
+
+        assertEquals(15, tournament.getMatches().size());
+        assertEquals(3, tournament.getOutstandingMatches());
+        Set<String> pairs = new HashSet<>();
+        for (Match match : tournament.getMatches()) {
+            assertTrue(pairs.add(key(match.getPlayer1(), match.getPlayer2())), "Pair scheduled twice");
+        }
+        for (int round = 1; round <= 5; round++) {
+            assertEquals(6, playersIn(round).size(), "Every player plays once per round");
+        }
+    }
+
+    @Test
+    void initializeTournament_OddField_EachPlayerGetsOneBye() {
+        addPlayers(5);
+
+        roundRobinManagerImpl.initializeTournament(tournament);
+
+        List<Match> byes = tournament.getMatches().stream()
+                .filter(match -> match.getStatus() == MatchStatus.BYE)
+                .toList();
+        assertEquals(5, byes.size());
+        assertEquals(5, byes.stream().map(match -> match.getPlayer1().getId()).distinct().count());
+        assertEquals(10, tournament.getMatches().size() - byes.size());
+        assertEquals(2, tournament.getOutstandingMatches());
+    }
+
+    @Test
+    void advanceRound_AfterLastRound_CompletesWithMostPoints() {
+        addPlayers(4);
+        roundRobinManagerImpl.initializeTournament(tournament);
+
+        for (int round = 1; round <= 3; round++) {
+            for (Match match : playedIn(round)) {
+                // Player 3 wins every match, everyone else wins when they have the higher id
+                boolean firstWins = match.getPlayer1().getId() == 3
+                        || (match.getPlayer2().getId() != 3 && match.getPlayer1().getId() > match.getPlayer2().getId());
+                match.setPlayer1Score(firstWins ? 1 : 0);
+                match.setPlayer2Score(firstWins ? 0 : 1);
+                match.setStatus(MatchStatus.COMPLETED);
+                tournament.setOutstandingMatches(tournament.getOutstandingMatches() - 1);
+                roundRobinManagerImpl.receiveMatchResult(match);
+            }
+        }
+
+        assertEquals(TournamentStatus.COMPLETED, tournament.getStatus());
+        assertEquals(3L, roundRobinManagerImpl.determineWinner(tournament).getId());
+    }
+
+    @Test
+    void determineWinner_TiedOnPoints_BrokenBySonnebornBerger() {
+        addPlayers(4);
+        List<Player> players = tournament.getPlayers();
+        tournament.setMatches(new ArrayList<>(List.of(
+                won(players.get(0), players.get(1)),
+                won(players.get(0), players.get(2)),
+                won(players.get(3), players.get(0)),
+                won(players.get(1), players.get(2)),
+                won(players.get(1), players.get(3)),
+                won(players.get(2), players.get(3)))));
+        tournament.setStatus(TournamentStatus.COMPLETED);
+
+        // Players 1 and 2 both won twice, but player 1's wins came against opponents with more points
+        assertEquals(1L, roundRobinManagerImpl.determineWinner(tournament).getId());
+    }
+
+    private Match won(Player winner, Player loser) {
+        return Match.builder()
+                .tournament(tournament)
+                .player1(winner)
+                .player2(loser)
+                .player1Score(1)
+                .player2Score(0)
+                .status(MatchStatus.COMPLETED)
+                .build();
+    }
+
+    private void addPlayers(int count) {
+        List<Player> players = new ArrayList<>();
+        for (long id = 1; id <= count; id++) {
+            Player player = new Player();
+            player.setId(id);
+            players.add(player);
+        }
+        tournament.setPlayers(players);
+    }
+
+    private List<Match> playedIn(int round) {
+        return tournament.getMatches().stream()
+                .filter(match -> match.getRound() == round && match.getStatus() != MatchStatus.BYE)
+                .toList();
+    }
+
+    private Set<Long> playersIn(int round) {
+        Set<Long> players = new HashSet<>();
+        for (Match match : playedIn(round)) {
+            assertTrue(players.add(match.getPlayer1().getId()));
+            assertTrue(players.add(match.getPlayer2().getId()));
+        }
+        return players;
+    }
+
+    private String key(Player first, Player second) {
+        long low = Math.min(first.getId(), second.getId());
+        long high = Math.max(first.getId(), second.getId());
+        return low + "-" + high;
+    }
+}
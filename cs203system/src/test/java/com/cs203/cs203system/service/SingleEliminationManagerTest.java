@@ -0,0 +1,175 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.enums.MatchBracket;
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.repository.TournamentRepository;
+import com.cs203.cs203system.service.impl.SingleEliminationManagerImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class SingleEliminationManagerTest {
+
+    @InjectMocks
+    private SingleEliminationManagerImpl singleEliminationManagerImpl;
+
+    @Mock
+    private TournamentRepository tournamentRepository;
+
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private EloService eloService;
+
+    @Mock
+    private TournamentFeedService tournamentFeedService;
+
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(tournamentRepository.save(any(Tournament.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setStatus(TournamentStatus.ONGOING);
+        List<Player> players = new ArrayList<>();
+        for (long id = 1; id <= 8; id++) {
+            Player player = new Player();
+            player.setId(id);
+            players.add(player);
+        }
+        tournament.setPlayers(players);
+        // Serve each round from the tournament's own matches
+        when(matchRepository.findByTournamentIdAndRound(anyLong(), anyInt())).thenAnswer(invocation ->
+                tournament.getMatches().stream()
+                        .filter(match -> match.getRound().equals(invocation.getArgument(1)))
+                        .toList());
+    }
+
+    @Test
+    void initializeTournament_EightPlayers_CreatesLinkedBracketUpfront() {
+        singleEliminationManagerImpl.initializeTournament(tournament);
+
+        assertEquals(7, tournament.getMatches().size());
+        assertEquals(4, tournament.getOutstandingMatches());
+        List<Match> firstRound = round(1);
+        assertEquals(4, firstRound.size());
+        assertTrue(firstRound.stream().allMatch(match -> match.getStatus() == MatchStatus.SCHEDULED
+                && match.getPlayer1() != null && match.getPlayer2() != null));
+        assertTrue(round(2).stream().allMatch(match -> match.getStatus() == MatchStatus.WAITING));
+
+        Match finalMatch = round(3).get(0);
+        assertEquals(MatchBracket.FINAL, finalMatch.getBracket());
+        assertNull(finalMatch.getNextMatch());
+        // Neighbouring matches feed the two sides of the same match
+        assertSame(firstRound.get(0).getNextMatch(), firstRound.get(1).getNextMatch());
+        assertEquals(1, firstRound.get(0).getNextMatchSlot());
+        assertEquals(2, firstRound.get(1).getNextMatchSlot());
+    }
+
+    @Test
+    void receiveMatchResult_WholeBracket_FillsSlotsAndCompletesAfterFinal() {
+        singleEliminationManagerImpl.initializeTournament(tournament);
+
+        for (int round = 1; round <= 3; round++) {
+            for (Match match : round(round)) {
+                assertEquals(MatchStatus.SCHEDULED, match.getStatus());
+                // The lower id always wins
+                boolean firstWins = match.getPlayer1().getId() < match.getPlayer2().getId();
+                match.setPlayer1Score(firstWins ? 1 : 0);
+                match.setPlayer2Score(firstWins ? 0 : 1);
+                match.setStatus(MatchStatus.COMPLETED);
+                tournament.setOutstandingMatches(tournament.getOutstandingMatches() - 1);
+                singleEliminationManagerImpl.receiveMatchResult(match);
+            }
+        }
+
+        assertEquals(TournamentStatus.COMPLETED, tournament.getStatus());
+        assertEquals(1L, singleEliminationManagerImpl.determineWinner(tournament).getId());
+        verify(eloService, times(7)).updateEloRatings(any(), any(), any());
+        // Every result but the final moves its winner, and rounds 2 and 3 are opened
+        verify(tournamentFeedService, times(6)).bracketMoved(eq(tournament), anyCollection());
+        verify(tournamentFeedService, times(2)).roundGenerated(eq(tournament), anyInt(), anyCollection());
+    }
+
+    @Test
+    void recordMatchResults_FirstRound_MovesWinnersAndUpdatesEloOnce() {
+        singleEliminationManagerImpl.initializeTournament(tournament);
+
+        List<Match> firstRound = round(1);
+        for (Match match : firstRound) {
+            match.setPlayer1Score(1);
+            match.setPlayer2Score(0);
+            match.setStatus(MatchStatus.COMPLETED);
+        }
+        tournament.setOutstandingMatches(0);
+
+        singleEliminationManagerImpl.recordMatchResults(firstRound);
+
+        assertTrue(round(2).stream().allMatch(match -> match.getPlayer1() != null && match.getPlayer2() != null));
+        assertTrue(singleEliminationManagerImpl.isRoundCompleted(tournament));
+        assertEquals(TournamentStatus.ONGOING, tournament.getStatus());
+        verify(eloService, times(1)).updateEloRatings(firstRound);
+        verify(eloService, never()).updateEloRatings(any(), any(), any());
+    }
+
+    @Test
+    void initializeTournament_SixPlayers_TopSeedsMoveStraightToSecondRound() {
+        List<Player> players = new ArrayList<>(tournament.getPlayers().subList(0, 6));
+        // The lower the id, the better the seed
+        players.forEach(player -> player.setEloRating(2000.0 - player.getId()));
+        tournament.setPlayers(players);
+
+        singleEliminationManagerImpl.initializeTournament(tournament);
+
+        assertEquals(2, tournament.getOutstandingMatches());
+        assertEquals(2, round(1).stream().filter(match -> match.getStatus() == MatchStatus.BYE).count());
+        List<Match> secondRound = round(2);
+        assertEquals(1L, secondRound.get(0).getPlayer1().getId());
+        assertEquals(2L, secondRound.get(1).getPlayer1().getId());
+        assertNull(secondRound.get(0).getPlayer2());
+
+        for (int round = 1; round <= 3; round++) {
+            for (Match match : round(round)) {
+                if (match.getStatus() == MatchStatus.BYE) {
+                    continue;
+                }
+                boolean firstWins = match.getPlayer1().getId() < match.getPlayer2().getId();
+                match.setPlayer1Score(firstWins ? 1 : 0);
+                match.setPlayer2Score(firstWins ? 0 : 1);
+                match.setStatus(MatchStatus.COMPLETED);
+                tournament.setOutstandingMatches(tournament.getOutstandingMatches() - 1);
+                singleEliminationManagerImpl.receiveMatchResult(match);
+            }
+        }
+
+        assertEquals(TournamentStatus.COMPLETED, tournament.getStatus());
+        assertEquals(1L, singleEliminationManagerImpl.determineWinner(tournament).getId());
+        verify(eloService, times(5)).updateEloRatings(any(), any(), any());
+    }
+
+    private List<Match> round(int round) {
+        return tournament.getMatches().stream()
+                .filter(match -> match.getRound() == round)
+                .toList();
+    }
+}
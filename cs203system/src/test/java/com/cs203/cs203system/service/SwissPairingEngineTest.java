@@ -0,0 +1,205 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.enums.MatchBracket;
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.service.impl.ScoreGroupPairingEngine;
+import com.cs203.cs203system.utility.SwissField;
+import com.cs203.cs203system.utility.SwissRoundUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SwissPairingEngineTest {
+
+    private ScoreGroupPairingEngine pairingEngine;
+
+    @BeforeEach
+    void setUp() {
+        pairingEngine = new ScoreGroupPairingEngine();
+    }
+
+    @Test
+    void pairNextRound_FirstRound_PairsTopHalfAgainstBottomHalf() {
+        Tournament tournament = createTournament(4);
+        List<Player> players = tournament.getPlayers();
+
+        SwissPairingEngine.SwissPairing pairing = pairingEngine.pairNextRound(tournament);
+
+        assertEquals(2, pairing.pairings().size());
+        assertTrue(pairing.byes().isEmpty());
+        assertEquals(new SwissPairingEngine.Pairing(players.get(0), players.get(2)), pairing.pairings().get(0));
+        assertEquals(new SwissPairingEngine.Pairing(players.get(1), players.get(3)), pairing.pairings().get(1));
+    }
+
+    @Test
+    void pairNextRound_PairsWithinScoreGroups() {
+        Tournament tournament = createTournament(4);
+        List<Player> players = tournament.getPlayers();
+        play(tournament, players.get(0), players.get(2));
+        play(tournament, players.get(1), players.get(3));
+
+        SwissPairingEngine.SwissPairing pairing = pairingEngine.pairNextRound(tournament);
+
+        // Winners meet winners and losers meet losers
+        assertPaired(pairing, players.get(0), players.get(1));
+        assertPaired(pairing, players.get(2), players.get(3));
+    }
+
+    @Test
+    void pairNextRound_GreedyDeadEnd_FindsCompleteLegalPairing() {
+        Tournament tournament = createTournament(4);
+        List<Player> players = tournament.getPlayers();
+        // Pairing 1-3 first would leave 2 and 4, who have already met
+        play(tournament, players.get(0), players.get(1));
+        play(tournament, players.get(1), players.get(3));
+        resetPoints(players);
+
+        SwissPairingEngine.SwissPairing pairing = pairingEngine.pairNextRound(tournament);
+
+        assertTrue(pairing.byes().isEmpty());
+        assertPaired(pairing, players.get(0), players.get(3));
+        assertPaired(pairing, players.get(1), players.get(2));
+    }
+
+    @Test
+    void pairNextRound_OddPlayers_ByeGoesToLowestRankedWithoutPreviousBye() {
+        Tournament tournament = createTournament(5);
+        List<Player> players = tournament.getPlayers();
+        Match previousBye = Match.builder()
+                .tournament(tournament)
+                .player1(players.get(4))
+                .status(MatchStatus.BYE)
+                .bracket(MatchBracket.SWISS)
+                .build();
+        tournament.getMatches().add(previousBye);
+
+        SwissPairingEngine.SwissPairing pairing = pairingEngine.pairNextRound(tournament);
+
+        assertEquals(2, pairing.pairings().size());
+        assertEquals(List.of(players.get(3)), pairing.byes());
+    }
+
+    @Test
+    void pairNextRound_NoLegalOpponent_GivesExplicitBye() {
+        Tournament tournament = createTournament(4);
+        List<Player> players = tournament.getPlayers();
+        // Player 1 has already met everyone
+        play(tournament, players.get(0), players.get(1));
+        play(tournament, players.get(0), players.get(2));
+        play(tournament, players.get(0), players.get(3));
+        resetPoints(players);
+
+        SwissPairingEngine.SwissPairing pairing = pairingEngine.pairNextRound(tournament);
+
+        assertEquals(1, pairing.pairings().size());
+        assertEquals(2, pairing.byes().size());
+        assertTrue(pairing.byes().contains(players.get(0)));
+        assertNoRematches(tournament, pairing);
+    }
+
+    @Test
+    void pairNextRound_FullTournament_NeverRematchesOrDropsPlayers() {
+        Tournament tournament = createTournament(64);
+        Random random = new Random(7);
+
+        for (int round = 0; round < 6; round++) {
+            SwissPairingEngine.SwissPairing pairing = pairingEngine.pairNextRound(tournament);
+
+            assertNoRematches(tournament, pairing);
+            assertEquals(64, pairing.pairings().size() * 2 + pairing.byes().size());
+            assertTrue(pairing.byes().isEmpty());
+
+            for (SwissPairingEngine.Pairing pair : pairing.pairings()) {
+                if (random.nextBoolean()) {
+                    play(tournament, pair.player1(), pair.player2());
+                } else {
+                    play(tournament, pair.player2(), pair.player1());
+                }
+            }
+        }
+    }
+
+    @Test
+    void createMatchHistory_RecordsOpponentsAcrossBitsetWords() {
+        Tournament tournament = createTournament(130);
+        List<Player> players = tournament.getPlayers();
+        play(tournament, players.get(0), players.get(129));
+        play(tournament, players.get(65), players.get(63));
+
+        SwissField history = SwissRoundUtils.createMatchHistory(tournament);
+
+        assertTrue(history.havePlayed(0, 129));
+        assertTrue(history.havePlayed(129, 0));
+        assertTrue(history.havePlayed(63, 65));
+        assertFalse(history.havePlayed(0, 65));
+        assertFalse(history.havePlayed(64, 63));
+        assertEquals(1, history.countOpponents(65));
+        assertEquals(0, history.countOpponents(1));
+        assertEquals(129, history.indexOf(players.get(129)));
+        assertEquals(1.0, history.getScore(0));
+    }
+
+    private Tournament createTournament(int numberOfPlayers) {
+        Tournament tournament = new Tournament();
+        tournament.setId(1L);
+        List<Player> players = new ArrayList<>();
+        for (long id = 1; id <= numberOfPlayers; id++) {
+            Player player = new Player();
+            player.setId(id);
+            player.setPoints(0.0);
+            players.add(player);
+        }
+        tournament.setPlayers(players);
+        tournament.setMatches(new ArrayList<>());
+        return tournament;
+    }
+
+    private void play(Tournament tournament, Player winner, Player loser) {
+        Match match = Match.builder()
+                .tournament(tournament)
+                .player1(winner)
+                .player2(loser)
+                .player1Score(1)
+                .player2Score(0)
+                .status(MatchStatus.COMPLETED)
+                .bracket(MatchBracket.SWISS)
+                .build();
+        tournament.getMatches().add(match);
+        winner.setPoints(winner.getPoints() + 1.0);
+    }
+
+    private void resetPoints(List<Player> players) {
+        players.forEach(player -> player.setPoints(0.0));
+    }
+
+    private void assertPaired(SwissPairingEngine.SwissPairing pairing, Player first, Player second) {
+        boolean paired = pairing.pairings().stream()
+                .anyMatch(pair -> (pair.player1().equals(first) && pair.player2().equals(second))
+                        || (pair.player1().equals(second) && pair.player2().equals(first)));
+        assertTrue(paired, "Expected players " + first.getId() + " and " + second.getId() + " to be paired");
+    }
+
+    private void assertNoRematches(Tournament tournament, SwissPairingEngine.SwissPairing pairing) {
+        Set<String> played = new HashSet<>();
+        for (Match match : tournament.getMatches()) {
+            if (match.getPlayer2() != null) {
+                played.add(key(match.getPlayer1(), match.getPlayer2()));
+            }
+        }
+        for (SwissPairingEngine.Pairing pair : pairing.pairings()) {
+            assertFalse(played.contains(key(pair.player1(), pair.player2())), "Rematch produced");
+        }
+    }
+
+    private String key(Player first, Player second) {
+        long low = Math.min(first.getId(), second.getId());
+        long high = Math.max(first.getId(), second.getId());
+        return low + "-" + high;
+    }
+}
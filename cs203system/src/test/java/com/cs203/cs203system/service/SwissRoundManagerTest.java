@@ -10,7 +10,9 @@ import com.cs203.cs203system.repository.MatchRepository;
 import com.cs203.cs203system.repository.PlayerRepository;
 import com.cs203.cs203system.repository.TournamentRepository;
 import com.cs203.cs203system.service.EloService;
+import com.cs203.cs203system.service.impl.ScoreGroupPairingEngine;
 import com.cs203.cs203system.service.impl.SwissRoundManagerImpl;
+import com.cs203.cs203system.service.impl.SwissStandingsServiceImpl;
 import com.cs203.cs203system.utility.SwissRoundUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -39,6 +42,15 @@ public class SwissRoundManagerTest {
     @Mock
     private EloService eloService;
 
+    @Mock
+    private TournamentFeedService tournamentFeedService;
+
+    @Spy
+    private SwissStandingsServiceImpl swissStandingsService = new SwissStandingsServiceImpl(mock(MatchRepository.class));
+
+    @Spy
+    private ScoreGroupPairingEngine swissPairingEngine = new ScoreGroupPairingEngine();
+
     @InjectMocks
     private SwissRoundManagerImpl swissRoundManagerImpl;
 
@@ -102,6 +114,7 @@ public class SwissRoundManagerTest {
             assertEquals(TournamentStatus.COMPLETED, result.getStatus());  // Tournament should be completed
             assertEquals(LocalDate.now(), result.getEndDate());  // End date should be set
             verify(tournamentRepository, times(1)).save(any(Tournament.class));
+            verify(swissStandingsService, times(1)).evict(tournament.getId());  // Standings are dropped once it is over
         }
     }
 
@@ -241,6 +254,39 @@ public class SwissRoundManagerTest {
         verify(tournamentRepository, times(1)).save(any(Tournament.class));
     }
 
+    @Test
+    void advanceRound_NextRound_PublishesOnlyTheNewMatches() {
+        Tournament tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setFormat(TournamentFormat.SWISS);
+        List<Player> players = new ArrayList<>();
+        for (long id = 1; id <= 4; id++) {
+            Player player = new Player();
+            player.setId(id);
+            players.add(player);
+        }
+        tournament.setPlayers(players);
+        when(tournamentRepository.save(any(Tournament.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        swissRoundManagerImpl.initializeTournament(tournament);
+        for (Match match : new ArrayList<>(tournament.getMatches())) {
+            match.setPlayer1Score(1);
+            match.setPlayer2Score(0);
+            match.setStatus(MatchStatus.COMPLETED);
+            swissRoundManagerImpl.recordMatchResult(match);
+        }
+        tournament.setOutstandingMatches(0);
+
+        swissRoundManagerImpl.advanceRound(tournament);
+
+        List<Match> secondRound = tournament.getMatches().stream()
+                .filter(match -> match.getRound() == 2)
+                .toList();
+        assertEquals(2, secondRound.size());
+        verify(matchRepository, times(1)).saveAll(secondRound);
+        verify(tournamentFeedService, times(1)).roundGenerated(tournament, 2, secondRound);
+    }
+
 //    @Test
 //    void testReceiveMatchResult_NormalMatchmaking() {
 //        // Arrange
@@ -0,0 +1,166 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.enums.MatchBracket;
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.repository.MatchRepository;
+import com.cs203.cs203system.service.impl.SwissStandingsServiceImpl;
+import com.cs203.cs203system.utility.SwissStandings;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class SwissStandingsServiceTest {
+
+    private SwissStandingsServiceImpl swissStandingsService;
+    private MatchRepository matchRepository;
+
+    private Tournament tournament;
+    private Player player1;
+    private Player player2;
+    private Player player3;
+    private Player player4;
+
+    @BeforeEach
+    void setUp() {
+        matchRepository = mock(MatchRepository.class);
+        swissStandingsService = new SwissStandingsServiceImpl(matchRepository);
+
+        player1 = createPlayer(1L);
+        player2 = createPlayer(2L);
+        player3 = createPlayer(3L);
+        player4 = createPlayer(4L);
+
+        tournament = new Tournament();
+        tournament.setId(1L);
+        tournament.setPlayers(new ArrayList<>(List.of(player1, player2, player3, player4)));
+        tournament.setMatches(new ArrayList<>());
+        // The database holds every match added to the tournament
+        when(matchRepository.countByTournamentIdAndStatusIn(anyLong(), any())).thenAnswer(invocation ->
+                tournament.getMatches().stream()
+                        .filter(match -> match.getStatus() == MatchStatus.COMPLETED || match.getStatus() == MatchStatus.BYE)
+                        .count());
+    }
+
+    @Test
+    void recordResult_IncrementalStandingsMatchFullRebuild() {
+        swissStandingsService.initialize(tournament);
+
+        // Round 1: 1 beats 2, 3 draws 4
+        play(player1, player2, 1, 0);
+        play(player3, player4, 1, 1);
+        // Round 2: 1 beats 3, 4 beats 2
+        play(player1, player3, 2, 1);
+        play(player4, player2, 3, 0);
+
+        SwissStandings rebuilt = SwissStandings.fromTournament(tournament);
+        List<Player> incremental = swissStandingsService.getTopPlayers(tournament, 4);
+
+        assertEquals(rebuilt.getTopPlayers(4), incremental);
+        assertEquals(List.of(player1), swissStandingsService.findWinners(tournament));
+
+        SwissStandings.Standing standing = rebuilt.getStanding(player4);
+        assertEquals(1.5, standing.getScore());
+        // Player 4 met player 3 (0.5) and player 2 (0.0)
+        assertEquals(0.5, standing.getBuchholz());
+        // Draw against player 3 counts half of their score, the win over player 2 counts nothing
+        assertEquals(0.25, standing.getSonnebornBerger());
+    }
+
+    @Test
+    void findWinners_TiedOnScore_BrokenByBuchholz() {
+        swissStandingsService.initialize(tournament);
+
+        // Round 1: 1 beats 2, 3 beats 4
+        play(player1, player2, 1, 0);
+        play(player3, player4, 1, 0);
+        // Round 2: 2 beats 4, 1 and 3 draw
+        play(player2, player4, 1, 0);
+        play(player1, player3, 0, 0);
+
+        // Players 1 and 3 both have 1.5, but player 1's opponents (2 and 3) scored more than player 3's (4 and 1)
+        assertEquals(List.of(player1), swissStandingsService.findWinners(tournament));
+        assertEquals(List.of(player1, player3), swissStandingsService.getTopPlayers(tournament, 2));
+    }
+
+    @Test
+    void findWinners_NotCached_RebuildsFromTournament() {
+        play(player1, player2, 1, 0);
+        play(player3, player4, 0, 1);
+        play(player1, player4, 1, 0);
+
+        List<Player> winners = swissStandingsService.findWinners(tournament);
+
+        assertEquals(List.of(player1), winners);
+    }
+
+    @Test
+    void findWinners_ResultRecordedByAnotherNode_RebuildsStandings() {
+        swissStandingsService.initialize(tournament);
+        play(player1, player2, 1, 0);
+
+        // Recorded in the database without reaching this node's standings
+        tournament.getMatches().add(createMatch(player2, player1, 1, 0));
+
+        assertEquals(2, swissStandingsService.findWinners(tournament).size());
+    }
+
+    @Test
+    void evict_DropsCachedStandings() {
+        swissStandingsService.initialize(tournament);
+        play(player1, player2, 1, 0);
+
+        // A result the database does not know about yet is only picked up once the standings are rebuilt
+        when(matchRepository.countByTournamentIdAndStatusIn(anyLong(), any())).thenReturn(1L);
+        Match unrecorded = createMatch(player2, player1, 1, 0);
+        tournament.getMatches().add(unrecorded);
+        assertEquals(List.of(player1), swissStandingsService.findWinners(tournament));
+
+        swissStandingsService.evict(tournament.getId());
+
+        assertEquals(2, swissStandingsService.findWinners(tournament).size());
+    }
+
+    @Test
+    void getTopPlayers_NoPlayers_ReturnsEmptyList() {
+        tournament.setPlayers(new ArrayList<>());
+
+        assertTrue(swissStandingsService.getTopPlayers(tournament, 2).isEmpty());
+        assertTrue(swissStandingsService.findWinners(tournament).isEmpty());
+    }
+
+    private void play(Player first, Player second, int firstScore, int secondScore) {
+        Match match = createMatch(first, second, firstScore, secondScore);
+        tournament.getMatches().add(match);
+        swissStandingsService.recordResult(match);
+    }
+
+    private Match createMatch(Player first, Player second, int firstScore, int secondScore) {
+        return Match.builder()
+                .tournament(tournament)
+                .player1(first)
+                .player2(second)
+                .player1Score(firstScore)
+                .player2Score(secondScore)
+                .status(MatchStatus.COMPLETED)
+                .bracket(MatchBracket.SWISS)
+                .build();
+    }
+
+    private Player createPlayer(Long id) {
+        Player player = new Player();
+        player.setId(id);
+        player.setName("Player " + id);
+        return player;
+    }
+}
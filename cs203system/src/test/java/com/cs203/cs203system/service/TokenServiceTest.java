@@ -5,15 +5,18 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import com.cs203.cs203system.config.JwtProperties;
 import com.cs203.cs203system.model.User;
 import com.cs203.cs203system.repository.UserRepository;
 import com.cs203.cs203system.service.impl.AuthenticationService;
 import com.cs203.cs203system.service.impl.TokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -43,6 +46,9 @@ public class TokenServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Spy
+    private JwtProperties jwtProperties = new JwtProperties();
+
     @InjectMocks
     private TokenService tokenService;
 
@@ -82,6 +88,25 @@ public class TokenServiceTest {
         verify(auth, times(1)).getAuthorities();
     }
 
+    @Test
+    void testGenerateJwt_ExpiresAfterConfiguredDuration() {
+        Authentication auth = mock(Authentication.class);
+        when(auth.getName()).thenReturn("testUser");
+        when(auth.getAuthorities()).thenReturn((Collection) Collections.emptyList());
+        Jwt jwt = mock(Jwt.class);
+        when(jwt.getTokenValue()).thenReturn("mockedJwtToken");
+        when(jwtEncoder.encode(any(JwtEncoderParameters.class))).thenReturn(jwt);
+        jwtProperties.setExpirySeconds(600);
+
+        tokenService.generateJwt(auth);
+
+        ArgumentCaptor<JwtEncoderParameters> parameters = ArgumentCaptor.forClass(JwtEncoderParameters.class);
+        verify(jwtEncoder).encode(parameters.capture());
+        JwtClaimsSet claims = parameters.getValue().getClaims();
+        assertNotNull(claims.getExpiresAt());
+        assertEquals(600, claims.getExpiresAt().getEpochSecond() - claims.getIssuedAt().getEpochSecond());
+    }
+
 
 
 }
@@ -0,0 +1,146 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.dtos.TournamentFeedEvent;
+import com.cs203.cs203system.enums.MatchStatus;
+import com.cs203.cs203system.enums.TournamentFeedEventType;
+import com.cs203.cs203system.enums.TournamentStatus;
+import com.cs203.cs203system.model.Match;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.Tournament;
+import com.cs203.cs203system.service.impl.TournamentFeedServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class TournamentFeedServiceTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @InjectMocks
+    private TournamentFeedServiceImpl tournamentFeedService;
+
+    private Tournament tournament;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        tournament = new Tournament();
+        tournament.setId(7L);
+        tournament.setStatus(TournamentStatus.ONGOING);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void matchCompleted_NoTransaction_PublishesDeltaWithIncreasingSequence() {
+        Match match = match(10L, 1, MatchStatus.COMPLETED);
+        match.setPlayer1Score(3);
+        match.setPlayer2Score(1);
+
+        tournamentFeedService.matchCompleted(match);
+        tournamentFeedService.matchCompleted(match);
+
+        List<TournamentFeedEvent> events = publishedEvents(2);
+        assertEquals(TournamentFeedEventType.MATCH_COMPLETED, events.get(0).getType());
+        assertEquals(1L, events.get(0).getSequence());
+        assertEquals(2L, events.get(1).getSequence());
+
+        TournamentFeedEvent.MatchDelta delta = events.get(0).getMatches().get(0);
+        assertEquals(10L, delta.getId());
+        assertEquals(1L, delta.getPlayer1Id());
+        assertEquals(2L, delta.getPlayer2Id());
+        assertEquals(3, delta.getPlayer1Score());
+        assertNull(events.get(0).getStandings());
+    }
+
+    @Test
+    void roundGenerated_InTransaction_PublishesOnlyAfterCommitWithTheRoundsMatches() {
+        Match previous = match(10L, 1, MatchStatus.COMPLETED);
+        Match current = match(null, 2, MatchStatus.SCHEDULED);
+        TransactionSynchronizationManager.initSynchronization();
+
+        tournamentFeedService.roundGenerated(tournament, 2, List.of(previous, current));
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+
+        // The match is given its id when the transaction flushes
+        current.setId(11L);
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+
+        TournamentFeedEvent event = publishedEvents(1).get(0);
+        assertEquals(TournamentFeedEventType.ROUND_GENERATED, event.getType());
+        assertEquals(2, event.getRound());
+        assertEquals(1, event.getMatches().size());
+        assertEquals(11L, event.getMatches().get(0).getId());
+    }
+
+    @Test
+    void standingsChanged_InTransaction_NumbersEventsFromTheTournamentsStoredSequence() {
+        tournament.setFeedSequence(41L);
+        TransactionSynchronizationManager.initSynchronization();
+
+        tournamentFeedService.standingsChanged(tournament, List.of(player(1L, 1.0)));
+        tournament.setStatus(TournamentStatus.COMPLETED);
+        tournamentFeedService.tournamentCompleted(tournament);
+
+        // Taken inside the transaction, so the new value is committed along with the change
+        assertEquals(43L, tournament.getFeedSequence());
+        verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(sync -> sync.afterCommit());
+
+        List<TournamentFeedEvent> events = publishedEvents(2);
+        assertEquals(42L, events.get(0).getSequence());
+        assertEquals(TournamentFeedEventType.TOURNAMENT_COMPLETED, events.get(1).getType());
+        assertEquals(43L, events.get(1).getSequence());
+    }
+
+    @Test
+    void standingsChanged_NoPlayers_PublishesNothing() {
+        tournamentFeedService.standingsChanged(tournament, List.of());
+        tournamentFeedService.bracketMoved(tournament, List.of());
+
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    private List<TournamentFeedEvent> publishedEvents(int count) {
+        ArgumentCaptor<TournamentFeedEvent> events = ArgumentCaptor.forClass(TournamentFeedEvent.class);
+        verify(messagingTemplate, times(count)).convertAndSend(eq("/topic/tournament/7"), events.capture());
+        return events.getAllValues();
+    }
+
+    private Match match(Long id, int round, MatchStatus status) {
+        return Match.builder()
+                .id(id)
+                .tournament(tournament)
+                .round(round)
+                .status(status)
+                .player1(player(1L, 0.0))
+                .player2(player(2L, 0.0))
+                .build();
+    }
+
+    private Player player(Long id, double points) {
+        Player player = new Player();
+        player.setId(id);
+        player.setPoints(points);
+        return player;
+    }
+}
@@ -1,5 +1,6 @@
 package com.cs203.cs203system.service;
 
+import com.cs203.cs203system.dtos.BatchMatchResultDTO;
 import com.cs203.cs203system.enums.MatchStatus;
 import com.cs203.cs203system.enums.TournamentFormat;
 import com.cs203.cs203system.enums.TournamentStatus;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.*;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -50,23 +52,37 @@ public class TournamentServiceTest {
     @Mock
     NotificationService notificationService;
 
+    @Mock
+    PlayerStatsService playerStatsService;
+
+    @Mock
+    RoundAdvancementService roundAdvancementService;
+
+    @Mock
+    TournamentFeedService tournamentFeedService;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(swissRoundManagerImpl.getFormat()).thenReturn(TournamentFormat.SWISS);
+        when(doubleEliminationManagerImpl.getFormat()).thenReturn(TournamentFormat.DOUBLE_ELIMINATION);
+        when(hybridManagerImpl.getFormat()).thenReturn(TournamentFormat.HYBRID);
         tournamentManagerServiceImpl = new TournamentManagerServiceImpl(
-                swissRoundManagerImpl,
-                doubleEliminationManagerImpl,
-                hybridManagerImpl,
+                new TournamentFormatRegistry(List.of(swissRoundManagerImpl, doubleEliminationManagerImpl, hybridManagerImpl)),
                 tournamentRepository,
                 playerRepository,
                 matchRepository,
-                notificationService
+                notificationService,
+                playerStatsService,
+                new TournamentUpdateExecutor(TransactionOperations.withoutTransaction()),
+                roundAdvancementService,
+                tournamentFeedService
         );
     }
 
     @AfterEach
     void tearDown() {
-        reset(tournamentRepository, playerRepository, matchRepository, swissRoundManagerImpl, doubleEliminationManagerImpl, hybridManagerImpl, notificationService);
+        reset(tournamentRepository, playerRepository, matchRepository, swissRoundManagerImpl, doubleEliminationManagerImpl, hybridManagerImpl, notificationService, playerStatsService, roundAdvancementService, tournamentFeedService);
     }
 
     // Tests for finding tournaments
@@ -170,17 +186,34 @@ public class TournamentServiceTest {
     }
 
     @Test
-    void startTournament_DoubleElimination_InvalidNumberOfPlayers_ThrowsRuntimeException() {
+    void startTournament_DoubleElimination_OddNumberOfPlayers_StartsWithByes() {
         Long tournamentId = 1L;
         Tournament tournament = new Tournament();
         tournament.setStatus(TournamentStatus.SCHEDULED);
         tournament.setFormat(TournamentFormat.DOUBLE_ELIMINATION);
         tournament.setPlayers(Arrays.asList(new Player(), new Player(), new Player())); // Not a power of 2
 
+        when(tournamentRepository.findById(tournamentId)).thenReturn(Optional.of(tournament));
+        when(doubleEliminationManagerImpl.initializeTournament(tournament)).thenReturn(tournament);
+
+        Tournament result = tournamentManagerServiceImpl.startTournament(tournamentId);
+
+        assertEquals(TournamentStatus.ONGOING, result.getStatus());
+        verify(doubleEliminationManagerImpl, times(1)).initializeTournament(tournament);
+    }
+
+    @Test
+    void startTournament_HybridWithTwoPlayers_ThrowsRuntimeException() {
+        Long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setStatus(TournamentStatus.SCHEDULED);
+        tournament.setFormat(TournamentFormat.HYBRID);
+        tournament.setPlayers(Arrays.asList(new Player(), new Player()));
+
         when(tournamentRepository.findById(tournamentId)).thenReturn(Optional.of(tournament));
 
         RuntimeException exception = assertThrows(RuntimeException.class, () -> tournamentManagerServiceImpl.startTournament(tournamentId));
-        assertEquals("Double Elimination must have a total number of players equal to a power of 2", exception.getMessage());
+        assertEquals("Hybrid needs at least 4 players", exception.getMessage());
     }
 
     // Tests for determining winners
@@ -202,9 +235,260 @@ public class TournamentServiceTest {
         verify(doubleEliminationManagerImpl, times(1)).determineWinner(tournament);
     }
 
+    // Test for inputting a match result
+    @Test
+    void inputResult_PendingMatch_CountsResultBeforeHandingToManager() {
+        Long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setFormat(TournamentFormat.SWISS);
+        tournament.setOutstandingMatches(2);
+
+        Match matchInDatabase = Match.builder()
+                .id(10L)
+                .tournament(tournament)
+                .player1(new Player())
+                .player2(new Player())
+                .status(MatchStatus.SCHEDULED)
+                .build();
+        Match matchInRequest = Match.builder()
+                .id(10L)
+                .player1Score(3)
+                .player2Score(1)
+                .status(MatchStatus.PENDING)
+                .build();
+
+        when(matchRepository.findTournamentIdById(10L)).thenReturn(Optional.of(tournamentId));
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(matchInDatabase));
+        when(matchRepository.save(matchInDatabase)).thenReturn(matchInDatabase);
+        when(tournamentRepository.decrementOutstandingMatches(tournamentId, 1)).thenReturn(1);
+        when(tournamentRepository.findOutstandingMatchesById(tournamentId)).thenReturn(1);
+        when(swissRoundManagerImpl.receiveMatchResult(matchInDatabase)).thenReturn(tournament);
+
+        Tournament result = tournamentManagerServiceImpl.inputResult(matchInRequest);
+
+        assertEquals(MatchStatus.COMPLETED, matchInDatabase.getStatus());
+        assertEquals(1, result.getOutstandingMatches());
+        verify(tournamentRepository, times(1)).decrementOutstandingMatches(tournamentId, 1);
+        verify(swissRoundManagerImpl, times(1)).receiveMatchResult(matchInDatabase);
+        verify(tournamentFeedService, times(1)).matchCompleted(matchInDatabase);
+        verify(tournamentFeedService, never()).tournamentCompleted(any(Tournament.class));
+    }
+
+    @Test
+    void inputResult_LastResultOfRoundInAsyncMode_SchedulesAdvancementInsteadOfAdvancing() {
+        Long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setFormat(TournamentFormat.SWISS);
+        tournament.setStatus(TournamentStatus.ONGOING);
+        tournament.setOutstandingMatches(1);
+
+        Match matchInDatabase = scheduledMatch(10L, tournament);
+        Match matchInRequest = resultFor(10L, 3, 1);
+
+        when(roundAdvancementService.isAsync()).thenReturn(true);
+        when(matchRepository.findTournamentIdById(10L)).thenReturn(Optional.of(tournamentId));
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(matchInDatabase));
+        when(matchRepository.save(matchInDatabase)).thenReturn(matchInDatabase);
+        when(tournamentRepository.decrementOutstandingMatches(tournamentId, 1)).thenReturn(1);
+        when(tournamentRepository.findOutstandingMatchesById(tournamentId)).thenReturn(0);
+        when(swissRoundManagerImpl.recordMatchResult(matchInDatabase)).thenReturn(tournament);
+        when(swissRoundManagerImpl.isRoundCompleted(tournament)).thenReturn(true);
+
+        tournamentManagerServiceImpl.inputResult(matchInRequest);
+
+        verify(swissRoundManagerImpl, times(1)).recordMatchResult(matchInDatabase);
+        verify(swissRoundManagerImpl, never()).receiveMatchResult(any(Match.class));
+        verify(swissRoundManagerImpl, never()).advanceRound(any(Tournament.class));
+        verify(roundAdvancementService, times(1)).scheduleAdvancement(tournament);
+    }
+
+    @Test
+    void inputResult_CounterAlreadyAtZero_ThrowsBeforeHandingToManager() {
+        Long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setFormat(TournamentFormat.SWISS);
+        tournament.setStatus(TournamentStatus.ONGOING);
+        tournament.setOutstandingMatches(0);
+
+        Match matchInDatabase = scheduledMatch(10L, tournament);
+
+        when(matchRepository.findTournamentIdById(10L)).thenReturn(Optional.of(tournamentId));
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(matchInDatabase));
+        when(matchRepository.save(matchInDatabase)).thenReturn(matchInDatabase);
+        when(tournamentRepository.decrementOutstandingMatches(tournamentId, 1)).thenReturn(0);
+
+        assertThrows(IllegalStateException.class, () -> tournamentManagerServiceImpl.inputResult(resultFor(10L, 3, 1)));
+        verify(swissRoundManagerImpl, never()).receiveMatchResult(any(Match.class));
+        verify(tournamentFeedService, never()).matchCompleted(any(Match.class));
+    }
+
+    @Test
+    void inputResult_DrawInHybridDoubleEliminationPhase_ThrowsRuntimeException() {
+        Long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setFormat(TournamentFormat.HYBRID);
+        tournament.setStatus(TournamentStatus.ONGOING);
+        tournament.setIsOnSecondFormat(true);
+        tournament.setOutstandingMatches(1);
+
+        Match matchInDatabase = scheduledMatch(10L, tournament);
+
+        when(matchRepository.findTournamentIdById(10L)).thenReturn(Optional.of(tournamentId));
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(matchInDatabase));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> tournamentManagerServiceImpl.inputResult(resultFor(10L, 2, 2)));
+        assertEquals("Draws are not allowed in the Double Elimination phase", exception.getMessage());
+        assertEquals(MatchStatus.SCHEDULED, matchInDatabase.getStatus());
+        verify(hybridManagerImpl, never()).receiveMatchResult(any(Match.class));
+        verify(tournamentRepository, never()).decrementOutstandingMatches(anyLong(), anyInt());
+    }
+
+    @Test
+    void inputResult_DrawInHybridSwissPhase_IsAccepted() {
+        Long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setFormat(TournamentFormat.HYBRID);
+        tournament.setStatus(TournamentStatus.ONGOING);
+        tournament.setIsOnSecondFormat(false);
+        tournament.setOutstandingMatches(2);
+
+        Match matchInDatabase = scheduledMatch(10L, tournament);
+
+        when(matchRepository.findTournamentIdById(10L)).thenReturn(Optional.of(tournamentId));
+        when(matchRepository.findById(10L)).thenReturn(Optional.of(matchInDatabase));
+        when(matchRepository.save(matchInDatabase)).thenReturn(matchInDatabase);
+        when(tournamentRepository.decrementOutstandingMatches(tournamentId, 1)).thenReturn(1);
+        when(tournamentRepository.findOutstandingMatchesById(tournamentId)).thenReturn(1);
+        when(hybridManagerImpl.receiveMatchResult(matchInDatabase)).thenReturn(tournament);
+
+        tournamentManagerServiceImpl.inputResult(resultFor(10L, 2, 2));
+
+        assertEquals(MatchStatus.COMPLETED, matchInDatabase.getStatus());
+        verify(hybridManagerImpl, times(1)).receiveMatchResult(matchInDatabase);
+    }
+
+    @Test
+    void inputResults_MixedBatch_AppliesValidResultsAndReportsRejected() {
+        Long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setFormat(TournamentFormat.SWISS);
+        tournament.setStatus(TournamentStatus.ONGOING);
+        tournament.setOutstandingMatches(3);
+
+        Match first = scheduledMatch(10L, tournament);
+        Match second = scheduledMatch(11L, tournament);
+        Match third = scheduledMatch(12L, tournament);
+
+        when(tournamentRepository.findById(tournamentId)).thenReturn(Optional.of(tournament));
+        when(matchRepository.findAllById(any())).thenReturn(List.of(first, second, third));
+        when(tournamentRepository.decrementOutstandingMatches(tournamentId, 2)).thenReturn(1);
+        when(tournamentRepository.findOutstandingMatchesById(tournamentId)).thenReturn(1);
+
+        when(swissRoundManagerImpl.recordMatchResults(anyList())).thenReturn(tournament);
+        when(swissRoundManagerImpl.isRoundCompleted(tournament)).thenReturn(false);
+
+        BatchMatchResultDTO report = tournamentManagerServiceImpl.inputResults(tournamentId, List.of(
+                resultFor(10L, 2, 1),
+                resultFor(11L, -1, 0),
+                resultFor(12L, 0, 3),
+                resultFor(99L, 1, 0)));
+
+        assertEquals(2, report.getAcceptedCount());
+        assertEquals(2, report.getRejectedCount());
+        assertEquals(List.of(10L, 11L, 12L, 99L),
+                report.getResults().stream().map(BatchMatchResultDTO.MatchResultStatusDTO::getMatchId).toList());
+        assertFalse(report.getResults().get(1).isAccepted());
+        assertEquals("Match score cannot be negative", report.getResults().get(1).getMessage());
+        assertFalse(report.getResults().get(3).isAccepted());
+
+        assertEquals(MatchStatus.COMPLETED, first.getStatus());
+        assertEquals(MatchStatus.SCHEDULED, second.getStatus());
+        assertEquals(MatchStatus.COMPLETED, third.getStatus());
+        assertEquals(1, report.getOutstandingMatches());
+        verify(tournamentRepository, times(1)).decrementOutstandingMatches(tournamentId, 2);
+        verify(matchRepository, times(1)).saveAll(List.of(first, third));
+        verify(swissRoundManagerImpl, times(1)).recordMatchResults(List.of(first, third));
+        verify(swissRoundManagerImpl, never()).receiveMatchResult(any(Match.class));
+        verify(swissRoundManagerImpl, never()).advanceRound(any(Tournament.class));
+        verify(tournamentFeedService, times(1)).matchCompleted(first);
+        verify(tournamentFeedService, times(1)).matchCompleted(third);
+    }
+
+    @Test
+    void inputResults_BatchCompletesRound_AdvancesRoundOnce() {
+        Long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setFormat(TournamentFormat.SWISS);
+        tournament.setStatus(TournamentStatus.ONGOING);
+        tournament.setOutstandingMatches(2);
+
+        Match first = scheduledMatch(10L, tournament);
+        Match second = scheduledMatch(11L, tournament);
+
+        when(tournamentRepository.findById(tournamentId)).thenReturn(Optional.of(tournament));
+        when(matchRepository.findAllById(any())).thenReturn(List.of(first, second));
+        when(tournamentRepository.decrementOutstandingMatches(tournamentId, 2)).thenReturn(1);
+        when(tournamentRepository.findOutstandingMatchesById(tournamentId)).thenReturn(0);
+        when(swissRoundManagerImpl.recordMatchResults(anyList())).thenReturn(tournament);
+        when(swissRoundManagerImpl.isRoundCompleted(tournament)).thenReturn(true);
+        when(swissRoundManagerImpl.advanceRound(tournament)).thenReturn(tournament);
+
+        BatchMatchResultDTO report = tournamentManagerServiceImpl.inputResults(tournamentId, List.of(
+                resultFor(10L, 2, 1),
+                resultFor(11L, 0, 3)));
+
+        assertEquals(2, report.getAcceptedCount());
+        verify(swissRoundManagerImpl, times(1)).recordMatchResults(List.of(first, second));
+        verify(swissRoundManagerImpl, times(1)).isRoundCompleted(tournament);
+        verify(swissRoundManagerImpl, times(1)).advanceRound(tournament);
+        verify(roundAdvancementService, never()).scheduleAdvancement(any(Tournament.class));
+    }
+
+    @Test
+    void inputResults_TournamentNotOngoing_ThrowsRuntimeException() {
+        Long tournamentId = 1L;
+        Tournament tournament = new Tournament();
+        tournament.setId(tournamentId);
+        tournament.setStatus(TournamentStatus.COMPLETED);
+
+        when(tournamentRepository.findById(tournamentId)).thenReturn(Optional.of(tournament));
+
+        RuntimeException exception = assertThrows(RuntimeException.class,
+                () -> tournamentManagerServiceImpl.inputResults(tournamentId, List.of(resultFor(10L, 1, 0))));
+        assertEquals("Results can only be input for an ongoing tournament", exception.getMessage());
+        verifyNoInteractions(matchRepository);
+    }
+
+    private Match scheduledMatch(Long id, Tournament tournament) {
+        return Match.builder()
+                .id(id)
+                .tournament(tournament)
+                .player1(new Player())
+                .player2(new Player())
+                .status(MatchStatus.SCHEDULED)
+                .build();
+    }
+
+    private Match resultFor(Long id, int player1Score, int player2Score) {
+        return Match.builder()
+                .id(id)
+                .player1Score(player1Score)
+                .player2Score(player2Score)
+                .status(MatchStatus.PENDING)
+                .build();
+    }
+
     // Utility method to reset all mocks
     @AfterEach
     void resetMocks() {
-        reset(tournamentRepository, playerRepository, matchRepository, swissRoundManagerImpl, doubleEliminationManagerImpl, hybridManagerImpl, notificationService);
+        reset(tournamentRepository, playerRepository, matchRepository, swissRoundManagerImpl, doubleEliminationManagerImpl, hybridManagerImpl, notificationService, playerStatsService, roundAdvancementService);
     }
 }
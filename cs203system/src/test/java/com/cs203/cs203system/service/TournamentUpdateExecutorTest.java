@@ -0,0 +1,52 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.service.impl.TournamentUpdateExecutor;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TournamentUpdateExecutorTest {
+
+    private final TournamentUpdateExecutor executor = new TournamentUpdateExecutor(TransactionOperations.withoutTransaction());
+
+    @Test
+    void execute_VersionConflict_RetriesUpdate() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = executor.execute(1L, () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new OptimisticLockingFailureException("Tournament changed");
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void execute_ConflictEveryTime_GivesUpAndRethrows() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> executor.execute(1L, () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("Tournament changed");
+        }));
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    void execute_OtherFailure_IsNotRetried() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(RuntimeException.class, () -> executor.execute(1L, () -> {
+            attempts.incrementAndGet();
+            throw new RuntimeException("Match score cannot be negative");
+        }));
+        assertEquals(1, attempts.get());
+    }
+}
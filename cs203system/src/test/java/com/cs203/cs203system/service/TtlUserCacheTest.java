@@ -0,0 +1,144 @@
+package com.cs203.cs203system.service;
+
+import com.cs203.cs203system.enums.UserType;
+import com.cs203.cs203system.model.Player;
+import com.cs203.cs203system.model.User;
+import com.cs203.cs203system.utility.CachedUser;
+import com.cs203.cs203system.utility.TtlUserCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TtlUserCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-10-01T10:00:00Z");
+
+    private MutableClock clock;
+    private TtlUserCache userCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(NOW);
+        userCache = new TtlUserCache(2, Duration.ofSeconds(60), clock);
+    }
+
+    @Test
+    void getUserFromCache_AnyCase_FindsTheCachedUser() {
+        User user = user(1L, "PlayerOne");
+        userCache.putUserInCache(user);
+
+        assertEquals("PlayerOne", userCache.getUserFromCache("playerone").getUsername());
+        assertEquals("PlayerOne", userCache.getUserFromCache("PLAYERONE").getUsername());
+    }
+
+    @Test
+    void putUserInCache_Entity_CachesAnImmutableCopyOfTheCredentials() {
+        User user = user(1L, "PlayerOne");
+        userCache.putUserInCache(user);
+
+        UserDetails cached = userCache.getUserFromCache("PlayerOne");
+        assertFalse(cached instanceof User);
+        assertEquals("encoded", cached.getPassword());
+        assertEquals(List.of("ROLE_PLAYER"), cached.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+
+        // The login response is built from the copy
+        CachedUser copy = assertInstanceOf(CachedUser.class, cached);
+        assertEquals(1L, copy.getId());
+        assertEquals("playerone@example.com", copy.getEmail());
+        assertEquals(UserType.ROLE_PLAYER, copy.getUserType());
+
+        // Later changes to the entity do not leak into the cache
+        user.setPassword("changed");
+        assertEquals("encoded", userCache.getUserFromCache("PlayerOne").getPassword());
+    }
+
+    @Test
+    void getUserFromCache_CredentialsErased_KeepsTheCachedPassword() {
+        userCache.putUserInCache(user(1L, "PlayerOne"));
+
+        // The authentication manager erases the password of the principal it hands back
+        ((CachedUser) userCache.getUserFromCache("PlayerOne")).eraseCredentials();
+
+        assertEquals("encoded", userCache.getUserFromCache("PlayerOne").getPassword());
+    }
+
+    @Test
+    void getUserFromCache_AfterTtl_ReturnsNull() {
+        userCache.putUserInCache(user(1L, "PlayerOne"));
+
+        clock.instant = NOW.plusSeconds(60);
+
+        assertNull(userCache.getUserFromCache("PlayerOne"));
+        assertEquals(0, userCache.size());
+    }
+
+    @Test
+    void removeUser_ByNameOrId_DropsTheUser() {
+        userCache.putUserInCache(user(1L, "PlayerOne"));
+        userCache.putUserInCache(user(2L, "PlayerTwo"));
+
+        userCache.removeUserFromCache("playerone");
+        userCache.removeUserById(2L);
+
+        assertNull(userCache.getUserFromCache("PlayerOne"));
+        assertNull(userCache.getUserFromCache("PlayerTwo"));
+    }
+
+    @Test
+    void putUserInCache_Full_DropsExpiredUsersAndNeverGrowsPastItsSize() {
+        userCache.putUserInCache(user(1L, "PlayerOne"));
+        clock.instant = NOW.plusSeconds(30);
+        userCache.putUserInCache(user(2L, "PlayerTwo"));
+
+        clock.instant = NOW.plusSeconds(60);
+        userCache.putUserInCache(user(3L, "PlayerThree")); // Takes the place of the expired "PlayerOne"
+        userCache.putUserInCache(user(4L, "PlayerFour")); // No room left
+
+        assertEquals(2, userCache.size());
+        assertNotNull(userCache.getUserFromCache("PlayerThree"));
+        assertNull(userCache.getUserFromCache("PlayerFour"));
+    }
+
+    private User user(Long id, String username) {
+        Player player = new Player();
+        player.setId(id);
+        player.setUsername(username);
+        player.setPassword("encoded");
+        player.setEmail(username.toLowerCase() + "@example.com");
+        player.setUserType(UserType.ROLE_PLAYER);
+        return player;
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}